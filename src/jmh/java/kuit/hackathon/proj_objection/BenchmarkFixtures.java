@@ -0,0 +1,79 @@
+package kuit.hackathon.proj_objection;
+
+import kuit.hackathon.proj_objection.entity.BaseEntity;
+import kuit.hackathon.proj_objection.entity.ChatMessage;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.ChatRoomMember;
+import kuit.hackathon.proj_objection.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 엔티티 생성 헬퍼 (ID 등 JPA가 채우는 필드는 리플렉션으로 설정)
+ */
+public final class BenchmarkFixtures {
+
+    public static final Long CHAT_ROOM_ID = 1L;
+
+    private static final String[] PLAINTIFF_LINES = {
+            "저는 주말에 집에서 쉬는 게 맞다고 생각해요. 평일 내내 출근했으니 체력을 회복해야 하잖아요.",
+            "지난달에도 세 번이나 밖에 나갔는데 그때마다 월요일에 너무 피곤했어요.",
+            "쉬는 것도 계획의 일부라고 봐요. 무리해서 나가면 오히려 서로 예민해져요."
+    };
+    private static final String[] DEFENDANT_LINES = {
+            "집에만 있으면 주말이 그냥 사라지는 느낌이에요. 가까운 공원이라도 다녀오면 기분 전환이 돼요.",
+            "피곤했던 건 일정을 너무 빡빡하게 잡아서 그런 거지 외출 자체가 문제는 아니었어요.",
+            "두 시간 정도 산책하고 들어오면 쉬는 시간도 충분히 확보할 수 있어요."
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(Long id, String nickname) {
+        User user = User.create(nickname, "password");
+        setField(User.class, user, "id", id);
+        return user;
+    }
+
+    public static ChatRoom chatRoom(User creator) {
+        ChatRoom chatRoom = ChatRoom.create(creator);
+        setField(ChatRoom.class, chatRoom, "id", CHAT_ROOM_ID);
+        return chatRoom;
+    }
+
+    public static ChatRoomMember participant(ChatRoom chatRoom, User user, int percent) {
+        ChatRoomMember member = ChatRoomMember.create(chatRoom, user, ChatRoomMember.MemberRole.PARTICIPANT);
+        setField(ChatRoomMember.class, member, "percent", percent);
+        return member;
+    }
+
+    /**
+     * 원고/피고가 번갈아 보낸 실제 길이의 메시지 목록 (ID 1부터 오름차순)
+     */
+    public static List<ChatMessage> debate(ChatRoom chatRoom, User plaintiff, User defendant, int size) {
+        List<ChatMessage> messages = new ArrayList<>(size);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 9, 12, 0);
+        for (int i = 0; i < size; i++) {
+            boolean plaintiffTurn = i % 2 == 0;
+            String[] lines = plaintiffTurn ? PLAINTIFF_LINES : DEFENDANT_LINES;
+            ChatMessage message = ChatMessage.create(chatRoom, plaintiffTurn ? plaintiff : defendant,
+                    lines[(i / 2) % lines.length]);
+            setField(ChatMessage.class, message, "id", (long) i + 1);
+            setField(BaseEntity.class, message, "createdAt", base.plusSeconds(i * 15L));
+            messages.add(message);
+        }
+        return List.copyOf(messages);
+    }
+
+    private static void setField(Class<?> type, Object target, String name, Object value) {
+        try {
+            var field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
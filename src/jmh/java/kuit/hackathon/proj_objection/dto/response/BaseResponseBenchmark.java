@@ -0,0 +1,68 @@
+package kuit.hackathon.proj_objection.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kuit.hackathon.proj_objection.config.RedisConfig;
+import kuit.hackathon.proj_objection.dto.common.ChatPollMessageDto;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폴링 응답(BaseResponse<ChatPollResponseDto>) JSON 직렬화 비용
+ * 애플리케이션과 같은 설정의 ObjectMapper(RedisConfig)를 사용한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BaseResponseBenchmark {
+
+    // 응답에 담긴 메시지 수
+    @Param({"0", "20", "200"})
+    private int messages;
+
+    private ObjectMapper objectMapper;
+    private BaseResponse<ChatPollResponseDto> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new RedisConfig().objectMapper();
+
+        List<ChatPollMessageDto> messageDtos = new ArrayList<>(messages);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 9, 12, 0);
+        for (int i = 0; i < messages; i++) {
+            messageDtos.add(new ChatPollMessageDto((long) i + 1, i % 2 == 0 ? "철수" : "영희",
+                    "평일 내내 출근했으니 주말에는 체력을 회복해야 한다고 생각해요. 지난달에도 그랬잖아요.",
+                    base.plusSeconds(i * 15L)));
+        }
+
+        response = new BaseResponse<>(ChatPollResponseDto.builder()
+                .messages(messageDtos)
+                .chatRoomStatus(ChatRoom.RoomStatus.ALIVE)
+                .percent(Map.of("철수", 60, "영희", 40))
+                .build());
+    }
+
+    @Benchmark
+    public byte[] serializePollResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,169 @@
+package kuit.hackathon.proj_objection.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kuit.hackathon.proj_objection.BenchmarkFixtures;
+import kuit.hackathon.proj_objection.client.openai.OpenAiClient;
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.dto.common.AnalysisResult;
+import kuit.hackathon.proj_objection.entity.ChatMessage;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.ChatRoomMember;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
+import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
+import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * AI 프롬프트 구성과 응답 파싱 비용 (실제 길이의 토론 기준)
+ * - transcriptCold: 채팅방 전체 메시지를 "원고: ..." 형식으로 변환 (캐시가 비어있는 첫 분석, 캐시 생성 비용 포함)
+ * - transcriptWarm: 캐시된 대화에 새 메시지가 없는 경우
+ * - contextWithinBudget / contextWithSummary: 토큰 예산 안의 전체 대화 / 저장된 요약 + 최근 대화
+ * - parsePercent / parseDetailed: 응답 캐시 HIT 시의 analyzePercent / analyzeDetailed (참여자 조회 + JSON 파싱)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AiPromptBenchmark {
+
+    private static final String PERCENT_RESPONSE = "{\"score\": 62}";
+
+    private static final String DETAILED_RESPONSE = """
+            ```json
+            {
+                "winner": "원고",
+                "winner_logic_score": 82,
+                "winner_empathy_score": 74,
+                "judgment_comment": "원고는 평일 피로를 근거로 휴식의 필요성을 일관되게 설명했습니다. 피고는 외출의 장점을 제시했지만 지난 경험에 대한 반론이 부족했습니다.\\n따라서 원고 승리!",
+                "winner_reason": "원고는 구체적인 경험을 근거로 들며 주장을 반복 없이 발전시켰습니다.",
+                "loser_reason": "피고는 같은 제안을 반복했고 원고가 제시한 피로 문제에 직접 답하지 않았습니다."
+            }
+            ```
+            """;
+
+    // 채팅방 전체 메시지 수
+    @Param({"50", "500", "2000"})
+    private int messages;
+
+    private ChatRoom chatRoom;
+    private User plaintiff;
+    private ChatMessageRepository chatMessageRepository;
+    private ChatTranscriptCacheService warmTranscript;
+    private DebateContextBuilder withinBudget;
+    private DebateContextBuilder withSummary;
+    private OpenAiChatProcessor openAiChatProcessor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        plaintiff = BenchmarkFixtures.user(1L, "철수");
+        User defendant = BenchmarkFixtures.user(2L, "영희");
+        chatRoom = BenchmarkFixtures.chatRoom(plaintiff);
+        List<ChatMessage> debate = BenchmarkFixtures.debate(chatRoom, plaintiff, defendant, messages);
+        List<ChatRoomMember> members = List.of(
+                BenchmarkFixtures.participant(chatRoom, plaintiff, 60),
+                BenchmarkFixtures.participant(chatRoom, defendant, 40));
+
+        chatMessageRepository = stub(ChatMessageRepository.class);
+        given(chatMessageRepository.findMessagesWithSender(any(), anyLong())).willAnswer(invocation -> {
+            long lastMessageId = invocation.getArgument(1);
+            return debate.stream().filter(message -> message.getId() > lastMessageId).toList();
+        });
+
+        warmTranscript = new ChatTranscriptCacheService(chatMessageRepository, 1000L, 20);
+        warmTranscript.getLines(chatRoom, plaintiff.getId());
+
+        RedisTemplate<String, String> emptyRedis = stub(RedisTemplate.class);
+        HashOperations<String, String, String> emptyHash = stub(HashOperations.class);
+        given(emptyRedis.<String, String>opsForHash()).willReturn(emptyHash);
+        given(emptyHash.entries(anyString())).willReturn(Map.of());
+        withinBudget = new DebateContextBuilder(warmTranscript, stub(OpenAiClient.class), emptyRedis,
+                Integer.MAX_VALUE, 20);
+
+        // 최근 20개를 제외한 이전 대화가 이미 요약되어 있는 상태
+        RedisTemplate<String, String> summaryRedis = stub(RedisTemplate.class);
+        HashOperations<String, String, String> summaryHash = stub(HashOperations.class);
+        given(summaryRedis.<String, String>opsForHash()).willReturn(summaryHash);
+        given(summaryHash.entries(anyString())).willReturn(Map.of(
+                "coveredUpTo", String.valueOf(Math.max(0, messages - 20)),
+                "summary", "원고는 휴식이 필요하다고 주장했고, 피고는 짧은 외출을 제안했다. 양측 모두 감정적 비난은 없었다."
+        ));
+        withSummary = new DebateContextBuilder(warmTranscript, stub(OpenAiClient.class), summaryRedis, 1000, 20);
+
+        ChatRoomRepository chatRoomRepository = stub(ChatRoomRepository.class);
+        ChatRoomMemberRepository chatRoomMemberRepository = stub(ChatRoomMemberRepository.class);
+        DebateContextBuilder debateContextBuilder = stub(DebateContextBuilder.class);
+        AiResponseCacheService aiResponseCacheService = stub(AiResponseCacheService.class);
+        given(chatRoomRepository.findById(anyLong())).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberRepository.findByChatRoom(any())).willReturn(members);
+        given(debateContextBuilder.build(any(), anyLong())).willReturn("원고: 주장\n피고: 반박");
+        given(aiResponseCacheService.get(any())).willAnswer(invocation -> {
+            ChatCompletionRequest request = invocation.getArgument(0);
+            String systemPrompt = request.getMessages().get(0).getContent();
+            return systemPrompt.contains("judgment_comment") ? DETAILED_RESPONSE : PERCENT_RESPONSE;
+        });
+        openAiChatProcessor = new OpenAiChatProcessor(chatRoomRepository, chatRoomMemberRepository,
+                debateContextBuilder, aiResponseCacheService, stub(OpenAiClient.class), new ObjectMapper());
+    }
+
+    @Benchmark
+    public List<TranscriptLine> transcriptCold() {
+        return new ChatTranscriptCacheService(chatMessageRepository, 1000L, 20).getLines(chatRoom, plaintiff.getId());
+    }
+
+    @Benchmark
+    public List<TranscriptLine> transcriptWarm() {
+        return warmTranscript.getLines(chatRoom, plaintiff.getId());
+    }
+
+    @Benchmark
+    public String contextWithinBudget() {
+        return withinBudget.build(chatRoom, plaintiff.getId());
+    }
+
+    @Benchmark
+    public String contextWithSummary() {
+        return withSummary.build(chatRoom, plaintiff.getId());
+    }
+
+    @Benchmark
+    public Map<String, Integer> parsePercent() {
+        return openAiChatProcessor.analyzePercent(BenchmarkFixtures.CHAT_ROOM_ID);
+    }
+
+    @Benchmark
+    public AnalysisResult parseDetailed() {
+        return openAiChatProcessor.analyzeDetailed(BenchmarkFixtures.CHAT_ROOM_ID, comment -> { });
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
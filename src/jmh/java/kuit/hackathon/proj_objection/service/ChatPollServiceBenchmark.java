@@ -0,0 +1,133 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.BenchmarkFixtures;
+import kuit.hackathon.proj_objection.dto.common.ChatPollMessageDto;
+import kuit.hackathon.proj_objection.dto.common.ChatRoomCacheSnapshot;
+import kuit.hackathon.proj_objection.dto.response.ChatPollResponseDto;
+import kuit.hackathon.proj_objection.entity.ChatMessage;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.ChatRoomMember;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
+import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
+import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * ChatPollService.poll 경로별 비용 (캐시 HIT / 최근 메시지 링 HIT / 캐시 MISS / Redis 장애 폴백)
+ * 저장소와 캐시는 stubOnly 목으로 대체하므로 I/O를 제외한 서비스 내부 처리(DTO 변환, 스냅샷 구성) 비용만 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatPollServiceBenchmark {
+
+    // 한 번의 폴링으로 받는 새 메시지 수
+    @Param({"1", "20", "200"})
+    private int newMessages;
+
+    private User plaintiff;
+    private ChatPollService cacheHit;
+    private ChatPollService recentHit;
+    private ChatPollService cacheMiss;
+    private ChatPollService redisFallback;
+
+    @Setup
+    public void setUp() {
+        plaintiff = BenchmarkFixtures.user(1L, "철수");
+        User defendant = BenchmarkFixtures.user(2L, "영희");
+        ChatRoom chatRoom = BenchmarkFixtures.chatRoom(plaintiff);
+        List<ChatMessage> messages = BenchmarkFixtures.debate(chatRoom, plaintiff, defendant, newMessages);
+        List<ChatRoomMember> members = List.of(
+                BenchmarkFixtures.participant(chatRoom, plaintiff, 60),
+                BenchmarkFixtures.participant(chatRoom, defendant, 40));
+        ChatRoomCacheSnapshot snapshot = new ChatRoomCacheSnapshot((long) newMessages, ChatRoom.RoomStatus.ALIVE,
+                null, Map.of("철수", 60, "영희", 40));
+
+        ChatRoomCacheService hitCache = stub(ChatRoomCacheService.class);
+        given(hitCache.getSnapshot(anyLong())).willReturn(snapshot);
+        cacheHit = service(chatRoom, members, messages, hitCache, stub(ChatRecentMessageCacheService.class));
+
+        ChatRecentMessageCacheService recentMessages = stub(ChatRecentMessageCacheService.class);
+        given(recentMessages.findAfter(anyLong(), anyLong(), anyLong())).willReturn(messages.stream()
+                .map(message -> new ChatPollMessageDto(message.getId(), message.getSender().getNickname(),
+                        message.getContent(), message.getCreatedAt()))
+                .toList());
+        recentHit = service(chatRoom, members, messages, hitCache, recentMessages);
+
+        ChatRoomCacheService missCache = stub(ChatRoomCacheService.class);
+        given(missCache.getSnapshot(anyLong())).willReturn(null);
+        cacheMiss = service(chatRoom, members, messages, missCache, stub(ChatRecentMessageCacheService.class));
+
+        ChatRoomCacheService brokenCache = stub(ChatRoomCacheService.class);
+        given(brokenCache.getSnapshot(anyLong())).willThrow(new IllegalStateException("Redis down"));
+        redisFallback = service(chatRoom, members, messages, brokenCache, stub(ChatRecentMessageCacheService.class));
+    }
+
+    @Benchmark
+    public ChatPollResponseDto pollCacheHit() {
+        return cacheHit.poll(BenchmarkFixtures.CHAT_ROOM_ID, 0L, plaintiff);
+    }
+
+    @Benchmark
+    public ChatPollResponseDto pollRecentHit() {
+        return recentHit.poll(BenchmarkFixtures.CHAT_ROOM_ID, 0L, plaintiff);
+    }
+
+    @Benchmark
+    public ChatPollResponseDto pollCacheMiss() {
+        return cacheMiss.poll(BenchmarkFixtures.CHAT_ROOM_ID, 0L, plaintiff);
+    }
+
+    @Benchmark
+    public ChatPollResponseDto pollRedisFallback() {
+        return redisFallback.poll(BenchmarkFixtures.CHAT_ROOM_ID, 0L, plaintiff);
+    }
+
+    private ChatPollService service(ChatRoom chatRoom, List<ChatRoomMember> members, List<ChatMessage> messages,
+                                    ChatRoomCacheService chatRoomCacheService,
+                                    ChatRecentMessageCacheService chatRecentMessageCacheService) {
+        ChatRoomRepository chatRoomRepository = stub(ChatRoomRepository.class);
+        ChatRoomMemberRepository chatRoomMemberRepository = stub(ChatRoomMemberRepository.class);
+        ChatMessageRepository chatMessageRepository = stub(ChatMessageRepository.class);
+        ChatRoomMemberCacheService chatRoomMemberCacheService = stub(ChatRoomMemberCacheService.class);
+
+        given(chatRoomMemberCacheService.getRole(anyLong(), anyLong())).willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
+        given(chatRoomRepository.getReferenceById(anyLong())).willReturn(chatRoom);
+        given(chatRoomRepository.findById(anyLong())).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberRepository.findByChatRoom(any())).willReturn(members);
+        given(chatMessageRepository.findMessagesWithSender(any(), anyLong())).willReturn(messages);
+
+        return new ChatPollService(chatRoomRepository, chatRoomMemberRepository, chatMessageRepository,
+                chatRoomCacheService, chatRoomMemberCacheService, stub(ChatMessageStreamService.class),
+                chatRecentMessageCacheService);
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,78 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.BenchmarkFixtures;
+import kuit.hackathon.proj_objection.dto.common.ChatRoomCacheSnapshot;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * ChatRoomCacheService 스냅샷 직렬화/역직렬화 비용
+ * - L1 HIT: 로컬 캐시 조회만
+ * - L1 MISS: Redis 해시 필드 → ChatRoomCacheSnapshot 변환
+ * - putSnapshot: 스냅샷 → Lua 스크립트 인자 변환 (Redis 호출은 목으로 대체)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatRoomCacheServiceBenchmark {
+
+    private ChatRoomCacheService chatRoomCacheService;
+    private ChatRoomCacheSnapshot snapshot;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class, withSettings().stubOnly());
+        HashOperations<String, String, String> hashOperations = mock(HashOperations.class, withSettings().stubOnly());
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(anyString())).willReturn(Map.of(
+                "lastMessageId", "1284",
+                "status", "REQUEST_FINISH",
+                "finishRequestNickname", "철수",
+                "percent:철수", "62",
+                "percent:영희", "38"
+        ));
+
+        chatRoomCacheService = new ChatRoomCacheService(redisTemplate, 10_000L, 60_000L);
+        snapshot = new ChatRoomCacheSnapshot(1284L, ChatRoom.RoomStatus.REQUEST_FINISH, "철수",
+                Map.of("철수", 62, "영희", 38));
+    }
+
+    @Benchmark
+    public ChatRoomCacheSnapshot getSnapshotNearCacheHit() {
+        return chatRoomCacheService.getSnapshot(BenchmarkFixtures.CHAT_ROOM_ID);
+    }
+
+    @Benchmark
+    public ChatRoomCacheSnapshot getSnapshotFromHash() {
+        chatRoomCacheService.evictLocal(BenchmarkFixtures.CHAT_ROOM_ID);
+        return chatRoomCacheService.getSnapshot(BenchmarkFixtures.CHAT_ROOM_ID);
+    }
+
+    @Benchmark
+    public void putSnapshot() {
+        chatRoomCacheService.putSnapshot(BenchmarkFixtures.CHAT_ROOM_ID, snapshot);
+    }
+}
@@ -0,0 +1,68 @@
+package kuit.hackathon.proj_objection.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간 분포 (0.1ms 단위 버킷, 60초 이상은 마지막 버킷에 합산)
+ * 샘플을 보관하지 않으므로 수백만 건을 기록해도 메모리가 일정하다.
+ */
+class LatencyRecorder {
+
+    private static final long BUCKET_NANOS = 100_000L;
+    private static final int BUCKETS = 600_000;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    void record(long elapsedNanos, boolean success) {
+        int bucket = (int) Math.min(BUCKETS - 1, elapsedNanos / BUCKET_NANOS);
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return 해당 백분위수 응답 시간 (ms)
+     */
+    double percentileMs(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0.0;
+        }
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return (i + 1) * BUCKET_NANOS / 1_000_000.0;
+            }
+        }
+        return BUCKETS * BUCKET_NANOS / 1_000_000.0;
+    }
+
+    String report(double elapsedSeconds) {
+        long total = count.sum();
+        return String.format("%-14s %9d %7d %10.1f %9.1f %9.1f %9.1f",
+                name, total, errors.sum(), total / elapsedSeconds,
+                percentileMs(50), percentileMs(99), percentileMs(99.9));
+    }
+
+    static String header() {
+        return String.format("%-14s %9s %7s %10s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)");
+    }
+}
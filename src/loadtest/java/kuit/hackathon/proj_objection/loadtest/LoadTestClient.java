@@ -0,0 +1,117 @@
+package kuit.hackathon.proj_objection.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 테스트 대상 서버 API 호출 (JDK HttpClient 하나를 모든 가상 사용자가 공유)
+ * 세션 쿠키는 가상 사용자(Session)별로 직접 보관하여 전송한다.
+ */
+class LoadTestClient {
+
+    private static final String SESSION_COOKIE = "JSESSIONID";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+
+    LoadTestClient(String baseUrl, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    static class Session {
+        private volatile String cookie;
+    }
+
+    Session login(String nickname) throws IOException, InterruptedException {
+        Session session = new Session();
+        HttpResponse<String> response = send("login", session, post("/login",
+                Map.of("nickname", nickname, "password", "loadtest")));
+        session.cookie = response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith(SESSION_COOKIE + "="))
+                .map(cookie -> cookie.split(";", 2)[0])
+                .findFirst()
+                .orElseThrow(() -> new IOException("No session cookie for " + nickname));
+        return session;
+    }
+
+    JsonNode createRoom(Session session) throws IOException, InterruptedException {
+        return result(send("room/create", session, post("/chat/room/create", Map.of())));
+    }
+
+    JsonNode join(Session session, String inviteCode) throws IOException, InterruptedException {
+        return result(send("room/join", session, post("/chat/room/join", Map.of("inviteCode", inviteCode))));
+    }
+
+    void sendMessage(Session session, long chatRoomId, String content) throws IOException, InterruptedException {
+        send("message", session, post("/chat/room/" + chatRoomId + "/message", Map.of("content", content)));
+    }
+
+    /**
+     * @return 응답에 포함된 마지막 메시지 ID (새 메시지가 없으면 lastMessageId 그대로)
+     */
+    long poll(Session session, long chatRoomId, long lastMessageId) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                URI.create(baseUrl + "/chat/poll?chatRoomId=" + chatRoomId + "&lastMessageId=" + lastMessageId)).GET();
+        JsonNode messages = result(send("poll", session, request)).path("messages");
+        long last = lastMessageId;
+        for (JsonNode message : messages) {
+            last = Math.max(last, message.path("messageId").asLong());
+        }
+        return last;
+    }
+
+    Map<String, LatencyRecorder> recorders() {
+        return recorders;
+    }
+
+    private HttpRequest.Builder post(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+    }
+
+    private HttpResponse<String> send(String endpoint, Session session, HttpRequest.Builder request)
+            throws IOException, InterruptedException {
+        if (session.cookie != null) {
+            request.header("Cookie", session.cookie);
+        }
+        LatencyRecorder recorder = recorders.computeIfAbsent(endpoint, LatencyRecorder::new);
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request.timeout(requestTimeout).build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.record(System.nanoTime() - start, false);
+            throw e;
+        }
+
+        boolean success = response.statusCode() / 100 == 2;
+        recorder.record(System.nanoTime() - start, success);
+        if (!success) {
+            throw new IOException(endpoint + " failed: " + response.statusCode() + " " + response.body());
+        }
+        return response;
+    }
+
+    private JsonNode result(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body()).path("result");
+    }
+}
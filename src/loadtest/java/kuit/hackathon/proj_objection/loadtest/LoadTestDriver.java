@@ -0,0 +1,191 @@
+package kuit.hackathon.proj_objection.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방/참여자/관전자를 시뮬레이션하는 부하 테스트 드라이버
+ *
+ * 1. 준비: 채팅방마다 원고 로그인 → /chat/room/create, 피고와 관전자 로그인 → /chat/room/join
+ * 2. 실행: 참여자는 message-interval-ms마다(±50% 지터) 메시지를 보내고, 관전자는 poll-interval-ms마다 /chat/poll 호출
+ * 3. 결과: 엔드포인트별 요청 수, 에러 수, 처리량, p50/p99/p99.9 응답 시간
+ *
+ * 가상 사용자마다 가상 스레드 하나를 사용하므로 수천 개 채팅방도 한 프로세스에서 실행할 수 있다.
+ * 서버는 openai-stub 프로필로 띄워 실제 OpenAI를 호출하지 않도록 한다.
+ *
+ * 설정 (시스템 프로퍼티, ./gradlew loadTest -Ploadtest.rooms=1000 형식):
+ * loadtest.base-url, loadtest.rooms, loadtest.observers, loadtest.message-interval-ms,
+ * loadtest.poll-interval-ms, loadtest.duration-sec, loadtest.setup-concurrency, loadtest.request-timeout-ms
+ */
+public class LoadTestDriver {
+
+    private static final String[] MESSAGES = {
+            "평일 내내 출근했으니 주말에는 체력을 회복해야 한다고 생각해요.",
+            "집에만 있으면 주말이 그냥 사라지는 느낌이라 가까운 곳이라도 나가고 싶어요.",
+            "지난달에도 무리해서 나갔다가 월요일에 너무 피곤했잖아요.",
+            "두 시간 정도 산책하고 들어오면 쉬는 시간도 충분히 확보할 수 있어요."
+    };
+
+    private final LoadTestClient client;
+    private final int rooms;
+    private final int observers;
+    private final long messageIntervalMs;
+    private final long pollIntervalMs;
+    private final long durationMs;
+    private final int setupConcurrency;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong failures = new AtomicLong();
+
+    public LoadTestDriver(String baseUrl, int rooms, int observers, long messageIntervalMs, long pollIntervalMs,
+                          long durationMs, int setupConcurrency, long requestTimeoutMs) {
+        this.client = new LoadTestClient(baseUrl, Duration.ofMillis(requestTimeoutMs));
+        this.rooms = rooms;
+        this.observers = observers;
+        this.messageIntervalMs = messageIntervalMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.durationMs = durationMs;
+        this.setupConcurrency = setupConcurrency;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestDriver driver = new LoadTestDriver(
+                System.getProperty("loadtest.base-url", "http://localhost:8080"),
+                Integer.getInteger("loadtest.rooms", 100),
+                Integer.getInteger("loadtest.observers", 5),
+                Long.getLong("loadtest.message-interval-ms", 10_000L),
+                Long.getLong("loadtest.poll-interval-ms", 1_000L),
+                Long.getLong("loadtest.duration-sec", 60L) * 1000,
+                Integer.getInteger("loadtest.setup-concurrency", 50),
+                Long.getLong("loadtest.request-timeout-ms", 10_000L));
+        driver.run();
+    }
+
+    private record Room(long chatRoomId, List<LoadTestClient.Session> participants,
+                        List<LoadTestClient.Session> observers) {
+    }
+
+    public void run() throws Exception {
+        System.out.printf("Setting up %d rooms (%d participants + %d observers each)...%n", rooms, 2, observers);
+        long setupStart = System.nanoTime();
+        List<Room> ready = setUpRooms();
+        double setupSeconds = (System.nanoTime() - setupStart) / 1e9;
+        System.out.printf("%d/%d rooms ready in %.1fs%n", ready.size(), rooms, setupSeconds);
+        printReport("setup", setupSeconds);
+        client.recorders().clear();
+
+        System.out.printf("Running for %ds...%n", durationMs / 1000);
+        long deadline = System.currentTimeMillis() + durationMs;
+        long runStart = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Room room : ready) {
+                for (LoadTestClient.Session participant : room.participants()) {
+                    users.submit(() -> sendLoop(room, participant, deadline));
+                }
+                for (LoadTestClient.Session observer : room.observers()) {
+                    users.submit(() -> pollLoop(room, observer, deadline));
+                }
+            }
+        }
+        printReport("run", (System.nanoTime() - runStart) / 1e9);
+    }
+
+    private List<Room> setUpRooms() throws InterruptedException {
+        Semaphore permits = new Semaphore(setupConcurrency);
+        List<Future<Room>> futures = new ArrayList<>(rooms);
+        try (ExecutorService setup = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < rooms; i++) {
+                int index = i;
+                futures.add(setup.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return setUpRoom(index);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        List<Room> ready = new ArrayList<>(rooms);
+        for (Future<Room> future : futures) {
+            try {
+                ready.add(future.get());
+            } catch (Exception e) {
+                failures.incrementAndGet();
+            }
+        }
+        return ready;
+    }
+
+    private Room setUpRoom(int index) throws Exception {
+        String prefix = "lt" + runId + "-" + index;
+        LoadTestClient.Session plaintiff = client.login(prefix + "-p");
+        JsonNode created = client.createRoom(plaintiff);
+        long chatRoomId = created.path("chatRoomId").asLong();
+
+        LoadTestClient.Session defendant = client.login(prefix + "-d");
+        client.join(defendant, created.path("participantCode").asText());
+
+        List<LoadTestClient.Session> roomObservers = new ArrayList<>(observers);
+        for (int i = 0; i < observers; i++) {
+            LoadTestClient.Session observer = client.login(prefix + "-o" + i);
+            client.join(observer, created.path("observerCode").asText());
+            roomObservers.add(observer);
+        }
+        return new Room(chatRoomId, List.of(plaintiff, defendant), roomObservers);
+    }
+
+    private void sendLoop(Room room, LoadTestClient.Session participant, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // 첫 전송 시점을 흩어 모든 채팅방이 동시에 보내지 않도록 함
+        sleep(random.nextLong(messageIntervalMs + 1));
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                client.sendMessage(participant, room.chatRoomId(), MESSAGES[random.nextInt(MESSAGES.length)]);
+            } catch (Exception e) {
+                failures.incrementAndGet();
+            }
+            sleep(messageIntervalMs / 2 + random.nextLong(messageIntervalMs + 1));
+        }
+    }
+
+    private void pollLoop(Room room, LoadTestClient.Session observer, long deadline) {
+        sleep(ThreadLocalRandom.current().nextLong(pollIntervalMs + 1));
+        long lastMessageId = 0L;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                lastMessageId = client.poll(observer, room.chatRoomId(), lastMessageId);
+            } catch (Exception e) {
+                failures.incrementAndGet();
+            }
+            sleep(pollIntervalMs);
+        }
+    }
+
+    private void printReport(String phase, double elapsedSeconds) {
+        System.out.printf("%n[%s] %.1fs, failures: %d%n", phase, elapsedSeconds, failures.getAndSet(0));
+        System.out.println(LatencyRecorder.header());
+        client.recorders().values().stream()
+                .sorted(Comparator.comparing(LatencyRecorder::count).reversed())
+                .forEach(recorder -> System.out.println(recorder.report(elapsedSeconds)));
+        System.out.println();
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
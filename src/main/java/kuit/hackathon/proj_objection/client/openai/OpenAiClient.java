@@ -3,6 +3,8 @@ package kuit.hackathon.proj_objection.client.openai;
 import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
 import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionResponse;
 
+import java.util.function.Consumer;
+
 public interface OpenAiClient {
 
     /**
@@ -12,6 +14,15 @@ public interface OpenAiClient {
      */
     ChatCompletionResponse chatCompletion(ChatCompletionRequest request);
 
+    /**
+     * Chat Completion 스트리밍 API 호출 (stream: true, SSE)
+     * 응답 조각이 도착할 때마다 onDelta로 전달하고, 완료되면 전체 내용을 반환
+     * @param request 요청 DTO (stream 값은 true로 덮어씀)
+     * @param onDelta 새로 도착한 내용 조각 콜백 (호출 스레드에서 실행)
+     * @return 전체 응답 내용
+     */
+    String chatCompletionStream(ChatCompletionRequest request, Consumer<String> onDelta);
+
     /**
      * 제너릭 POST API 호출 (확장성)
      * @param endpoint API 엔드포인트
@@ -1,24 +1,68 @@
 package kuit.hackathon.proj_objection.client.openai;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionChunk;
 import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
 import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionResponse;
 import kuit.hackathon.proj_objection.exception.OpenAiApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Consumer;
+
 @Slf4j
 @RequiredArgsConstructor
+@Qualifier(ResilientOpenAiClient.DELEGATE)
+@Profile("!openai-stub")
 @Component
 public class OpenAiClientImpl implements OpenAiClient {
 
+    private static final String CHAT_COMPLETIONS_ENDPOINT = "/v1/chat/completions";
+    private static final String SSE_DATA_PREFIX = "data:";
+    private static final String SSE_DONE = "[DONE]";
+    private static final String RETRY_AFTER_MS_HEADER = "retry-after-ms";
+
     private final RestClient restClient;
+    private final ObjectMapper objectMapper;
 
     @Override
     public ChatCompletionResponse chatCompletion(ChatCompletionRequest request) {
-        return post("/v1/chat/completions", request, ChatCompletionResponse.class);
+        return post(CHAT_COMPLETIONS_ENDPOINT, request, ChatCompletionResponse.class);
+    }
+
+    @Override
+    public String chatCompletionStream(ChatCompletionRequest request, Consumer<String> onDelta) {
+        ChatCompletionRequest streamRequest = request.toBuilder().stream(true).build();
+
+        return restClient.post()
+                .uri(CHAT_COMPLETIONS_ENDPOINT)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .body(streamRequest)
+                .exchange((req, res) -> {
+                    HttpStatusCode status = res.getStatusCode();
+                    if (status.is4xxClientError()) {
+                        log.error("OpenAI API 4xx 에러: {} - {} (stream)", status, CHAT_COMPLETIONS_ENDPOINT);
+                        throw new OpenAiApiException(status, "클라이언트 에러", parseRetryAfter(res.getHeaders()));
+                    }
+                    if (status.is5xxServerError()) {
+                        log.error("OpenAI API 5xx 에러: {} - {} (stream)", status, CHAT_COMPLETIONS_ENDPOINT);
+                        throw new OpenAiApiException(status, "서버 에러", parseRetryAfter(res.getHeaders()));
+                    }
+                    return readStream(res.getBody(), onDelta);
+                });
     }
 
     @Override
@@ -29,12 +73,57 @@ public class OpenAiClientImpl implements OpenAiClient {
                 .retrieve()
                 .onStatus(HttpStatusCode::is4xxClientError, (req, res) -> {
                     log.error("OpenAI API 4xx 에러: {} - {}", res.getStatusCode(), endpoint);
-                    throw new OpenAiApiException(res.getStatusCode(), "클라이언트 에러");
+                    throw new OpenAiApiException(res.getStatusCode(), "클라이언트 에러", parseRetryAfter(res.getHeaders()));
                 })
                 .onStatus(HttpStatusCode::is5xxServerError, (req, res) -> {
                     log.error("OpenAI API 5xx 에러: {} - {}", res.getStatusCode(), endpoint);
-                    throw new OpenAiApiException(res.getStatusCode(), "서버 에러");
+                    throw new OpenAiApiException(res.getStatusCode(), "서버 에러", parseRetryAfter(res.getHeaders()));
                 })
                 .body(responseType);
     }
+
+    // OpenAI는 retry-after-ms(밀리초) 또는 Retry-After(초)로 재시도 가능 시점을 알려줌
+    static Duration parseRetryAfter(HttpHeaders headers) {
+        try {
+            String millis = headers.getFirst(RETRY_AFTER_MS_HEADER);
+            if (millis != null) {
+                return Duration.ofMillis((long) Double.parseDouble(millis));
+            }
+            String seconds = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (seconds != null) {
+                return Duration.ofMillis((long) (Double.parseDouble(seconds) * 1000));
+            }
+        } catch (NumberFormatException e) {
+            // HTTP-date 형식 등은 무시하고 기본 백오프 사용
+            log.debug("Unparseable Retry-After header: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    // SSE 응답을 한 줄씩 읽으며 "data: {chunk}"의 내용 조각을 전달하고 "data: [DONE]"에서 종료
+    private String readStream(InputStream body, Consumer<String> onDelta) throws IOException {
+        StringBuilder content = new StringBuilder();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith(SSE_DATA_PREFIX)) {
+                    continue;
+                }
+
+                String data = line.substring(SSE_DATA_PREFIX.length()).trim();
+                if (SSE_DONE.equals(data)) {
+                    break;
+                }
+
+                String delta = objectMapper.readValue(data, ChatCompletionChunk.class).getDeltaContent();
+                if (delta != null && !delta.isEmpty()) {
+                    content.append(delta);
+                    onDelta.accept(delta);
+                }
+            }
+        }
+
+        return content.toString();
+    }
 }
@@ -0,0 +1,168 @@
+package kuit.hackathon.proj_objection.client.openai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kuit.hackathon.proj_objection.client.openai.dto.Usage;
+import kuit.hackathon.proj_objection.exception.OpenAiApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * OpenAI 요청 수(RPM)/토큰 수(TPM) 한도를 넘기 전에 미리 속도를 조절하는 토큰 버킷
+ *
+ * - 호출 전 요청 1건과 추정 토큰(프롬프트 + max_tokens)을 예약하고, 모자라면 채워질 때까지 대기
+ * - 응답의 usage로 실제 사용 토큰과의 차이를 보정하고, 응답을 받지 못한 호출은 예약을 반납
+ * - 버킷 크기는 설정한 노드 기준 한도로 고정하고, x-ratelimit-remaining-* 헤더로 남은 양만 계정 기준으로 낮춤
+ *   (limit 헤더는 계정 전체 한도라 노드 한도로 쓰면 노드 수만큼 초과하고,
+ *   remaining은 계정 전체 잔여량이므로 여러 노드가 있어도 서로의 사용량이 반영됨)
+ * - 버릴 수 있는(sheddable) 요청은 기다리지 않고 즉시 429로 실패시켜 판결 요청에 한도를 양보
+ */
+@Slf4j
+@Component
+public class OpenAiRateLimiter {
+
+    private static final String REMAINING_REQUESTS_HEADER = "x-ratelimit-remaining-requests";
+    private static final String REMAINING_TOKENS_HEADER = "x-ratelimit-remaining-tokens";
+
+    private final Bucket requests;
+    private final Bucket tokens;
+    private final long maxWaitMs;
+    private final Counter shedCounter;
+
+    public OpenAiRateLimiter(MeterRegistry meterRegistry,
+                             @Value("${openai.rate-limit.requests-per-minute:500}") long requestsPerMinute,
+                             @Value("${openai.rate-limit.tokens-per-minute:30000}") long tokensPerMinute,
+                             @Value("${openai.rate-limit.max-wait-ms:10000}") long maxWaitMs) {
+        this.requests = new Bucket(requestsPerMinute);
+        this.tokens = new Bucket(tokensPerMinute);
+        this.maxWaitMs = maxWaitMs;
+        this.shedCounter = Counter.builder("openai.ratelimit.shed")
+                .description("Sheddable OpenAI calls dropped because the rate limit was exhausted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 1건과 토큰을 예약하고, 한도가 찰 때까지 대기
+     *
+     * @param estimatedTokens 추정 토큰 수
+     * @param sheddable       true면 대기가 필요할 때 기다리지 않고 실패
+     * @throws OpenAiApiException 버려지거나 최대 대기 시간을 넘기는 경우 (429)
+     */
+    public void acquire(int estimatedTokens, boolean sheddable) {
+        long waitMs;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            requests.refill(now);
+            tokens.refill(now);
+
+            long cost = Math.min(estimatedTokens, tokens.capacity);
+            waitMs = Math.max(requests.waitMs(1), tokens.waitMs(cost));
+
+            if (waitMs > 0 && sheddable) {
+                shedCounter.increment();
+                throw new OpenAiApiException(HttpStatus.TOO_MANY_REQUESTS, "요청 한도 초과로 생략");
+            }
+            if (waitMs > maxWaitMs) {
+                throw new OpenAiApiException(HttpStatus.TOO_MANY_REQUESTS, "요청 한도 초과");
+            }
+
+            // 먼저 예약해두고 락 밖에서 대기 (뒤이은 요청은 그만큼 더 기다림)
+            requests.available -= 1;
+            tokens.available -= cost;
+        }
+
+        if (waitMs > 0) {
+            log.debug("OpenAI rate limit reached, waiting {}ms", waitMs);
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OpenAiApiException("요청 한도 대기 중 인터럽트");
+            }
+        }
+    }
+
+    /**
+     * 실제 사용량으로 예약한 토큰 수를 보정
+     */
+    public synchronized void recordUsage(int estimatedTokens, Usage usage) {
+        if (usage == null || usage.getTotalTokens() == null) {
+            return;
+        }
+        tokens.available += Math.min(estimatedTokens, tokens.capacity) - usage.getTotalTokens();
+    }
+
+    /**
+     * acquire로 예약한 요청 1건과 토큰을 반납 (OpenAI가 처리하지 않은 호출)
+     */
+    public synchronized void release(int estimatedTokens) {
+        long now = System.currentTimeMillis();
+        requests.refill(now);
+        tokens.refill(now);
+        requests.restore(1);
+        tokens.restore(Math.min(estimatedTokens, tokens.capacity));
+    }
+
+    /**
+     * OpenAI 응답 헤더의 계정 잔여량 반영
+     */
+    public synchronized void onResponseHeaders(HttpHeaders headers) {
+        long now = System.currentTimeMillis();
+        requests.sync(now, parse(headers, REMAINING_REQUESTS_HEADER));
+        tokens.sync(now, parse(headers, REMAINING_TOKENS_HEADER));
+    }
+
+    private Long parse(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 분당 한도만큼 연속적으로 채워지는 버킷, 예약으로 인해 음수가 될 수 있음
+    private static class Bucket {
+
+        private final long capacity;
+        private double available;
+        private long refilledAt;
+
+        private Bucket(long perMinute) {
+            this.capacity = perMinute;
+            this.available = perMinute;
+            this.refilledAt = System.currentTimeMillis();
+        }
+
+        private double perMs() {
+            return capacity / 60_000.0;
+        }
+
+        private void refill(long now) {
+            available = Math.min(capacity, available + (now - refilledAt) * perMs());
+            refilledAt = now;
+        }
+
+        private long waitMs(long cost) {
+            double missing = cost - available;
+            return missing <= 0 ? 0 : (long) Math.ceil(missing / perMs());
+        }
+
+        private void restore(long amount) {
+            available = Math.min(capacity, available + amount);
+        }
+
+        private void sync(long now, Long remaining) {
+            refill(now);
+            if (remaining != null) {
+                available = Math.min(available, remaining);
+            }
+        }
+    }
+}
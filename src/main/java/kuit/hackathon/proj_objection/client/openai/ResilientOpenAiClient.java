@@ -0,0 +1,296 @@
+package kuit.hackathon.proj_objection.client.openai;
+
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionResponse;
+import kuit.hackathon.proj_objection.client.openai.dto.Usage;
+import kuit.hackathon.proj_objection.exception.OpenAiApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * OpenAiClientImpl에 장애 대응을 덧씌운 데코레이터 (@Primary, OpenAiClient 주입 시 이 구현이 사용됨)
+ * 감싸는 대상은 DELEGATE 한정자가 붙은 빈이며, openai-stub 프로필에서는 OpenAiClientImpl 대신 StubOpenAiClient를 감싼다.
+ * (부하 테스트에서도 재시도/서킷/요청 한도가 실제와 같이 동작)
+ *
+ * - 벌크헤드: 노드당 동시 호출 수를 제한하고, 자리가 나지 않으면 일정 시간 대기 후 503으로 실패
+ * - 요청 한도: 논리 호출마다 한 번 OpenAiRateLimiter로 RPM/TPM을 예약하고(재시도는 같은 예약을 사용),
+ *   응답 usage(스트리밍은 받은 본문의 추정치)로 보정하며, 끝내 응답을 받지 못하면 예약을 반납
+ * - 서킷 브레이커: 연속 실패가 임계치를 넘으면 일정 시간 호출 없이 즉시 실패, 이후 한 건만 시험 호출(HALF_OPEN)
+ *   상태가 바뀔 때마다 세대(generation)를 올리고, 이전 세대에 시작한 호출의 결과는 서킷에 반영하지 않음
+ *   스트리밍 콜백(onDelta)에서 난 예외는 OpenAI 응답과 무관하므로 성공/실패 어느 쪽으로도 세지 않음
+ * - 재시도: 408/409/429/5xx 및 네트워크 에러를 지수 백오프(full jitter)로 재시도하며, Retry-After가 있으면 그만큼 대기
+ *   스트리밍은 이미 조각이 전달된 뒤에는 중복 전달을 막기 위해 재시도하지 않음
+ */
+@Slf4j
+@Primary
+@Component
+public class ResilientOpenAiClient implements OpenAiClient {
+
+    // 실제 호출을 담당하는 구현(OpenAiClientImpl 또는 StubOpenAiClient)의 한정자
+    static final String DELEGATE = "openAiDelegate";
+
+    private enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    private final OpenAiClient delegate;
+    private final OpenAiRateLimiter rateLimiter;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final Semaphore bulkhead;
+    private final long bulkheadWaitMs;
+
+    // 서킷 상태는 circuitLock으로 보호
+    private final Object circuitLock = new Object();
+    private CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+    private long generation;
+
+    public ResilientOpenAiClient(@Qualifier(DELEGATE) OpenAiClient delegate,
+                                 OpenAiRateLimiter rateLimiter,
+                                 @Value("${openai.resilience.max-attempts:3}") int maxAttempts,
+                                 @Value("${openai.resilience.initial-backoff-ms:500}") long initialBackoffMs,
+                                 @Value("${openai.resilience.max-backoff-ms:8000}") long maxBackoffMs,
+                                 @Value("${openai.resilience.failure-threshold:5}") int failureThreshold,
+                                 @Value("${openai.resilience.open-duration-ms:30000}") long openDurationMs,
+                                 @Value("${openai.resilience.max-concurrent-calls:8}") int maxConcurrentCalls,
+                                 @Value("${openai.resilience.bulkhead-wait-ms:2000}") long bulkheadWaitMs) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.bulkhead = new Semaphore(maxConcurrentCalls, true);
+        this.bulkheadWaitMs = bulkheadWaitMs;
+    }
+
+    @Override
+    public ChatCompletionResponse chatCompletion(ChatCompletionRequest request) {
+        int estimatedTokens = TokenEstimator.estimate(request);
+        return execute("chatCompletion", estimatedTokens, request.isSheddable(), () -> {
+            ChatCompletionResponse response = delegate.chatCompletion(request);
+            rateLimiter.recordUsage(estimatedTokens, response.getUsage());
+            return response;
+        }, () -> true);
+    }
+
+    @Override
+    public String chatCompletionStream(ChatCompletionRequest request, Consumer<String> onDelta) {
+        AtomicBoolean delivered = new AtomicBoolean(false);
+        Consumer<String> tracking = delta -> {
+            delivered.set(true);
+            try {
+                onDelta.accept(delta);
+            } catch (RuntimeException e) {
+                throw new CallbackException(e);
+            }
+        };
+        int estimatedTokens = TokenEstimator.estimate(request);
+        return execute("chatCompletionStream", estimatedTokens, request.isSheddable(), () -> {
+            String content = delegate.chatCompletionStream(request, tracking);
+            rateLimiter.recordUsage(estimatedTokens, streamUsage(request, estimatedTokens, content));
+            return content;
+        }, () -> !delivered.get());
+    }
+
+    // 스트리밍 응답에는 usage가 없으므로 프롬프트 추정치와 받은 본문의 추정치로 대신함
+    private Usage streamUsage(ChatCompletionRequest request, int estimatedTokens, String content) {
+        int promptTokens = estimatedTokens - (request.getMaxTokens() != null ? request.getMaxTokens() : 0);
+        int completionTokens = content != null ? TokenEstimator.estimate(content) : 0;
+        return new Usage(promptTokens, completionTokens, promptTokens + completionTokens);
+    }
+
+    @Override
+    public <T> T post(String endpoint, Object request, Class<T> responseType) {
+        int estimatedTokens = request instanceof ChatCompletionRequest chatRequest ? TokenEstimator.estimate(chatRequest) : 0;
+        return execute(endpoint, estimatedTokens, false, () -> delegate.post(endpoint, request, responseType), () -> true);
+    }
+
+    private <T> T execute(String operation, int estimatedTokens, boolean sheddable,
+                          Supplier<T> call, BooleanSupplier retryAllowed) {
+        acquireBulkhead(operation);
+        try {
+            rateLimiter.acquire(estimatedTokens, sheddable);
+            // OpenAI가 응답을 돌려줬는지 (응답 없이 끝나면 예약한 한도를 반납)
+            boolean responded = false;
+            try {
+                for (int attempt = 1; ; attempt++) {
+                    long permitGeneration = acquirePermission(operation);
+                    try {
+                        T result = call.get();
+                        onSuccess(permitGeneration);
+                        return result;
+                    } catch (CallbackException e) {
+                        // 호출 측 콜백 오류: 서킷 판단에 쓰지 않고 시험 호출 자리만 반납
+                        responded = true;
+                        releaseTrial(permitGeneration);
+                        throw e.getCause();
+                    } catch (OpenAiApiException e) {
+                        if (!e.isRetryable()) {
+                            // 400/401 등은 요청 문제이므로 OpenAI는 정상 응답한 것으로 봄
+                            onSuccess(permitGeneration);
+                            throw e;
+                        }
+                        onFailure(operation, permitGeneration);
+                        if (attempt >= maxAttempts || !retryAllowed.getAsBoolean()) {
+                            throw e;
+                        }
+                        backoff(operation, attempt, e.getRetryAfter(), e);
+                    } catch (ResourceAccessException e) {
+                        // 연결 실패, 읽기 타임아웃 등 네트워크 에러
+                        onFailure(operation, permitGeneration);
+                        if (attempt >= maxAttempts || !retryAllowed.getAsBoolean()) {
+                            throw e;
+                        }
+                        backoff(operation, attempt, null, e);
+                    } catch (RuntimeException e) {
+                        // 응답 파싱 실패 등은 OpenAI가 응답한 것이므로 서킷 실패로 세지 않음
+                        responded = true;
+                        onSuccess(permitGeneration);
+                        throw e;
+                    }
+                }
+            } catch (RuntimeException e) {
+                // 서킷 차단, 재시도 소진, 400 등 거절된 호출은 토큰을 쓰지 않았으므로 예약 반납
+                // (스트리밍 조각이 이미 전달됐다면 토큰을 쓴 것이므로 반납하지 않음)
+                if (!responded && retryAllowed.getAsBoolean()) {
+                    rateLimiter.release(estimatedTokens);
+                }
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void acquireBulkhead(String operation) {
+        try {
+            if (!bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS)) {
+                log.warn("OpenAI bulkhead full, rejecting {}", operation);
+                throw new OpenAiApiException(HttpStatus.SERVICE_UNAVAILABLE, "동시 호출 한도 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenAiApiException("호출 대기 중 인터럽트");
+        }
+    }
+
+    // 호출 허용 시 현재 서킷 세대를 반환 (결과 반영 시 같은 세대인지 확인)
+    private long acquirePermission(String operation) {
+        synchronized (circuitLock) {
+            if (circuitState == CircuitState.CLOSED) {
+                return generation;
+            }
+            if (circuitState == CircuitState.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+                transitionTo(CircuitState.HALF_OPEN);
+                log.info("OpenAI circuit half-open, allowing a trial call");
+            }
+            if (circuitState == CircuitState.HALF_OPEN && !trialInFlight) {
+                trialInFlight = true;
+                return generation;
+            }
+        }
+        log.warn("OpenAI circuit open, failing fast: {}", operation);
+        throw new OpenAiApiException(HttpStatus.SERVICE_UNAVAILABLE, "OpenAI 장애로 호출 일시 차단");
+    }
+
+    private void onSuccess(long permitGeneration) {
+        synchronized (circuitLock) {
+            // 서킷 상태가 바뀌기 전에 시작한 호출은 무시 (열린 뒤 늦게 끝난 호출이 서킷을 닫지 않도록)
+            if (permitGeneration != generation) {
+                return;
+            }
+            if (circuitState != CircuitState.CLOSED) {
+                transitionTo(CircuitState.CLOSED);
+                log.info("OpenAI circuit closed");
+            }
+            consecutiveFailures = 0;
+        }
+    }
+
+    private void onFailure(String operation, long permitGeneration) {
+        synchronized (circuitLock) {
+            if (permitGeneration != generation) {
+                return;
+            }
+            consecutiveFailures++;
+            if (circuitState == CircuitState.HALF_OPEN
+                    || (circuitState == CircuitState.CLOSED && consecutiveFailures >= failureThreshold)) {
+                transitionTo(CircuitState.OPEN);
+                openedAt = System.currentTimeMillis();
+                log.warn("OpenAI circuit opened after {} consecutive failures ({})", consecutiveFailures, operation);
+            }
+        }
+    }
+
+    private void releaseTrial(long permitGeneration) {
+        synchronized (circuitLock) {
+            if (permitGeneration == generation && circuitState == CircuitState.HALF_OPEN) {
+                trialInFlight = false;
+            }
+        }
+    }
+
+    // circuitLock 안에서만 호출
+    private void transitionTo(CircuitState state) {
+        circuitState = state;
+        trialInFlight = false;
+        generation++;
+    }
+
+    private void backoff(String operation, int attempt, Duration retryAfter, RuntimeException cause) {
+        long cap = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        long delayMs = ThreadLocalRandom.current().nextLong(cap + 1);
+
+        if (retryAfter != null) {
+            // Retry-After가 최대 대기 시간보다 길면 스레드를 붙잡지 않고 실패 처리
+            if (retryAfter.toMillis() > maxBackoffMs) {
+                throw cause;
+            }
+            delayMs = Math.max(delayMs, retryAfter.toMillis());
+        }
+
+        log.warn("OpenAI call failed ({}), retrying {} in {}ms (attempt {}/{})",
+                cause.getMessage(), operation, delayMs, attempt + 1, maxAttempts);
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    /**
+     * 스트리밍 콜백(onDelta)에서 발생한 예외를 OpenAI 호출 실패와 구분하기 위한 래퍼
+     */
+    private static class CallbackException extends RuntimeException {
+
+        private CallbackException(RuntimeException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package kuit.hackathon.proj_objection.client.openai;
+
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionResponse;
+import kuit.hackathon.proj_objection.client.openai.dto.Choice;
+import kuit.hackathon.proj_objection.client.openai.dto.Message;
+import kuit.hackathon.proj_objection.client.openai.dto.Usage;
+import kuit.hackathon.proj_objection.exception.OpenAiApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 부하 테스트용 OpenAI 대역 (openai-stub 프로필에서 OpenAiClientImpl 대신 ResilientOpenAiClient가 감싸는 대상, 실제 API를 호출하지 않음)
+ *
+ * - 응답: 시스템 프롬프트로 요청 종류(승률/정밀 분석/요약)를 구분하여 스키마에 맞는 JSON을 생성하고,
+ *   openai.stub.replay-dir가 있으면 그 안의 녹화 응답(percent-*.json, detailed-*.json, summary-*.txt)을 이름 순서대로 돌려가며 사용
+ * - 지연: 중앙값(latency-median-ms)과 p99(latency-p99-ms)로 정한 로그정규 분포, 스트리밍은 조각으로 나눠 전달
+ * - 에러: error-rate 비율만큼 429 또는 503으로 실패 (ResilientOpenAiClient의 재시도/서킷이 그대로 처리)
+ * - seed를 고정하면 같은 순서의 지연/에러/점수가 재현됨 (동시 호출 시 스레드 간 순서는 보장하지 않음)
+ */
+@Slf4j
+@Qualifier(ResilientOpenAiClient.DELEGATE)
+@Profile("openai-stub")
+@Component
+public class StubOpenAiClient implements OpenAiClient {
+
+    private enum Kind { PERCENT, DETAILED, SUMMARY }
+
+    // 99번째 백분위수의 표준정규 z 값
+    private static final double Z_99 = 2.326;
+    private static final int STREAM_CHUNKS = 10;
+
+    private final long latencyMedianMs;
+    private final double latencySigma;
+    private final double errorRate;
+    private final Random random;
+    private final Map<Kind, List<String>> recorded = new EnumMap<>(Kind.class);
+    private final Map<Kind, AtomicLong> replayCursors = new EnumMap<>(Kind.class);
+
+    public StubOpenAiClient(@Value("${openai.stub.latency-median-ms:800}") long latencyMedianMs,
+                            @Value("${openai.stub.latency-p99-ms:3000}") long latencyP99Ms,
+                            @Value("${openai.stub.error-rate:0.0}") double errorRate,
+                            @Value("${openai.stub.seed:42}") long seed,
+                            @Value("${openai.stub.replay-dir:}") String replayDir) {
+        this.latencyMedianMs = latencyMedianMs;
+        this.latencySigma = latencyMedianMs > 0 && latencyP99Ms > latencyMedianMs
+                ? Math.log((double) latencyP99Ms / latencyMedianMs) / Z_99
+                : 0.0;
+        this.errorRate = errorRate;
+        this.random = new Random(seed);
+
+        for (Kind kind : Kind.values()) {
+            recorded.put(kind, replayDir.isBlank() ? List.of() : loadRecorded(Path.of(replayDir), kind));
+            replayCursors.put(kind, new AtomicLong());
+        }
+        log.info("OpenAI stub enabled (median {}ms, p99 {}ms, error rate {}, replay {})",
+                latencyMedianMs, latencyP99Ms, errorRate, replayDir.isBlank() ? "off" : replayDir);
+    }
+
+    @Override
+    public ChatCompletionResponse chatCompletion(ChatCompletionRequest request) {
+        sleep(sampleLatencyMs());
+        failRandomly();
+
+        String content = respond(request);
+        Usage usage = new Usage(TokenEstimator.estimate(request), TokenEstimator.estimate(content),
+                TokenEstimator.estimate(request) + TokenEstimator.estimate(content));
+        return new ChatCompletionResponse("stub-" + System.nanoTime(), "chat.completion",
+                System.currentTimeMillis() / 1000, request.getModel(),
+                List.of(new Choice(0, Message.assistant(content), "stop")), usage);
+    }
+
+    @Override
+    public String chatCompletionStream(ChatCompletionRequest request, Consumer<String> onDelta) {
+        long latencyMs = sampleLatencyMs();
+        failRandomly();
+
+        String content = respond(request);
+        int chunkSize = Math.max(1, (content.length() + STREAM_CHUNKS - 1) / STREAM_CHUNKS);
+        for (int start = 0; start < content.length(); start += chunkSize) {
+            sleep(latencyMs / STREAM_CHUNKS);
+            onDelta.accept(content.substring(start, Math.min(content.length(), start + chunkSize)));
+        }
+        return content;
+    }
+
+    @Override
+    public <T> T post(String endpoint, Object request, Class<T> responseType) {
+        if (request instanceof ChatCompletionRequest chatRequest && responseType.isAssignableFrom(ChatCompletionResponse.class)) {
+            return responseType.cast(chatCompletion(chatRequest));
+        }
+        throw new OpenAiApiException("stub에서 지원하지 않는 요청: " + endpoint);
+    }
+
+    private String respond(ChatCompletionRequest request) {
+        Kind kind = classify(request);
+        List<String> responses = recorded.get(kind);
+        if (!responses.isEmpty()) {
+            long index = replayCursors.get(kind).getAndIncrement();
+            return responses.get((int) (index % responses.size()));
+        }
+        return generate(kind);
+    }
+
+    private Kind classify(ChatCompletionRequest request) {
+        String systemPrompt = request.getMessages().stream()
+                .filter(message -> "system".equals(message.getRole()))
+                .map(Message::getContent)
+                .findFirst()
+                .orElse("");
+        if (systemPrompt.contains("judgment_comment")) {
+            return Kind.DETAILED;
+        }
+        if (systemPrompt.contains("\"score\"")) {
+            return Kind.PERCENT;
+        }
+        return Kind.SUMMARY;
+    }
+
+    private String generate(Kind kind) {
+        return switch (kind) {
+            case PERCENT -> "{\"score\": " + nextInt(101) + "}";
+            case DETAILED -> {
+                String winner = nextInt(2) == 0 ? "원고" : "피고";
+                String loser = "원고".equals(winner) ? "피고" : "원고";
+                yield """
+                        {
+                            "winner": "%s",
+                            "winner_logic_score": %d,
+                            "winner_empathy_score": %d,
+                            "judgment_comment": "양측 모두 자신의 입장을 성실히 설명했습니다. %s는 근거를 구체적으로 제시했습니다.\\n따라서 %s 승리!",
+                            "winner_reason": "%s는 주장마다 근거를 함께 제시했습니다.",
+                            "loser_reason": "%s는 같은 주장을 반복했습니다."
+                        }
+                        """.formatted(winner, 50 + nextInt(51), 50 + nextInt(51), winner, winner, winner, loser);
+            }
+            case SUMMARY -> "원고와 피고는 각자의 주장을 근거와 함께 제시했으며, 감정적인 비난은 없었습니다.";
+        };
+    }
+
+    private List<String> loadRecorded(Path dir, Kind kind) {
+        String prefix = kind.name().toLowerCase() + "-";
+        try (Stream<Path> files = Files.list(dir)) {
+            List<String> responses = new ArrayList<>();
+            for (Path file : files.filter(f -> f.getFileName().toString().startsWith(prefix)).sorted().toList()) {
+                responses.add(Files.readString(file, StandardCharsets.UTF_8));
+            }
+            return List.copyOf(responses);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load recorded OpenAI responses from " + dir, e);
+        }
+    }
+
+    private void failRandomly() {
+        if (errorRate <= 0 || nextDouble() >= errorRate) {
+            return;
+        }
+        if (nextInt(2) == 0) {
+            throw new OpenAiApiException(HttpStatus.TOO_MANY_REQUESTS, "클라이언트 에러 (stub)");
+        }
+        throw new OpenAiApiException(HttpStatus.SERVICE_UNAVAILABLE, "서버 에러 (stub)");
+    }
+
+    private long sampleLatencyMs() {
+        if (latencyMedianMs <= 0) {
+            return 0;
+        }
+        return Math.round(latencyMedianMs * Math.exp(latencySigma * nextGaussian()));
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenAiApiException("stub 응답 대기 중 인터럽트");
+        }
+    }
+
+    // seed 재현성을 위해 하나의 Random을 공유
+    private synchronized int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    private synchronized double nextDouble() {
+        return random.nextDouble();
+    }
+
+    private synchronized double nextGaussian() {
+        return random.nextGaussian();
+    }
+}
@@ -0,0 +1,43 @@
+package kuit.hackathon.proj_objection.client.openai;
+
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.client.openai.dto.Message;
+
+/**
+ * 로컬 토큰 수 추정 (gpt-4o 토크나이저 기준 보수적 근사)
+ * ASCII는 약 4자당 1토큰, 한글 등 그 외 문자는 1자당 1토큰으로 계산한다.
+ */
+public final class TokenEstimator {
+
+    // 메시지마다 role 등 형식 토큰이 붙음
+    private static final int TOKENS_PER_MESSAGE = 4;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        int ascii = 0;
+        int others = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                others++;
+            }
+        }
+        return (ascii + 3) / 4 + others;
+    }
+
+    /**
+     * 요청 한 건이 소모할 최대 토큰 수 (프롬프트 추정치 + max_tokens)
+     */
+    public static int estimate(ChatCompletionRequest request) {
+        int tokens = request.getMaxTokens() != null ? request.getMaxTokens() : 0;
+        if (request.getMessages() != null) {
+            for (Message message : request.getMessages()) {
+                tokens += TOKENS_PER_MESSAGE + (message.getContent() != null ? estimate(message.getContent()) : 0);
+            }
+        }
+        return tokens;
+    }
+}
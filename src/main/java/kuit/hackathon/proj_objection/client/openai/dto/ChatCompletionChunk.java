@@ -0,0 +1,36 @@
+package kuit.hackathon.proj_objection.client.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "OpenAI Chat Completion 스트리밍 응답 조각 (stream: true)")
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatCompletionChunk {
+
+    @Schema(description = "응답 ID")
+    private String id;
+
+    @Schema(description = "선택지 목록")
+    private List<ChunkChoice> choices;
+
+    /**
+     * 첫 번째 선택지에 새로 추가된 내용을 반환합니다.
+     * @return 추가된 내용, 없으면 null
+     */
+    public String getDeltaContent() {
+        if (choices == null || choices.isEmpty()) {
+            return null;
+        }
+        Message delta = choices.get(0).getDelta();
+        return delta != null ? delta.getContent() : null;
+    }
+}
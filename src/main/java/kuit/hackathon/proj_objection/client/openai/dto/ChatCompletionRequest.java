@@ -1,5 +1,7 @@
 package kuit.hackathon.proj_objection.client.openai.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
@@ -12,7 +14,7 @@ import java.util.List;
 
 @Schema(description = "OpenAI Chat Completion 요청")
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatCompletionRequest {
@@ -30,6 +32,15 @@ public class ChatCompletionRequest {
     @JsonProperty("max_tokens")
     private Integer maxTokens;
 
+    @Schema(description = "스트리밍 여부 (true면 SSE로 응답 조각 전송)", example = "true")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stream;
+
+    // 요청 한도가 부족할 때 기다리지 않고 버려도 되는 요청 여부 (OpenAI로 전송되지 않음)
+    @Schema(hidden = true)
+    @JsonIgnore
+    private boolean sheddable;
+
     public static ChatCompletionRequest of(String model, String userMessage) {
         return ChatCompletionRequest.builder()
                 .model(model)
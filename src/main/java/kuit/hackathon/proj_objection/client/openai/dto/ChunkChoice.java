@@ -0,0 +1,27 @@
+package kuit.hackathon.proj_objection.client.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Chat Completion 스트리밍 선택지")
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChunkChoice {
+
+    @Schema(description = "인덱스")
+    private Integer index;
+
+    @Schema(description = "추가된 메시지 조각")
+    private Message delta;
+
+    @Schema(description = "종료 이유")
+    @JsonProperty("finish_reason")
+    private String finishReason;
+}
@@ -1,5 +1,6 @@
 package kuit.hackathon.proj_objection.client.openai.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Schema(description = "Chat 메시지")
+@JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
 @Builder
 @AllArgsConstructor
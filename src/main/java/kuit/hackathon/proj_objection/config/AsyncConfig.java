@@ -1,7 +1,12 @@
 package kuit.hackathon.proj_objection.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -9,28 +14,102 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * AI 작업 스레드 풀 설정
+ * - aiJudgmentExecutor: 최종 판결문 생성 전용 (큐 무제한, 종료 중에만 거절)
+ * - aiAnalysisExecutor: 실시간 승률 분석 전용 (큐가 가득 차면 가장 오래된 작업부터 버림)
+ * 두 풀을 분리하여 승률 분석이 몰려도 판결문 생성이 그 뒤에 밀리지 않도록 함
+ *
+ * ai.executor.mode=VIRTUAL이면 두 AI 풀을 가상 스레드 + 세마포어 동시 실행 제한으로 대체하여
+ * OpenAI 응답을 기다리는 동안 플랫폼 스레드를 점유하지 않음
+ */
 @Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    private static final String QUEUE_SIZE_METRIC = "ai.executor.queue.size";
+    private static final String ACTIVE_METRIC = "ai.executor.active";
+    private static final String QUEUE_WAIT_METRIC = "ai.executor.queue.wait";
+    private static final String SHED_METRIC = "ai.executor.shed";
+    private static final String POLL_REJECTED_METRIC = "chat.poll.executor.rejected";
+
+    private final MeterRegistry meterRegistry;
+    private final ExecutorMode mode;
+    private final int judgmentMaxConcurrency;
+    private final int percentMaxConcurrency;
+
+    public AsyncConfig(MeterRegistry meterRegistry,
+                       @Value("${ai.executor.mode:PLATFORM}") ExecutorMode mode,
+                       @Value("${ai.executor.judgment-max-concurrency:2}") int judgmentMaxConcurrency,
+                       @Value("${ai.executor.percent-max-concurrency:6}") int percentMaxConcurrency) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        this.judgmentMaxConcurrency = judgmentMaxConcurrency;
+        this.percentMaxConcurrency = percentMaxConcurrency;
+    }
+
+    public enum ExecutorMode {
+        PLATFORM, VIRTUAL
+    }
+
+    @Bean(name = "aiJudgmentExecutor")
+    public Executor aiJudgmentExecutor() {
+        if (mode == ExecutorMode.VIRTUAL) {
+            return virtualThreadExecutor("AI-Judgment-", judgmentMaxConcurrency, "judgment");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        // 큐 용량 기본값(무제한) 사용: 판결문 요청은 채팅방당 한 번뿐이므로 거절하지 않고 모두 처리
+        executor.setThreadNamePrefix("AI-Judgment-");
+        // 종료 중에는 작업이 거절됨 (CallerRunsPolicy도 종료 중에는 작업을 조용히 버림)
+        // 거절을 예외로 알려 호출 측(ChatRoomService)이 해당 채팅방의 판결 요청을 재시도 가능 상태로 되돌리도록 함
+        executor.setRejectedExecutionHandler(rejectPolicy("AI judgment",
+                Counter.builder(SHED_METRIC).tag("lane", "judgment").register(meterRegistry)));
+        return initialize(executor, "judgment");
+    }
+
     @Bean(name = "aiAnalysisExecutor")
     public Executor aiAnalysisExecutor() {
+        // 가상 스레드 모드에서는 permit 대기 작업이 큐 역할을 하며, 채팅방당 하나로 병합되므로 버리지 않음
+        if (mode == ExecutorMode.VIRTUAL) {
+            return virtualThreadExecutor("AI-Analysis-", percentMaxConcurrency, "percent");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(50);
         executor.setThreadNamePrefix("AI-Analysis-");
-        executor.setRejectedExecutionHandler((r, e) ->
-            log.warn("AI analysis task rejected due to thread pool saturation"));
+        executor.setRejectedExecutionHandler(shedOldestPolicy(
+                Counter.builder(SHED_METRIC).tag("lane", "percent").register(meterRegistry)));
+        return initialize(executor, "percent");
+    }
+
+    @Bean(name = "chatPollExecutor")
+    public Executor chatPollExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("Chat-Poll-");
+        // 포화/종료 시 거절을 예외로 알려 호출 측(ChatLongPollService)이 대기 전 폴링 결과로 즉시 응답하도록 함
+        executor.setRejectedExecutionHandler(rejectPolicy("Chat poll",
+                Counter.builder(POLL_REJECTED_METRIC).register(meterRegistry)));
         executor.initialize();
         return executor;
     }
 
     @Override
     public Executor getAsyncExecutor() {
-        return aiAnalysisExecutor();
+        return aiJudgmentExecutor();
     }
 
     @Override
@@ -38,4 +117,107 @@ public class AsyncConfig implements AsyncConfigurer {
         return (ex, method, params) ->
             log.error("Async exception in method {}: {}", method.getName(), ex.getMessage(), ex);
     }
+
+    // 큐 대기 시간 측정 후 초기화하고, 큐 길이/실행 중 스레드 수를 게이지로 노출
+    private ThreadPoolTaskExecutor initialize(ThreadPoolTaskExecutor executor, String lane) {
+        Timer queueWait = queueWaitTimer(lane);
+        executor.setTaskDecorator(task -> new TimedTask(task, queueWait));
+        executor.initialize();
+
+        Gauge.builder(QUEUE_SIZE_METRIC, executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("lane", lane)
+                .register(meterRegistry);
+        Gauge.builder(ACTIVE_METRIC, executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("lane", lane)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    private LimitedVirtualThreadExecutor virtualThreadExecutor(String threadNamePrefix, int maxConcurrency, String lane) {
+        LimitedVirtualThreadExecutor executor =
+                new LimitedVirtualThreadExecutor(threadNamePrefix, maxConcurrency, queueWaitTimer(lane));
+
+        Gauge.builder(QUEUE_SIZE_METRIC, executor, LimitedVirtualThreadExecutor::getQueueSize)
+                .tag("lane", lane)
+                .register(meterRegistry);
+        Gauge.builder(ACTIVE_METRIC, executor, LimitedVirtualThreadExecutor::getActiveCount)
+                .tag("lane", lane)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    private Timer queueWaitTimer(String lane) {
+        return Timer.builder(QUEUE_WAIT_METRIC)
+                .tag("lane", lane)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 큐가 가득 차면 가장 오래 대기한 작업을 버리고 새 작업을 넣는 정책
+     * 승률 분석은 채팅방당 하나씩만 큐에 들어가므로(DebateAnalysisScheduler) 가장 오래된 작업이 가장 낡은 결과임
+     * 버린 작업이 Future면 취소하여 제출 측의 대기 상태가 정리되도록 함
+     */
+    private static RejectedExecutionHandler shedOldestPolicy(Counter shedCounter) {
+        return (r, e) -> {
+            if (e.isShutdown()) {
+                cancel(r);
+                return;
+            }
+
+            Runnable oldest = e.getQueue().poll();
+            if (oldest != null) {
+                log.warn("AI analysis queue full, shedding oldest task");
+                shedCounter.increment();
+                cancel(oldest);
+            }
+
+            // 이미 TaskDecorator가 적용된 작업이므로 execute가 아닌 큐에 직접 넣음
+            if (!e.getQueue().offer(r)) {
+                log.warn("AI analysis task rejected due to thread pool saturation");
+                shedCounter.increment();
+                cancel(r);
+            }
+        };
+    }
+
+    /**
+     * 거절된 작업을 기록하고 RejectedExecutionException을 던지는 정책
+     * ThreadPoolTaskExecutor가 TaskRejectedException으로 바꿔 @Async 호출 측에 전달함
+     */
+    private static RejectedExecutionHandler rejectPolicy(String name, Counter rejectedCounter) {
+        return (r, e) -> {
+            log.warn("{} task rejected (shutdown: {})", name, e.isShutdown());
+            rejectedCounter.increment();
+            throw new RejectedExecutionException(name + " executor rejected task");
+        };
+    }
+
+    private static void cancel(Runnable r) {
+        Runnable task = (r instanceof TimedTask timedTask) ? timedTask.delegate : r;
+        if (task instanceof Future<?> future) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * 제출 시점부터 실행 시작까지의 큐 대기 시간을 기록하는 래퍼
+     */
+    private static class TimedTask implements Runnable {
+
+        private final Runnable delegate;
+        private final Timer queueWait;
+        private final long submittedAt = System.nanoTime();
+
+        private TimedTask(Runnable delegate, Timer queueWait) {
+            this.delegate = delegate;
+            this.queueWait = queueWait;
+        }
+
+        @Override
+        public void run() {
+            queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            delegate.run();
+        }
+    }
 }
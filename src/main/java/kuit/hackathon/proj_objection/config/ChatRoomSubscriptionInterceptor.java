@@ -0,0 +1,88 @@
+package kuit.hackathon.proj_objection.config;
+
+import kuit.hackathon.proj_objection.exception.MessageSendPermissionDeniedException;
+import kuit.hackathon.proj_objection.exception.UserNotFoundException;
+import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
+import kuit.hackathon.proj_objection.repository.UserRepository;
+import kuit.hackathon.proj_objection.service.ChatRoomMemberCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 클라이언트 SEND/SUBSCRIBE 프레임 검증
+ * - SEND/SUBSCRIBE 모두 로그인된 Principal 이 있어야 한다.
+ * - SEND 는 /app 하위 목적지만 허용한다. simple broker 는 클라이언트의 /topic SEND 도 그대로 중계하므로
+ *   이를 막지 않으면 /topic/chatroom/{id}/** 로 메시지를 위조할 수 있다.
+ * - 멤버가 아닌 사용자가 /topic/chatroom/{id}/** 를 구독하면 STOMP ERROR 프레임으로 거부된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ChatRoomSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final String APPLICATION_DESTINATION_PREFIX = "/app/";
+    private static final Pattern CHAT_ROOM_TOPIC = Pattern.compile("^/topic/chatroom/(\\d+)(/.*)?$");
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserRepository userRepository;
+    private final ChatRoomMemberCacheService chatRoomMemberCacheService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command != StompCommand.SEND && command != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+
+        Long userId = getUserId(accessor);
+        String destination = accessor.getDestination();
+
+        if (command == StompCommand.SEND) {
+            if (destination == null || !destination.startsWith(APPLICATION_DESTINATION_PREFIX)) {
+                throw new MessageSendPermissionDeniedException("허용되지 않은 메시지 목적지입니다: " + destination);
+            }
+            return message;
+        }
+
+        Matcher matcher = (destination != null) ? CHAT_ROOM_TOPIC.matcher(destination) : null;
+        if (matcher == null || !matcher.matches()) {
+            return message;
+        }
+
+        Long chatRoomId = Long.valueOf(matcher.group(1));
+
+        // 프록시 참조만 사용하여 채팅방/사용자 엔티티 조회 없이 멤버만 확인
+        chatRoomMemberCacheService.getOrLoadRole(
+                chatRoomRepository.getReferenceById(chatRoomId),
+                userRepository.getReferenceById(userId)
+        );
+
+        return message;
+    }
+
+    private Long getUserId(StompHeaderAccessor accessor) {
+        if (accessor.getUser() == null) {
+            throw new UserNotFoundException("User not logged in");
+        }
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        Object userId = (attributes != null) ? attributes.get(LoginUserHandshakeInterceptor.USER_ID_ATTRIBUTE) : null;
+        if (userId == null) {
+            throw new UserNotFoundException("User not logged in");
+        }
+        return (Long) userId;
+    }
+}
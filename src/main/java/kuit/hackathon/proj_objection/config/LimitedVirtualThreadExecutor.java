@@ -0,0 +1,61 @@
+package kuit.hackathon.proj_objection.config;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업마다 가상 스레드를 띄우고 세마포어로 동시 실행 수를 제한하는 Executor
+ * OpenAI 호출처럼 오래 블로킹되는 작업을 플랫폼 스레드 점유 없이 실행하면서,
+ * 허용 동시 실행 수를 넘는 작업은 가상 스레드 안에서 permit을 기다리므로(큐 역할) 거절되지 않는다.
+ */
+@Slf4j
+public class LimitedVirtualThreadExecutor implements Executor {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final ThreadFactory threadFactory;
+    private final Timer queueWait;
+
+    public LimitedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, Timer queueWait) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 1).factory();
+        this.queueWait = queueWait;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long submittedAt = System.nanoTime();
+        threadFactory.newThread(() -> {
+            try {
+                // 공정 모드 세마포어라 먼저 제출된 작업부터 실행됨
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for AI concurrency permit");
+                return;
+            }
+
+            try {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                task.run();
+            } finally {
+                permits.release();
+            }
+        }).start();
+    }
+
+    // permit 대기 중인 작업 수
+    public int getQueueSize() {
+        return permits.getQueueLength();
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+}
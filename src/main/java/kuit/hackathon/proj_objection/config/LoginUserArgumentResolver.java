@@ -1,12 +1,14 @@
 package kuit.hackathon.proj_objection.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import kuit.hackathon.proj_objection.annotation.LoginUser;
 import kuit.hackathon.proj_objection.entity.User;
 import kuit.hackathon.proj_objection.exception.UserNotFoundException;
 import kuit.hackathon.proj_objection.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -14,12 +16,27 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
-@RequiredArgsConstructor
+import java.time.Duration;
+
 @Component
 public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
 
     private final UserRepository userRepository;
 
+    // User(id, nickname)는 생성 후 변경되지 않으므로 요청마다 DB 조회하지 않도록 로컬 캐싱
+    // 엔티티(비밀번호 해시 포함) 대신 id, nickname만 담은 불변 스냅샷을 보관
+    private final Cache<Long, LoginUserSnapshot> userCache;
+
+    public LoginUserArgumentResolver(UserRepository userRepository,
+                                     @Value("${chat.cache.login-user.max-size:10000}") long maxSize,
+                                     @Value("${chat.cache.login-user.ttl-minutes:30}") long ttlMinutes) {
+        this.userRepository = userRepository;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(LoginUser.class)
@@ -43,7 +60,15 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
             throw new UserNotFoundException("User not logged in");
         }
 
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+        // 존재하지 않는 사용자는 캐싱되지 않고 예외가 그대로 전파됨
+        LoginUserSnapshot snapshot = userCache.get(userId, id -> userRepository.findById(id)
+                .map(user -> new LoginUserSnapshot(user.getId(), user.getNickname()))
+                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id)));
+
+        // 요청마다 새 참조를 만들어 요청 간에 엔티티 인스턴스를 공유하지 않음
+        return User.reference(snapshot.id(), snapshot.nickname());
+    }
+
+    private record LoginUserSnapshot(Long id, String nickname) {
     }
 }
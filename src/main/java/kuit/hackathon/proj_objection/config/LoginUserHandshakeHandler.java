@@ -0,0 +1,30 @@
+package kuit.hackathon.proj_objection.config;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * 세션의 userId를 WebSocket Principal로 사용
+ * /user/queue/** 개인 목적지(에러 응답 등)로 메시지를 보내기 위해 필요하다.
+ */
+@Component
+public class LoginUserHandshakeHandler extends DefaultHandshakeHandler {
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request,
+                                      WebSocketHandler wsHandler,
+                                      Map<String, Object> attributes) {
+        Object userId = attributes.get(LoginUserHandshakeInterceptor.USER_ID_ATTRIBUTE);
+        if (userId == null) {
+            return null;
+        }
+
+        String name = String.valueOf(userId);
+        return () -> name;
+    }
+}
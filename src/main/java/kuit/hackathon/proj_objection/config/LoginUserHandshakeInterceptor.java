@@ -0,0 +1,21 @@
+package kuit.hackathon.proj_objection.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
+
+import java.util.List;
+
+/**
+ * WebSocket 핸드셰이크 시 HTTP 세션의 userId를 WebSocket 세션 속성으로 복사
+ * 로그인하지 않은 연결도 허용하며, 메시지 전송/구독 시점에 userId 유무로 인증을 검사한다.
+ */
+@Component
+public class LoginUserHandshakeInterceptor extends HttpSessionHandshakeInterceptor {
+
+    public static final String USER_ID_ATTRIBUTE = "userId";
+
+    public LoginUserHandshakeInterceptor() {
+        super(List.of(USER_ID_ATTRIBUTE));
+        setCreateSession(false);
+    }
+}
@@ -1,13 +1,18 @@
 package kuit.hackathon.proj_objection.config;
 
+import kuit.hackathon.proj_objection.client.openai.OpenAiRateLimiter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
 @Configuration
@@ -19,20 +24,57 @@ public class OpenAiConfig {
     @Value("${openai.api.base-url:https://api.openai.com}")
     private String baseUrl;
 
+    // 응답 대기(read) 타임아웃
     @Value("${openai.api.timeout:30000}")
     private int timeout;
 
-    @Bean
-    public RestClient restClient() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofMillis(timeout));
-        factory.setReadTimeout(Duration.ofMillis(timeout));
+    @Value("${openai.api.connect-timeout:5000}")
+    private int connectTimeout;
+
+    @Value("${openai.api.http-client:JDK}")
+    private HttpClientType httpClientType;
 
+    public enum HttpClientType {
+        JDK, SIMPLE
+    }
+
+    @Bean
+    public RestClient restClient(OpenAiRateLimiter openAiRateLimiter) {
         return RestClient.builder()
                 .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .requestFactory(factory)
+                .requestFactory(requestFactory())
+                // 모든 응답(에러 포함)의 x-ratelimit-* 헤더를 요청 한도 버킷에 반영
+                .requestInterceptor((request, body, execution) -> {
+                    ClientHttpResponse response = execution.execute(request, body);
+                    openAiRateLimiter.onResponseHeaders(response.getHeaders());
+                    return response;
+                })
                 .build();
     }
+
+    /**
+     * JDK: java.net.http.HttpClient 하나를 공유하여 커넥션(TLS 세션)을 재사용하고, HTTP/2 멀티플렉싱으로
+     *      동시 요청을 한 커넥션에 실어 보냄 (HTTP/2 미지원 시 HTTP/1.1 keep-alive 풀로 자동 폴백)
+     * SIMPLE: 기존 HttpURLConnection 기반
+     */
+    private ClientHttpRequestFactory requestFactory() {
+        if (httpClientType == HttpClientType.SIMPLE) {
+            SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+            factory.setConnectTimeout(Duration.ofMillis(connectTimeout));
+            factory.setReadTimeout(Duration.ofMillis(timeout));
+            return factory;
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(timeout));
+        return factory;
+    }
 }
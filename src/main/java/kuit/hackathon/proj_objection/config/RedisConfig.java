@@ -3,10 +3,17 @@ package kuit.hackathon.proj_objection.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kuit.hackathon.proj_objection.service.ChatRoomCacheInvalidationListener;
+import kuit.hackathon.proj_objection.service.ChatRoomCacheService;
+import kuit.hackathon.proj_objection.service.ChatRoomEventListener;
+import kuit.hackathon.proj_objection.service.ChatRoomEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -29,6 +36,21 @@ public class RedisConfig {
         return template;
     }
 
+    // 채팅방 이벤트 채널(chat:room:*:events) 구독 - 모든 노드가 각자 구독하여 로컬 클라이언트에게 전달
+    // 캐시 무효화 채널 구독 - 다른 노드의 캐시 갱신 시 로컬(L1) 캐시 제거
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            ChatRoomEventListener chatRoomEventListener,
+            ChatRoomCacheInvalidationListener chatRoomCacheInvalidationListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(chatRoomEventListener, new PatternTopic(ChatRoomEventPublisher.getChannelPattern()));
+        container.addMessageListener(chatRoomCacheInvalidationListener,
+                new ChannelTopic(ChatRoomCacheService.INVALIDATION_CHANNEL));
+        return container;
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
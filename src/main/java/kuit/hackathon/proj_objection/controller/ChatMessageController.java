@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import kuit.hackathon.proj_objection.annotation.LoginUser;
 import kuit.hackathon.proj_objection.dto.response.BaseErrorResponse;
 import kuit.hackathon.proj_objection.dto.response.BaseResponse;
+import kuit.hackathon.proj_objection.dto.response.ChatMessagePageResponseDto;
 import kuit.hackathon.proj_objection.dto.common.ChatMessageDto;
 import kuit.hackathon.proj_objection.dto.common.ChatMessageListDto;
 import kuit.hackathon.proj_objection.dto.request.SendMessageRequestDto;
@@ -68,4 +69,30 @@ public class ChatMessageController {
         return new BaseResponse<>(messages);
     }
 
+    @Operation(summary = "메시지 페이지 조회",
+            description = "limit을 지정하면 채팅방 메시지를 beforeId 이전부터 최대 limit개(상한 100)씩 ID 역순으로 조회합니다. "
+                    + "응답의 nextBeforeId를 다음 요청의 beforeId로 보내면 이어서 이전 메시지를 조회합니다. 채팅방 멤버만 조회 가능합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "메시지 페이지 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요",
+                    content = @Content(schema = @Schema(implementation = BaseErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "채팅방 멤버가 아님",
+                    content = @Content(schema = @Schema(implementation = BaseErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = BaseErrorResponse.class)))
+    })
+    @GetMapping(value = "/chat/room/{chatRoomId}/messages", params = "limit")
+    public BaseResponse<ChatMessagePageResponseDto> getChatMessagePage(
+            @Parameter(description = "채팅방 ID", example = "1") @PathVariable Long chatRoomId,
+            @Parameter(description = "이 ID보다 이전 메시지부터 조회 (null이면 최신 메시지부터)", example = "101")
+            @RequestParam(required = false) Long beforeId,
+            @Parameter(description = "조회할 메시지 수 (최대 100)", example = "50", required = true)
+            @RequestParam int limit,
+            @Parameter(hidden = true) @RequestHeader(value = "X-SESSION-TOKEN", required = false) String sessionToken,
+            @Parameter(hidden = true) @LoginUser User user
+    ) {
+        ChatMessagePageResponseDto response = chatMessageService.getChatMessagePage(chatRoomId, user, beforeId, limit);
+        return new BaseResponse<>(response);
+    }
+
 }
@@ -12,9 +12,13 @@ import kuit.hackathon.proj_objection.dto.response.BaseErrorResponse;
 import kuit.hackathon.proj_objection.dto.response.BaseResponse;
 import kuit.hackathon.proj_objection.dto.response.ChatPollResponseDto;
 import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.service.ChatLongPollService;
 import kuit.hackathon.proj_objection.service.ChatPollService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletionException;
 
 @Tag(name = "채팅 폴링", description = "채팅방 폴링 API")
 @RequiredArgsConstructor
@@ -22,6 +26,10 @@ import org.springframework.web.bind.annotation.*;
 public class ChatPollController {
 
     private final ChatPollService chatPollService;
+    private final ChatLongPollService chatLongPollService;
+
+    // 서블릿 비동기 타임아웃은 대기 시간보다 여유 있게 설정 (대기 만료 후 재폴링 시간 확보)
+    private static final long ASYNC_TIMEOUT_MARGIN_MS = 5000;
 
     @Operation(
             summary = "채팅방 폴링",
@@ -47,4 +55,50 @@ public class ChatPollController {
         ChatPollResponseDto response = chatPollService.poll(chatRoomId, lastMessageId, user);
         return new BaseResponse<>(response);
     }
+
+    @Operation(
+            summary = "채팅방 롱폴링",
+            description = "waitMs를 지정하면 새 메시지가 없을 때 최대 waitMs 동안 응답을 대기합니다. "
+                    + "대기 중 새 메시지, 승률 갱신, 채팅방 상태 변경이 발생하거나 대기 시간이 만료되면 폴링 결과를 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "폴링 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요",
+                    content = @Content(schema = @Schema(implementation = BaseErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "채팅방 멤버가 아님",
+                    content = @Content(schema = @Schema(implementation = BaseErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = BaseErrorResponse.class)))
+    })
+    @GetMapping(value = "/chat/poll", params = "waitMs")
+    public DeferredResult<BaseResponse<ChatPollResponseDto>> longPoll(
+            @Parameter(description = "채팅방 ID", example = "1", required = true)
+            @RequestParam Long chatRoomId,
+            @Parameter(description = "마지막으로 받은 메시지 ID (null이면 모든 메시지 조회)", example = "123")
+            @RequestParam(required = false) Long lastMessageId,
+            @Parameter(description = "최대 대기 시간 (ms, 서버 설정 상한으로 제한)", example = "25000", required = true)
+            @RequestParam long waitMs,
+            @Parameter(hidden = true) @LoginUser User user
+    ) {
+        long timeout = chatLongPollService.getEffectiveWaitMs(waitMs) + ASYNC_TIMEOUT_MARGIN_MS;
+        DeferredResult<BaseResponse<ChatPollResponseDto>> result = new DeferredResult<>(timeout);
+
+        chatLongPollService.poll(chatRoomId, lastMessageId, waitMs, user)
+                .whenComplete((response, ex) -> {
+                    if (ex == null) {
+                        result.setResult(new BaseResponse<>(response));
+                    } else {
+                        result.setErrorResult(unwrap(ex));
+                    }
+                });
+
+        return result;
+    }
+
+    private Throwable unwrap(Throwable ex) {
+        if (ex instanceof CompletionException && ex.getCause() != null) {
+            return ex.getCause();
+        }
+        return ex;
+    }
 }
@@ -0,0 +1,65 @@
+package kuit.hackathon.proj_objection.controller;
+
+import kuit.hackathon.proj_objection.config.LoginUserHandshakeInterceptor;
+import kuit.hackathon.proj_objection.dto.request.SendMessageRequestDto;
+import kuit.hackathon.proj_objection.dto.response.BaseErrorResponse;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.exception.BaseException;
+import kuit.hackathon.proj_objection.exception.UserNotFoundException;
+import kuit.hackathon.proj_objection.repository.UserRepository;
+import kuit.hackathon.proj_objection.service.ChatMessageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import java.util.Map;
+
+/**
+ * STOMP 메시지 전송 (/app/chatroom/{chatRoomId})
+ * 저장된 메시지는 ChatMessageService에서 커밋 후 /topic/chatroom/{chatRoomId}로 브로드캐스트된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Controller
+public class ChatWebSocketController {
+
+    private final ChatMessageService chatMessageService;
+    private final UserRepository userRepository;
+
+    @MessageMapping("/chatroom/{chatRoomId}")
+    public void sendMessage(
+            @DestinationVariable Long chatRoomId,
+            @Payload SendMessageRequestDto request,
+            SimpMessageHeaderAccessor headerAccessor
+    ) {
+        User sender = getLoginUser(headerAccessor);
+        chatMessageService.sendMessage(chatRoomId, sender, request.getContent());
+    }
+
+    // 전송 실패 시 요청자에게만 에러 응답 (/user/queue/errors)
+    @MessageExceptionHandler(BaseException.class)
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public BaseErrorResponse handleBaseException(BaseException e) {
+        log.warn("WebSocket message handling failed: {}", e.getMessage());
+        return BaseErrorResponse.of(e);
+    }
+
+    private User getLoginUser(SimpMessageHeaderAccessor headerAccessor) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        Long userId = (attributes != null)
+                ? (Long) attributes.get(LoginUserHandshakeInterceptor.USER_ID_ATTRIBUTE)
+                : null;
+        if (userId == null) {
+            throw new UserNotFoundException("User not logged in");
+        }
+
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+    }
+}
@@ -0,0 +1,34 @@
+package kuit.hackathon.proj_objection.dto.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "빠른 전송 모드에서 Redis Stream(chat:room:{id}:messages)에 쌓인 메시지 1개")
+@Getter
+@AllArgsConstructor
+public class ChatMessageStreamEntry {
+
+    @Schema(description = "스트림 레코드 ID ({messageId}-0)", example = "12-0")
+    private String recordId;
+
+    @Schema(description = "메시지 ID (chat:message:id 카운터로 발급)", example = "12")
+    private Long messageId;
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long chatRoomId;
+
+    @Schema(description = "발신자 ID", example = "3")
+    private Long senderId;
+
+    @Schema(description = "발신자 닉네임", example = "홍길동")
+    private String senderNickname;
+
+    @Schema(description = "메시지 내용", example = "안녕하세요!")
+    private String content;
+
+    @Schema(description = "메시지 생성 시간", example = "2026-01-09T12:00:00")
+    private LocalDateTime createdAt;
+}
@@ -3,11 +3,13 @@ package kuit.hackathon.proj_objection.dto.common;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Schema(description = "폴링 메시지 응답")
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class ChatPollMessageDto {
 
@@ -4,17 +4,23 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import kuit.hackathon.proj_objection.entity.ChatRoom;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
-@Schema(description = "채팅방 상태 캐시 데이터")
+import java.util.Map;
+
+@Schema(description = "채팅방 상태 캐시 스냅샷 (chat:room:{id}:state 해시)")
 @Getter
-@NoArgsConstructor
 @AllArgsConstructor
-public class ChatRoomStatusCache {
+public class ChatRoomCacheSnapshot {
+
+    @Schema(description = "마지막 메시지 ID (메시지가 없으면 0)", example = "12")
+    private Long lastMessageId;
 
     @Schema(description = "채팅방 상태", example = "ALIVE")
     private ChatRoom.RoomStatus status;
 
     @Schema(description = "종료 요청자 닉네임", example = "홍길동", nullable = true)
     private String finishRequestNickname;
+
+    @Schema(description = "참여자별 승률 (닉네임 → 점수)", example = "{\"철수\": 73, \"영희\": 27}")
+    private Map<String, Integer> percent;
 }
@@ -0,0 +1,21 @@
+package kuit.hackathon.proj_objection.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 채팅방 이벤트 전달용 Redis pub/sub 메시지
+ * payload는 STOMP로 그대로 전송할 수 있도록 직렬화된 JSON 문자열로 보관한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomEventMessage {
+
+    private Long chatRoomId;
+
+    private String destination;
+
+    private String payload;
+}
@@ -0,0 +1,32 @@
+package kuit.hackathon.proj_objection.dto.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "채팅방 종료(판결) 요청/수락/거절 알림")
+@Getter
+@AllArgsConstructor
+public class ExitNotificationDto {
+
+    @Schema(description = "알림 타입 (EXIT_REQUEST, EXIT_APPROVED, EXIT_REJECTED)", example = "EXIT_REQUEST")
+    private String type;
+
+    @Schema(description = "요청자/결정자 닉네임", example = "홍길동")
+    private String requesterNickname;
+
+    @Schema(description = "알림 메시지", example = "지금까지의 대화를 바탕으로 판결을 요청하시겠습니까?")
+    private String message;
+
+    public static ExitNotificationDto request(String requesterNickname) {
+        return new ExitNotificationDto("EXIT_REQUEST", requesterNickname, "지금까지의 대화를 바탕으로 판결을 요청하시겠습니까?");
+    }
+
+    public static ExitNotificationDto approved(String deciderNickname, String message) {
+        return new ExitNotificationDto("EXIT_APPROVED", deciderNickname, message);
+    }
+
+    public static ExitNotificationDto rejected(String deciderNickname, String message) {
+        return new ExitNotificationDto("EXIT_REJECTED", deciderNickname, message);
+    }
+}
@@ -1,17 +1,20 @@
 package kuit.hackathon.proj_objection.dto.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
+import kuit.hackathon.proj_objection.entity.FinalJudgement;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Schema(description = "AI 판결 분석 결과 알림")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Getter
 @Builder
 @AllArgsConstructor
 public class JudgmentNotificationDto {
 
-    @Schema(description = "알림 타입 (FINAL_JUDGMENT: 판결 완료, JUDGMENT_ERROR: 분석 실패)", example = "FINAL_JUDGMENT")
+    @Schema(description = "알림 타입 (JUDGMENT_PROGRESS: 판결 코멘트 생성 중, FINAL_JUDGMENT: 판결 완료, JUDGMENT_ERROR: 분석 실패)", example = "FINAL_JUDGMENT")
     private String type;
 
     @Schema(description = "승자 닉네임", example = "홍길동")
@@ -29,7 +32,7 @@ public class JudgmentNotificationDto {
     @Schema(description = "승자의 공감력 점수 (0-100)", example = "72")
     private Integer winnerEmpathyScore;
 
-    @Schema(description = "심판 코멘트", example = "원고가 구체적인 근거를 제시하며 논리적으로 주장을 펼쳤습니다.")
+    @Schema(description = "심판 코멘트 (JUDGMENT_PROGRESS 타입이면 지금까지 생성된 부분)", example = "원고가 구체적인 근거를 제시하며 논리적으로 주장을 펼쳤습니다.")
     private String judgmentComment;
 
     @Schema(description = "승자가 가산점을 받은 이유", example = "구체적 사례와 논리적 근거 제시")
@@ -40,4 +43,32 @@ public class JudgmentNotificationDto {
 
     @Schema(description = "에러 메시지 (JUDGMENT_ERROR 타입일 때만 사용)", example = "AI 분석 중 오류가 발생했습니다.")
     private String errorMessage;
+
+    public static JudgmentNotificationDto from(FinalJudgement finalJudgement) {
+        return JudgmentNotificationDto.builder()
+                .type("FINAL_JUDGMENT")
+                .winner(finalJudgement.getWinner())
+                .plaintiff(finalJudgement.getPlaintiff())
+                .defendant(finalJudgement.getDefendant())
+                .winnerLogicScore(finalJudgement.getWinnerLogicScore())
+                .winnerEmpathyScore(finalJudgement.getWinnerEmpathyScore())
+                .judgmentComment(finalJudgement.getJudgmentComment())
+                .winnerReason(finalJudgement.getWinnerReason())
+                .loserReason(finalJudgement.getLoserReason())
+                .build();
+    }
+
+    public static JudgmentNotificationDto progress(String judgmentComment) {
+        return JudgmentNotificationDto.builder()
+                .type("JUDGMENT_PROGRESS")
+                .judgmentComment(judgmentComment)
+                .build();
+    }
+
+    public static JudgmentNotificationDto error(String errorMessage) {
+        return JudgmentNotificationDto.builder()
+                .type("JUDGMENT_ERROR")
+                .errorMessage(errorMessage)
+                .build();
+    }
 }
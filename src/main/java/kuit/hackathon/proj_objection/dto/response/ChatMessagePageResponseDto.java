@@ -0,0 +1,25 @@
+package kuit.hackathon.proj_objection.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kuit.hackathon.proj_objection.dto.common.ChatMessageListDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "채팅 메시지 페이지 조회 응답")
+@Getter
+@Builder
+@AllArgsConstructor
+public class ChatMessagePageResponseDto {
+
+    @Schema(description = "메시지 목록 (ID 역순)")
+    private List<ChatMessageListDto> messages;
+
+    @Schema(description = "다음 페이지 조회 시 beforeId로 보낼 값 (더 이전 메시지가 없으면 null)", example = "101", nullable = true)
+    private Long nextBeforeId;
+
+    @Schema(description = "더 이전 메시지 존재 여부", example = "true")
+    private boolean hasMore;
+}
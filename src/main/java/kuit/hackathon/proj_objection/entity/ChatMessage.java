@@ -5,6 +5,10 @@ import lombok.Getter;
 
 @Getter
 @Entity
+@Table(indexes = {
+        // 폴링/페이지 조회 (chat_room_id = ? AND id > ? / id < ? ORDER BY id)
+        @Index(name = "idx_chat_message_room_id", columnList = "chat_room_id, id")
+})
 public class ChatMessage extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
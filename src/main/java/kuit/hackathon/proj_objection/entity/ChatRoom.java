@@ -58,6 +58,11 @@ public class ChatRoom extends BaseEntity{
         this.status = RoomStatus.REQUEST_ACCEPT;
     }
 
+    // 판결 작업을 시작하지 못한 경우 종료 요청 대기 상태로 되돌림 (요청자 유지, 다시 수락 가능)
+    public void reopenExitRequest() {
+        this.status = RoomStatus.REQUEST_FINISH;
+    }
+
     // 종료 거절
     public void rejectExit() {
         this.exitRequester = null;
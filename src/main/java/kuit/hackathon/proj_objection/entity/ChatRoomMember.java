@@ -5,6 +5,10 @@ import lombok.Getter;
 
 @Getter
 @Entity
+@Table(indexes = {
+        // 멤버 조회 (chat_room_id, user_id) 및 역할별 집계 (chat_room_id, role, user_id <> ?)
+        @Index(name = "idx_chat_room_member_room_user_role", columnList = "chat_room_id, user_id, role")
+})
 public class ChatRoomMember extends BaseEntity{
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,4 +22,15 @@ public class User extends BaseEntity {
         user.password = password;
         return user;
     }
+
+    /**
+     * 이미 저장된 사용자의 분리(detached) 참조 생성
+     * 로그인 사용자 캐시에서 요청마다 만들어 쓰며, 비밀번호는 담지 않으므로 저장(save) 용도로 사용하지 않는다.
+     */
+    public static User reference(Long id, String nickname) {
+        User user = new User();
+        user.id = id;
+        user.nickname = nickname;
+        return user;
+    }
 }
@@ -52,6 +52,12 @@ public class MainExceptionHandler {
         return BaseErrorResponse.of(exception);
     }
 
+    @ExceptionHandler({MessageSendUnavailableException.class})
+    public BaseErrorResponse handle_MessageSendUnavailableException(MessageSendUnavailableException exception) {
+        log.error("MainExceptionHandler.handle_MessageSendUnavailableException <{}> {}", exception.getMessage(), exception);
+        return BaseErrorResponse.of(exception);
+    }
+
     @ExceptionHandler({ChatRoomClosedException.class})
     public BaseErrorResponse handle_ChatRoomClosedException(ChatRoomClosedException exception) {
         log.error("MainExceptionHandler.handle_ChatRoomClosedException <{}> {}", exception.getMessage(), exception);
@@ -6,4 +6,8 @@ public class MessageSendPermissionDeniedException extends BaseException {
     public MessageSendPermissionDeniedException() {
         super(HttpStatus.FORBIDDEN, "메시지를 전송할 권한이 없습니다. 관전자는 메시지를 전송할 수 없습니다.");
     }
+
+    public MessageSendPermissionDeniedException(String message) {
+        super(HttpStatus.FORBIDDEN, message);
+    }
 }
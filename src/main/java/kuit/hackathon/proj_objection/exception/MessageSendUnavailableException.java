@@ -0,0 +1,9 @@
+package kuit.hackathon.proj_objection.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class MessageSendUnavailableException extends BaseException {
+    public MessageSendUnavailableException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "일시적으로 메시지를 전송할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -4,18 +4,37 @@ import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 
+import java.time.Duration;
+
 @Getter
 public class OpenAiApiException extends BaseException {
 
     private final HttpStatusCode statusCode;
 
+    // 응답의 Retry-After 헤더 값 (없으면 null)
+    private final Duration retryAfter;
+
     public OpenAiApiException(HttpStatusCode statusCode, String message) {
+        this(statusCode, message, null);
+    }
+
+    public OpenAiApiException(HttpStatusCode statusCode, String message, Duration retryAfter) {
         super(HttpStatus.valueOf(statusCode.value()), "OpenAI API 호출 실패: " + message);
         this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
     }
 
     public OpenAiApiException(String message) {
         super(HttpStatus.INTERNAL_SERVER_ERROR, "OpenAI API 호출 실패: " + message);
         this.statusCode = HttpStatus.INTERNAL_SERVER_ERROR;
+        this.retryAfter = null;
+    }
+
+    /**
+     * 잠시 후 다시 시도하면 성공할 수 있는 에러인지 여부 (요청 제한, 타임아웃, 서버 에러)
+     */
+    public boolean isRetryable() {
+        int status = statusCode.value();
+        return status == 408 || status == 409 || status == 429 || statusCode.is5xxServerError();
     }
 }
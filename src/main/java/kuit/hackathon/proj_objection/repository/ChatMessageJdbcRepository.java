@@ -0,0 +1,35 @@
+package kuit.hackathon.proj_objection.repository;
+
+import kuit.hackathon.proj_objection.dto.common.ChatMessageStreamEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 빠른 전송 모드에서 이미 ID가 발급된 메시지를 한 번에 저장 (IDENTITY 엔티티는 JPA로 ID를 지정해 저장할 수 없음)
+ * JDBC URL에 rewriteBatchedStatements=true가 있으면 multi-row INSERT 한 번으로 전송됨
+ */
+@RequiredArgsConstructor
+@Repository
+public class ChatMessageJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chat_message (id, chat_room_id, sender_id, content, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<ChatMessageStreamEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getMessageId());
+            ps.setLong(2, entry.getChatRoomId());
+            ps.setLong(3, entry.getSenderId());
+            ps.setString(4, entry.getContent());
+            ps.setObject(5, entry.getCreatedAt());
+            ps.setObject(6, entry.getCreatedAt());
+        });
+    }
+}
@@ -2,6 +2,7 @@ package kuit.hackathon.proj_objection.repository;
 
 import kuit.hackathon.proj_objection.entity.ChatMessage;
 import kuit.hackathon.proj_objection.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,11 +10,11 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    // 특정 채팅방의 모든 메시지 조회 (시간 역순)
-    List<ChatMessage> findByChatRoomOrderByCreatedAtDesc(ChatRoom chatRoom);
+    // 특정 채팅방의 모든 메시지 조회 (ID 역순 = 시간 역순, (chat_room_id, id) 인덱스 사용)
+    List<ChatMessage> findByChatRoomOrderByIdDesc(ChatRoom chatRoom);
 
-    // 특정 채팅방의 모든 메시지 조회 (시간 순서)
-    List<ChatMessage> findByChatRoomOrderByCreatedAtAsc(ChatRoom chatRoom);
+    // 특정 채팅방의 모든 메시지 조회 (ID 순서 = 시간 순서)
+    List<ChatMessage> findByChatRoomOrderByIdAsc(ChatRoom chatRoom);
 
     // 특정 채팅방에서 lastMessageId 이후의 메시지 조회 (ID 오름차순) - 폴링용
     List<ChatMessage> findByChatRoomAndIdGreaterThanOrderByIdAsc(ChatRoom chatRoom, Long lastMessageId);
@@ -21,4 +22,12 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     // 특정 채팅방에서 lastMessageId 이후의 메시지 조회 (JOIN FETCH로 N+1 해결)
     @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender WHERE m.chatRoom = :chatRoom AND m.id > :lastMessageId ORDER BY m.id ASC")
     List<ChatMessage> findMessagesWithSender(@Param("chatRoom") ChatRoom chatRoom, @Param("lastMessageId") Long lastMessageId);
+
+    // 특정 채팅방에서 beforeId 이전의 메시지를 ID 역순으로 조회 (키셋 페이지네이션, JOIN FETCH로 N+1 해결)
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender WHERE m.chatRoom = :chatRoom AND m.id < :beforeId ORDER BY m.id DESC")
+    List<ChatMessage> findMessagesWithSenderBefore(@Param("chatRoom") ChatRoom chatRoom, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // 전체 메시지 중 가장 큰 ID (빠른 전송 모드의 ID 카운터 초기화용, 메시지가 없으면 0)
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM ChatMessage m")
+    Long findMaxId();
 }
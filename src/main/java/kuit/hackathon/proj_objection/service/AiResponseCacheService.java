@@ -0,0 +1,100 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.client.openai.dto.Message;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 동일한 AI 요청의 응답 캐시
+ * 모델, 온도, 최대 토큰 수, 메시지(역할 + 내용)를 SHA-256으로 해시한 키(ai:response:{hash})에 응답 원문을 저장한다.
+ * 새 메시지 없이 분석이 다시 실행되거나 파싱 실패 후 재시도하는 경우 OpenAI를 호출하지 않고 이전 응답을 재사용한다.
+ */
+@Slf4j
+@Service
+public class AiResponseCacheService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public AiResponseCacheService(RedisTemplate<String, String> redisTemplate,
+                                  @Value("${chat.ai.response-cache.enabled:true}") boolean enabled,
+                                  @Value("${chat.ai.response-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    // Key generator
+    private String keyResponse(ChatCompletionRequest request) {
+        return "ai:response:" + hash(request);
+    }
+
+    /**
+     * 캐시된 응답 조회
+     *
+     * @return 응답 원문, 없거나 Redis 에러 시 null
+     */
+    public String get(ChatCompletionRequest request) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            String response = redisTemplate.opsForValue().get(keyResponse(request));
+            if (response != null) {
+                log.debug("AI response cache hit");
+            }
+            return response;
+        } catch (Exception e) {
+            log.warn("Failed to get AI response from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 응답 저장 (파싱에 성공한 응답만 저장할 것)
+     */
+    public void put(ChatCompletionRequest request, String response) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(keyResponse(request), response, ttl);
+        } catch (Exception e) {
+            log.warn("Failed to save AI response to Redis: {}", e.getMessage());
+        }
+    }
+
+    private String hash(ChatCompletionRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        // 필드 사이에 NUL 구분자를 넣어 경계가 다른 입력이 같은 해시가 되지 않도록 함
+        update(digest, request.getModel());
+        update(digest, String.valueOf(request.getTemperature()));
+        update(digest, String.valueOf(request.getMaxTokens()));
+        for (Message message : request.getMessages()) {
+            update(digest, message.getRole());
+            update(digest, message.getContent());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
@@ -1,7 +1,7 @@
 package kuit.hackathon.proj_objection.service;
 
-import jakarta.transaction.Transactional;
 import kuit.hackathon.proj_objection.dto.common.AnalysisResult;
+import kuit.hackathon.proj_objection.dto.common.JudgmentNotificationDto;
 import kuit.hackathon.proj_objection.entity.ChatRoom;
 import kuit.hackathon.proj_objection.entity.ChatRoomMember;
 import kuit.hackathon.proj_objection.entity.FinalJudgement;
@@ -11,16 +11,22 @@ import kuit.hackathon.proj_objection.exception.InsufficientParticipantsException
 import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
 import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
 import kuit.hackathon.proj_objection.repository.FinalJudgementRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
-
-@Transactional
+import java.util.function.Consumer;
+
+/**
+ * AI 판결 분석 및 판결문 저장
+ *
+ * 빠른 전송 모드에서는 스트림에 남은 메시지를 먼저 DB로 옮긴 뒤 판결 트랜잭션을 연다.
+ * 트랜잭션 안에서 옮기면 이미 읽은 스냅샷(REPEATABLE READ) 때문에 옮긴 메시지가 대화 내용에 보이지 않는다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class AsyncJudgmentService {
 
@@ -29,6 +35,29 @@ public class AsyncJudgmentService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final FinalJudgementRepository finalJudgementRepository;
     private final ChatRoomCacheService chatRoomCacheService;
+    private final ChatRoomEventPublisher chatRoomEventPublisher;
+    private final ChatMessageStreamDrainer chatMessageStreamDrainer;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final long PROGRESS_INTERVAL_MS = 200L;
+
+    public AsyncJudgmentService(OpenAiChatProcessor openAiChatProcessor,
+                                ChatRoomRepository chatRoomRepository,
+                                ChatRoomMemberRepository chatRoomMemberRepository,
+                                FinalJudgementRepository finalJudgementRepository,
+                                ChatRoomCacheService chatRoomCacheService,
+                                ChatRoomEventPublisher chatRoomEventPublisher,
+                                ChatMessageStreamDrainer chatMessageStreamDrainer,
+                                PlatformTransactionManager transactionManager) {
+        this.openAiChatProcessor = openAiChatProcessor;
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.finalJudgementRepository = finalJudgementRepository;
+        this.chatRoomCacheService = chatRoomCacheService;
+        this.chatRoomEventPublisher = chatRoomEventPublisher;
+        this.chatMessageStreamDrainer = chatMessageStreamDrainer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 비동기로 AI 판결 분석 후 결과를 DB에 저장
@@ -36,57 +65,89 @@ public class AsyncJudgmentService {
      *
      * @param chatRoomId 분석할 채팅방 ID
      */
-    @Async("aiAnalysisExecutor")
+    @Async("aiJudgmentExecutor")
     public void analyzeAndSave(Long chatRoomId) {
         try {
             log.debug("Starting judgment analysis for chatRoomId: {}", chatRoomId);
 
-            // 이미 판결문이 존재하면 처리하지 않음
-            if (finalJudgementRepository.existsByChatRoom_Id(chatRoomId)) {
-                log.info("FinalJudgement already exists for chatRoomId: {}, skipping analysis", chatRoomId);
-                return;
-            }
-
-            // 참여자 정보 추출 (원고/피고)
-            ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                    .orElseThrow(ChatRoomNotFoundException::new);
-
-            ParticipantInfo participantInfo = extractParticipants(chatRoom);
-
-            // AI 정밀 분석 호출
-            AnalysisResult result = openAiChatProcessor.analyzeDetailed(chatRoomId);
-
-            // FinalJudgement 엔티티 생성 및 저장
-            FinalJudgement finalJudgement = FinalJudgement.create(
-                    chatRoom,
-                    result.getWinner(),
-                    participantInfo.plaintiff(),
-                    participantInfo.defendant(),
-                    result.getWinnerLogicScore(),
-                    result.getWinnerEmpathyScore(),
-                    result.getJudgmentComment(),
-                    result.getWinnerReason(),
-                    result.getLoserReason()
-            );
-
-            chatRoom.completeReport();
-            chatRoomRepository.save(chatRoom);
-            finalJudgementRepository.save(finalJudgement);
-
-            // Redis status 캐시 업데이트 (DONE 상태로 변경)
-            try {
-                chatRoomCacheService.setStatus(chatRoomId, ChatRoom.RoomStatus.DONE, null);
-                log.debug("Updated status cache to DONE for room {}", chatRoomId);
-            } catch (Exception e) {
-                log.warn("Failed to update status cache for room {}: {}", chatRoomId, e.getMessage());
+            // 빠른 전송 모드에서 아직 DB로 옮겨지지 않은 메시지까지 판결에 반영 (판결 트랜잭션을 열기 전에 옮김)
+            if (!chatMessageStreamDrainer.awaitDrained(chatRoomId)) {
+                throw new IllegalStateException("Message stream of room " + chatRoomId + " was not drained");
             }
 
-            log.info("Judgment analysis completed and saved for chatRoomId: {}", chatRoomId);
+            transactionTemplate.executeWithoutResult(status -> judge(chatRoomId));
 
         } catch (Exception e) {
-            // 비동기 에러는 로그만 남김
+            // 비동기 에러는 로그를 남기고 구독자에게 실패 알림
             log.error("Failed to analyze judgment for chatRoomId {}: {}", chatRoomId, e.getMessage(), e);
+            chatRoomEventPublisher.publishJudgment(chatRoomId, JudgmentNotificationDto.error("AI 분석 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 판결 분석 및 저장 (트랜잭션 안에서 실행)
+     */
+    private void judge(Long chatRoomId) {
+        // 이미 판결문이 존재하면 처리하지 않음
+        if (finalJudgementRepository.existsByChatRoom_Id(chatRoomId)) {
+            log.info("FinalJudgement already exists for chatRoomId: {}, skipping analysis", chatRoomId);
+            return;
+        }
+
+        // 참여자 정보 추출 (원고/피고)
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(ChatRoomNotFoundException::new);
+
+        ParticipantInfo participantInfo = extractParticipants(chatRoom);
+
+        // AI 정밀 분석 호출 (판결 코멘트는 생성되는 대로 구독자에게 전송)
+        AnalysisResult result = openAiChatProcessor.analyzeDetailed(chatRoomId, progressPublisher(chatRoomId));
+
+        // FinalJudgement 엔티티 생성 및 저장
+        FinalJudgement finalJudgement = FinalJudgement.create(
+                chatRoom,
+                result.getWinner(),
+                participantInfo.plaintiff(),
+                participantInfo.defendant(),
+                result.getWinnerLogicScore(),
+                result.getWinnerEmpathyScore(),
+                result.getJudgmentComment(),
+                result.getWinnerReason(),
+                result.getLoserReason()
+        );
+
+        chatRoom.completeReport();
+        chatRoomRepository.save(chatRoom);
+        finalJudgementRepository.save(finalJudgement);
+
+        // Redis status 캐시 업데이트 (DONE 상태로 변경)
+        try {
+            chatRoomCacheService.setStatus(chatRoomId, ChatRoom.RoomStatus.DONE, null);
+            log.debug("Updated status cache to DONE for room {}", chatRoomId);
+        } catch (Exception e) {
+            log.warn("Failed to update status cache for room {}: {}", chatRoomId, e.getMessage());
         }
+
+        // 커밋 후 최종 판결 결과 브로드캐스트
+        chatRoomEventPublisher.publishJudgment(chatRoomId, JudgmentNotificationDto.from(finalJudgement));
+
+        log.info("Judgment analysis completed and saved for chatRoomId: {}", chatRoomId);
+    }
+
+    /**
+     * 판결 코멘트 중간 결과 전송 콜백
+     * 조각마다 보내지 않도록 PROGRESS_INTERVAL_MS 간격으로만 지금까지의 코멘트를 전송 (첫 조각은 바로 전송)
+     */
+    private Consumer<String> progressPublisher(Long chatRoomId) {
+        long[] lastPublishedAt = {0L};
+        return comment -> {
+            long now = System.currentTimeMillis();
+            if (now - lastPublishedAt[0] < PROGRESS_INTERVAL_MS) {
+                return;
+            }
+            lastPublishedAt[0] = now;
+            chatRoomEventPublisher.publishJudgmentProgress(chatRoomId, JudgmentNotificationDto.progress(comment));
+        };
     }
 
     /**
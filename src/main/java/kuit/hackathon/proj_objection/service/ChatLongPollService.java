@@ -0,0 +1,95 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.dto.response.ChatPollResponseDto;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 롱폴링: 변경 사항이 없으면 요청을 대기시키고, 채팅방 신호 또는 타임아웃 시 다시 폴링하여 응답
+ */
+@Slf4j
+@Service
+public class ChatLongPollService {
+
+    private final ChatPollService chatPollService;
+    private final ChatRoomSignalService chatRoomSignalService;
+    private final Executor chatPollExecutor;
+    private final long maxWaitMs;
+
+    public ChatLongPollService(ChatPollService chatPollService,
+                               ChatRoomSignalService chatRoomSignalService,
+                               @Qualifier("chatPollExecutor") Executor chatPollExecutor,
+                               @Value("${chat.poll.max-wait-ms:30000}") long maxWaitMs) {
+        this.chatPollService = chatPollService;
+        this.chatRoomSignalService = chatRoomSignalService;
+        this.chatPollExecutor = chatPollExecutor;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    /**
+     * 새 메시지가 있으면 즉시 응답하고, 없으면 최대 waitMs 동안 채팅방 신호를 기다린 뒤 응답
+     * 멤버십 검증 실패 등 즉시 폴링의 예외는 호출 스레드에서 그대로 전파된다.
+     *
+     * @param chatRoomId    채팅방 ID
+     * @param lastMessageId 클라이언트가 마지막으로 받은 메시지 ID
+     * @param waitMs        최대 대기 시간 (ms, chat.poll.max-wait-ms로 상한 제한)
+     * @param user          요청 사용자
+     * @return 폴링 응답 future
+     */
+    public CompletableFuture<ChatPollResponseDto> poll(Long chatRoomId, Long lastMessageId, long waitMs, User user) {
+        long effectiveWaitMs = getEffectiveWaitMs(waitMs);
+
+        // 즉시 폴링 전에 먼저 대기 등록해야 그 사이에 발생한 신호를 놓치지 않음
+        CompletableFuture<Void> signal = chatRoomSignalService.await(chatRoomId);
+
+        ChatPollResponseDto immediate;
+        try {
+            immediate = chatPollService.poll(chatRoomId, lastMessageId, user);
+        } catch (RuntimeException e) {
+            signal.cancel(false);
+            throw e;
+        }
+
+        if (effectiveWaitMs == 0 || hasUpdates(immediate)) {
+            signal.cancel(false);
+            return CompletableFuture.completedFuture(immediate);
+        }
+
+        log.debug("Parking long poll for room {} up to {}ms", chatRoomId, effectiveWaitMs);
+        return signal
+                .completeOnTimeout(null, effectiveWaitMs, TimeUnit.MILLISECONDS)
+                .thenApplyAsync(v -> chatPollService.poll(chatRoomId, lastMessageId, user), chatPollExecutor)
+                .exceptionally(ex -> fallbackOnRejection(chatRoomId, immediate, ex));
+    }
+
+    // 폴링 스레드 풀이 다시 폴링하는 작업을 거절하면(포화/종료) 500 대신 대기 전 폴링 결과로 응답
+    // 클라이언트는 같은 lastMessageId로 다시 폴링하므로 놓치는 메시지는 없음
+    private ChatPollResponseDto fallbackOnRejection(Long chatRoomId, ChatPollResponseDto immediate, Throwable ex) {
+        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+        if (cause instanceof RejectedExecutionException) {
+            log.warn("Long poll re-poll rejected for room {}, responding with the parked result", chatRoomId);
+            return immediate;
+        }
+        throw (ex instanceof CompletionException completionException) ? completionException : new CompletionException(ex);
+    }
+
+    public long getEffectiveWaitMs(long waitMs) {
+        return Math.max(0, Math.min(waitMs, maxWaitMs));
+    }
+
+    // 새 메시지가 있거나 더 이상 변경될 일이 없는 방(DONE)이면 대기하지 않음
+    private boolean hasUpdates(ChatPollResponseDto response) {
+        return !response.getMessages().isEmpty()
+                || response.getChatRoomStatus() == ChatRoom.RoomStatus.DONE;
+    }
+}
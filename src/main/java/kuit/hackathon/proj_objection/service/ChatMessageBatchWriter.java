@@ -0,0 +1,135 @@
+package kuit.hackathon.proj_objection.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import kuit.hackathon.proj_objection.entity.ChatMessage;
+import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메시지 저장 그룹 커밋 (chat.message.batch-write.enabled=true일 때 사용)
+ *
+ * IDENTITY 키는 폴링(id > lastMessageId)이 노드와 무관하게 증가하는 ID에 의존하므로 유지하고,
+ * 대신 동시에 들어온 메시지들을 한 트랜잭션으로 묶어 커밋 횟수(redo log flush)를 줄인다.
+ * - 요청 스레드는 대기열에 메시지를 넣고 flushLock을 잡은 스레드(리더)가 쌓인 메시지를 한 번에 저장
+ * - 리더가 저장하는 동안 들어온 메시지는 다음 리더가 묶어서 저장하므로 별도 타이머 없이 부하에 따라 묶음 크기가 커짐
+ * - 리더는 자신의 커넥션으로 저장하므로 추가 커넥션을 점유하지 않음 (호출 측은 트랜잭션 밖에서 호출해야 함)
+ * - 묶음 저장이 실패하면 한 건씩 다시 저장하여 문제 있는 메시지만 실패 처리
+ */
+@Slf4j
+@Service
+public class ChatMessageBatchWriter {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSizeSummary;
+
+    private final ConcurrentLinkedQueue<PendingMessage> queue = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ChatMessageBatchWriter(ChatMessageRepository chatMessageRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.message.batch-write.enabled:false}") boolean enabled,
+                                  @Value("${chat.message.batch-write.max-size:50}") int maxBatchSize) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batchSizeSummary = DistributionSummary.builder("chat.message.write.batch.size")
+                .description("Number of chat messages committed in one transaction")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 메시지를 저장하고 커밋될 때까지 대기
+     *
+     * @param message 저장할 메시지
+     * @return ID와 생성 시간이 채워진 메시지
+     */
+    public ChatMessage write(ChatMessage message) {
+        PendingMessage pending = new PendingMessage(message);
+        queue.add(pending);
+
+        flushLock.lock();
+        try {
+            // 앞선 리더가 이미 함께 저장했으면 바로 반환
+            while (!pending.result.isDone()) {
+                flush();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void flush() {
+        List<PendingMessage> batch = new ArrayList<>();
+        PendingMessage next;
+        while (batch.size() < maxBatchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    chatMessageRepository.saveAll(batch.stream().map(PendingMessage::message).toList()));
+            batchSizeSummary.record(batch.size());
+            batch.forEach(pending -> pending.result.complete(pending.message));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            log.warn("Batched insert of {} chat messages failed, retrying one by one: {}", batch.size(), e.getMessage());
+            batch.forEach(this::saveOne);
+        }
+    }
+
+    private void saveOne(PendingMessage pending) {
+        // 롤백된 묶음에서 이미 ID가 채워졌을 수 있으므로 새 엔티티로 저장
+        ChatMessage message = ChatMessage.create(
+                pending.message.getChatRoom(), pending.message.getSender(), pending.message.getContent());
+        try {
+            ChatMessage saved = transactionTemplate.execute(status -> chatMessageRepository.save(message));
+            batchSizeSummary.record(1);
+            pending.result.complete(saved);
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    private record PendingMessage(ChatMessage message, CompletableFuture<ChatMessage> result) {
+
+        private PendingMessage(ChatMessage message) {
+            this(message, new CompletableFuture<>());
+        }
+    }
+}
@@ -2,23 +2,24 @@ package kuit.hackathon.proj_objection.service;
 
 import kuit.hackathon.proj_objection.dto.common.ChatMessageDto;
 import kuit.hackathon.proj_objection.dto.common.ChatMessageListDto;
+import kuit.hackathon.proj_objection.dto.common.ChatMessageStreamEntry;
+import kuit.hackathon.proj_objection.dto.common.ChatPollMessageDto;
+import kuit.hackathon.proj_objection.dto.response.ChatMessagePageResponseDto;
 import kuit.hackathon.proj_objection.entity.ChatMessage;
 import kuit.hackathon.proj_objection.entity.ChatRoom;
 import kuit.hackathon.proj_objection.entity.ChatRoomMember;
 import kuit.hackathon.proj_objection.entity.User;
 import kuit.hackathon.proj_objection.exception.ChatRoomClosedException;
-import kuit.hackathon.proj_objection.exception.ChatRoomMemberNotFoundException;
 import kuit.hackathon.proj_objection.exception.ChatRoomNotFoundException;
 import kuit.hackathon.proj_objection.exception.MessageSendPermissionDeniedException;
+import kuit.hackathon.proj_objection.exception.MessageSendUnavailableException;
 import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
-import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
 import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,14 +28,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Service
 public class ChatMessageService {
+    // 페이지 조회 시 한 번에 가져오는 메시지 수 상한
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatRoomMemberRepository chatRoomMemberRepository;
-    private final DebateAnalysisService debateAnalysisService;
+    private final DebateAnalysisScheduler debateAnalysisScheduler;
     private final ChatRoomCacheService chatRoomCacheService;
+    private final ChatRoomMemberCacheService chatRoomMemberCacheService;
+    private final ChatRoomEventPublisher chatRoomEventPublisher;
+    private final ChatMessageBatchWriter chatMessageBatchWriter;
+    private final ChatMessageStreamService chatMessageStreamService;
+    private final ChatRecentMessageCacheService chatRecentMessageCacheService;
 
     // 메시지 전송
-    @Transactional
+    // 그룹 커밋(ChatMessageBatchWriter)이 요청 트랜잭션과 별개로 커밋되도록 트랜잭션 없이 실행 (조회/저장은 각자의 트랜잭션)
     public ChatMessageDto sendMessage(Long chatRoomId, User sender, String content) {
         // 채팅방 존재 확인
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
@@ -48,48 +56,78 @@ public class ChatMessageService {
         }
 
         // 메시지 전송자가 채팅방 멤버인지 확인
-        ChatRoomMember senderMember = chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, sender)
-                .orElseThrow(ChatRoomMemberNotFoundException::new);
+        ChatRoomMember.MemberRole senderRole = chatRoomMemberCacheService.getOrLoadRole(chatRoom, sender);
 
         // OBSERVER는 메시지 전송 불가
 //        if (senderMember.getRole() == ChatRoomMember.MemberRole.OBSERVER) {
 //            throw new MessageSendPermissionDeniedException();
 //        }
-        if(senderMember.isObserver()){
+        if(senderRole == ChatRoomMember.MemberRole.OBSERVER){
             throw new MessageSendPermissionDeniedException();
         }
 
-        // 메시지 저장
-        ChatMessage message = ChatMessage.create(chatRoom, sender, content);
-        ChatMessage savedMessage = chatMessageRepository.save(message);
+        // 빠른 전송 모드: Redis Stream에 추가하고 바로 응답 (DB 저장과 분석 요청은 ChatMessageStreamDrainer가 처리)
+        // Redis 오류 시 DB에 직접 저장하지 않고 실패 처리
+        // (IDENTITY로 발급된 ID가 스트림에 남은 메시지보다 작을 수 있어, 마지막 ID 이후만 조회하는 폴링/대화 내용 캐시가 건너뜀)
+        ChatMessageStreamEntry streamed = null;
+        if (chatMessageStreamService.isEnabled()) {
+            streamed = chatMessageStreamService.append(chatRoomId, sender, content);
+            if (streamed == null) {
+                throw new MessageSendUnavailableException();
+            }
+        }
+
+        ChatMessageDto messageDto;
+        if (streamed != null) {
+            messageDto = new ChatMessageDto(
+                    streamed.getMessageId(),
+                    sender.getId(),
+                    sender.getNickname(),
+                    streamed.getContent(),
+                    streamed.getCreatedAt(),
+                    ChatMessageDto.MessageType.OTHER // 브로드캐스트시에는 OTHER로 설정
+            );
+        } else {
+            // 메시지 저장 (반환 시점에 커밋 완료)
+            ChatMessage message = ChatMessage.create(chatRoom, sender, content);
+            ChatMessage savedMessage = chatMessageBatchWriter.isEnabled()
+                    ? chatMessageBatchWriter.write(message)
+                    : chatMessageRepository.save(message);
+
+            messageDto = new ChatMessageDto(
+                    savedMessage.getId(),
+                    sender.getId(),
+                    sender.getNickname(),
+                    savedMessage.getContent(),
+                    savedMessage.getCreatedAt(),
+                    ChatMessageDto.MessageType.OTHER // 브로드캐스트시에는 OTHER로 설정
+            );
+        }
+
+        // 최근 메시지 링에 추가 (상태 캐시의 lastMessageId도 같은 스크립트에서 함께 올려 폴링이 링에서 새 메시지를 찾음)
+        chatRecentMessageCacheService.append(chatRoomId, new ChatPollMessageDto(
+                messageDto.getMessageId(),
+                messageDto.getSenderNickName(),
+                messageDto.getContent(),
+                messageDto.getCreatedAt()
+        ));
 
-        // Redis lastMessageId 캐시 업데이트
+        // Redis lastMessageId 캐시 업데이트 (링 기록에 실패한 경우에도 반영하고, 모든 노드의 L1 캐시를 무효화)
         try {
-            chatRoomCacheService.setLastMessageId(chatRoomId, savedMessage.getId());
+            chatRoomCacheService.setLastMessageId(chatRoomId, messageDto.getMessageId());
         } catch (Exception e) {
             log.warn("Failed to update lastMessageId cache for room {}: {}", chatRoomId, e.getMessage());
             // Redis 실패해도 메시지 전송은 계속 진행
         }
 
-        ChatMessageDto messageDto = new ChatMessageDto(
-                savedMessage.getId(),
-                sender.getId(),
-                sender.getNickname(),
-                savedMessage.getContent(),
-                savedMessage.getCreatedAt(),
-                ChatMessageDto.MessageType.OTHER // 브로드캐스트시에는 OTHER로 설정
-        );
+        // 구독자에게 새 메시지 브로드캐스트
+        chatRoomEventPublisher.publishMessage(chatRoomId, messageDto);
 
-        // 트랜잭션 커밋 후 비동기 AI 분석 트리거
+        // 비동기 AI 분석 요청 (채팅방별로 병합되어 실행)
         // 메시지가 DB에 완전히 커밋된 후 분석이 시작되어 레이스 컨디션 방지
-        TransactionSynchronizationManager.registerSynchronization(
-                new TransactionSynchronization() {
-                    @Override
-                    public void afterCommit() {
-                        debateAnalysisService.analyzeAndUpdateScores(chatRoomId);
-                    }
-                }
-        );
+        if (streamed == null) {
+            debateAnalysisScheduler.request(chatRoomId);
+        }
 
         return messageDto;
     }
@@ -102,25 +140,58 @@ public class ChatMessageService {
                 .orElseThrow(ChatRoomNotFoundException::new);
 
         // 사용자가 채팅방 멤버인지 확인
-        chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, user)
-                .orElseThrow(ChatRoomMemberNotFoundException::new);
+        chatRoomMemberCacheService.getOrLoadRole(chatRoom, user);
 
         // 메시지 조회 (시간 역순)
-        List<ChatMessage> messages = chatMessageRepository.findByChatRoomOrderByCreatedAtDesc(chatRoom);
+        List<ChatMessage> messages = chatMessageRepository.findByChatRoomOrderByIdDesc(chatRoom);
 
         // DTO 변환 (내가 보낸 메시지는 ME, 다른 사람 메시지는 OTHER)
         return messages.stream()
-                .map(msg -> new ChatMessageListDto(
-                        msg.getId(),
-                        msg.getSender().getNickname(),
-                        msg.getContent(),
-                        msg.getCreatedAt(),
-                        msg.getSender().getId().equals(user.getId())
-                                ? ChatMessageDto.MessageType.ME
-                                : ChatMessageDto.MessageType.OTHER
-                ))
+                .map(msg -> toListDto(msg, user))
+                .collect(Collectors.toList());
+    }
+
+    // 채팅방 메시지를 beforeId 이전부터 limit개씩 조회 (ID 역순, 키셋 페이지네이션)
+    @Transactional(readOnly = true)
+    public ChatMessagePageResponseDto getChatMessagePage(Long chatRoomId, User user, Long beforeId, int limit) {
+        // 채팅방 존재 확인
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(ChatRoomNotFoundException::new);
+
+        // 사용자가 채팅방 멤버인지 확인
+        chatRoomMemberCacheService.getOrLoadRole(chatRoom, user);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<ChatMessage> messages = chatMessageRepository.findMessagesWithSenderBefore(
+                chatRoom,
+                beforeId != null ? beforeId : Long.MAX_VALUE,
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        boolean hasMore = messages.size() > pageSize;
+        List<ChatMessageListDto> page = messages.stream()
+                .limit(pageSize)
+                .map(msg -> toListDto(msg, user))
                 .collect(Collectors.toList());
+
+        return ChatMessagePageResponseDto.builder()
+                .messages(page)
+                .nextBeforeId(hasMore ? page.get(page.size() - 1).getMessageId() : null)
+                .hasMore(hasMore)
+                .build();
     }
 
+    private ChatMessageListDto toListDto(ChatMessage msg, User user) {
+        return new ChatMessageListDto(
+                msg.getId(),
+                msg.getSender().getNickname(),
+                msg.getContent(),
+                msg.getCreatedAt(),
+                msg.getSender().getId().equals(user.getId())
+                        ? ChatMessageDto.MessageType.ME
+                        : ChatMessageDto.MessageType.OTHER
+        );
+    }
 
 }
@@ -0,0 +1,217 @@
+package kuit.hackathon.proj_objection.service;
+
+import jakarta.annotation.PreDestroy;
+import kuit.hackathon.proj_objection.dto.common.ChatMessageStreamEntry;
+import kuit.hackathon.proj_objection.entity.ChatMessage;
+import kuit.hackathon.proj_objection.repository.ChatMessageJdbcRepository;
+import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
+import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
+import kuit.hackathon.proj_objection.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빠른 전송 모드에서 Redis Stream에 쌓인 메시지를 주기적으로 MySQL에 옮김
+ *
+ * - 채팅방별 drain 락을 잡은 노드만 해당 채팅방을 옮겨 메시지가 ID 순서대로 커밋되도록 함
+ *   (대화 내용 캐시가 "마지막 ID 이후"만 조회하므로 순서가 뒤바뀌면 메시지를 건너뜀)
+ *   배치마다 락을 연장하며, 연장에 실패하면(락 만료 후 다른 노드가 가져감) 그 채팅방은 중단
+ * - 채팅방마다 최대 batch-size개씩 한 트랜잭션으로 저장하고, 커밋 후 스트림에서 제거(XACK + XDEL)
+ * - 저장에 실패한 메시지는 스트림에 남아 다음 주기에 다시 시도
+ * - 옮긴 뒤에 승률 분석을 요청 (분석은 DB의 대화 내용을 사용)
+ */
+@Slf4j
+@Service
+public class ChatMessageStreamDrainer {
+
+    private final ChatMessageStreamService chatMessageStreamService;
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserRepository userRepository;
+    private final DebateAnalysisScheduler debateAnalysisScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lockTtl;
+    private final long drainIntervalMs;
+    private final String consumerName = "drainer-" + UUID.randomUUID();
+    private final ScheduledExecutorService timer;
+
+    public ChatMessageStreamDrainer(ChatMessageStreamService chatMessageStreamService,
+                                    ChatMessageJdbcRepository chatMessageJdbcRepository,
+                                    ChatMessageRepository chatMessageRepository,
+                                    ChatRoomRepository chatRoomRepository,
+                                    UserRepository userRepository,
+                                    DebateAnalysisScheduler debateAnalysisScheduler,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${chat.message.fast-send.drain-batch-size:200}") int batchSize,
+                                    @Value("${chat.message.fast-send.drain-interval-ms:200}") long drainIntervalMs,
+                                    @Value("${chat.message.fast-send.drain-lock-ttl-ms:30000}") long lockTtlMs) {
+        this.chatMessageStreamService = chatMessageStreamService;
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.userRepository = userRepository;
+        this.debateAnalysisScheduler = debateAnalysisScheduler;
+        // 판결 생성 등 호출 측 트랜잭션과 무관하게 커밋되어야 스트림에서 지워도 안전함
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = Math.max(1, batchSize);
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+        this.drainIntervalMs = Math.max(1L, drainIntervalMs);
+
+        if (chatMessageStreamService.isEnabled()) {
+            this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "Chat-Message-Drain");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.scheduleWithFixedDelay(this::drainAll, drainIntervalMs, drainIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.timer = null;
+        }
+    }
+
+    /**
+     * 스트림에 메시지가 남아 있는 모든 채팅방을 옮김
+     */
+    public void drainAll() {
+        try {
+            for (Long chatRoomId : chatMessageStreamService.getActiveRoomIds()) {
+                drainRoom(chatRoomId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to drain message streams: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅방 스트림의 메시지를 모두 DB로 옮김 (다른 노드가 옮기는 중이면 건너뜀)
+     * 전체 대화가 DB에 있어야 하는 작업 전에는 awaitDrained()를 사용한다.
+     */
+    public void drainRoom(Long chatRoomId) {
+        if (!chatMessageStreamService.isEnabled()) {
+            return;
+        }
+
+        int drained = 0;
+        try {
+            if (!chatMessageStreamService.tryLockDrain(chatRoomId, consumerName, lockTtl)) {
+                return;
+            }
+            try {
+                List<ChatMessageStreamEntry> entries;
+                boolean first = true;
+                do {
+                    // 배치가 이어지는 동안 락이 만료되지 않도록 연장
+                    if (!first && !chatMessageStreamService.renewDrainLock(chatRoomId, consumerName, lockTtl)) {
+                        log.warn("Lost drain lock of room {}, stopping", chatRoomId);
+                        break;
+                    }
+                    first = false;
+                    entries = chatMessageStreamService.readForDrain(chatRoomId, consumerName, batchSize, lockTtl);
+                    if (entries.isEmpty()) {
+                        break;
+                    }
+                    persist(entries);
+                    chatMessageStreamService.acknowledge(chatRoomId, entries);
+                    drained += entries.size();
+                } while (entries.size() >= batchSize);
+            } finally {
+                chatMessageStreamService.unlockDrain(chatRoomId, consumerName);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to drain message stream of room {} (will retry): {}", chatRoomId, e.getMessage());
+        }
+
+        if (drained > 0) {
+            log.debug("Drained {} messages of room {} to DB", drained, chatRoomId);
+            debateAnalysisScheduler.request(chatRoomId);
+        }
+    }
+
+    /**
+     * 채팅방 스트림이 빌 때까지 옮김 (다른 노드가 drain 락을 잡고 있으면 풀리거나 만료될 때까지 기다림)
+     * 판결 생성처럼 전체 대화가 DB에 있어야 하는 작업 전에 호출한다.
+     * 옮긴 메시지가 보이도록 호출 측 트랜잭션을 열기 전에 호출해야 한다.
+     *
+     * @return 스트림이 비었으면 true, 락 만료 시간 안에 비우지 못했으면 false
+     */
+    public boolean awaitDrained(Long chatRoomId) {
+        if (!chatMessageStreamService.isEnabled()) {
+            return true;
+        }
+
+        long deadline = System.currentTimeMillis() + lockTtl.toMillis();
+        try {
+            while (true) {
+                drainRoom(chatRoomId);
+                if (!chatMessageStreamService.hasPending(chatRoomId)) {
+                    return true;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    log.warn("Message stream of room {} is still not empty after {}ms", chatRoomId, lockTtl.toMillis());
+                    return false;
+                }
+                Thread.sleep(drainIntervalMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("Failed to check message stream of room {}: {}", chatRoomId, e.getMessage());
+            return false;
+        }
+    }
+
+    private void persist(List<ChatMessageStreamEntry> entries) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chatMessageJdbcRepository.insertAll(entries));
+        } catch (DataIntegrityViolationException e) {
+            // 이미 저장된 메시지가 섞여 있으면(이전 노드가 커밋 후 XACK 전에 종료 등) 한 건씩 저장
+            log.warn("Batched drain of {} messages failed, retrying one by one: {}", entries.size(), e.getMessage());
+            entries.forEach(this::persistOne);
+        }
+    }
+
+    private void persistOne(ChatMessageStreamEntry entry) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chatMessageJdbcRepository.insertAll(List.of(entry)));
+        } catch (DuplicateKeyException e) {
+            ChatMessage existing = chatMessageRepository.findById(entry.getMessageId()).orElse(null);
+            if (existing != null && existing.getSender().getId().equals(entry.getSenderId())
+                    && existing.getContent().equals(entry.getContent())) {
+                return;
+            }
+            // 빠른 전송 모드를 끈 동안 DB에 직접 저장된 메시지가 같은 ID를 차지한 경우(카운터가 남아 있던 경우) 새 ID로 저장
+            log.warn("Message id {} of room {} already taken, saving with a new id", entry.getMessageId(), entry.getChatRoomId());
+            transactionTemplate.executeWithoutResult(status -> chatMessageRepository.save(ChatMessage.create(
+                    chatRoomRepository.getReferenceById(entry.getChatRoomId()),
+                    userRepository.getReferenceById(entry.getSenderId()),
+                    entry.getContent())));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (timer == null) {
+            return;
+        }
+        timer.shutdownNow();
+        // 종료 전에 남은 메시지를 옮김 (실패해도 스트림에 남아 다른 노드가 회수)
+        drainAll();
+    }
+}
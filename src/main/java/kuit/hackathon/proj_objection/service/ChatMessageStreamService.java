@@ -0,0 +1,309 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.dto.common.ChatMessageStreamEntry;
+import kuit.hackathon.proj_objection.dto.common.ChatPollMessageDto;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 빠른 전송 모드(chat.message.fast-send.enabled)의 메시지 버퍼
+ * 메시지를 채팅방별 Redis Stream(chat:room:{id}:messages)에 쌓고, ChatMessageStreamDrainer가 소비자 그룹으로 읽어 MySQL에 옮긴다.
+ *
+ * - ID: 전역 카운터(chat:message:id)를 INCR하여 발급하고, 스트림 레코드 ID를 {messageId}-0으로 지정하여 ID 순서를 유지
+ *   카운터가 없으면(최초 사용, Redis 재시작) DB의 최대 ID로 초기화한 뒤 발급
+ * - 조회: 아직 DB로 옮겨지지 않은 메시지를 레코드 ID 범위(XRANGE)로 조회
+ * - 정리: DB 저장이 끝난 레코드는 XACK 후 삭제하고, 비어 있는 스트림은 키와 활성 채팅방 목록에서 제거
+ * Redis 오류 시 append는 null을 반환하며, 호출 측은 DB에 직접 저장하지 않고 전송을 실패 처리한다.
+ * (IDENTITY로 발급된 ID는 스트림에 남은 메시지보다 작을 수 있어 ID 순서가 깨짐)
+ */
+@Slf4j
+@Service
+public class ChatMessageStreamService {
+
+    private static final String KEY_MESSAGE_ID = "chat:message:id";
+    private static final String KEY_ACTIVE_ROOMS = "chat:message:stream:rooms";
+    private static final String GROUP = "drain";
+
+    private static final String FIELD_SENDER_ID = "senderId";
+    private static final String FIELD_SENDER_NICKNAME = "senderNickname";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_CREATED_AT = "createdAt";
+
+    // KEYS[1]=ID 카운터, KEYS[2]=채팅방 스트림, KEYS[3]=활성 채팅방 목록
+    // ARGV[1..4]=senderId/senderNickname/content/createdAt, ARGV[5]=채팅방 ID, ARGV[6]=소비자 그룹
+    // 카운터가 없으면 nil을 반환 (초기화 후 다시 호출)
+    private static final RedisScript<Long> APPEND = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return nil end
+            local id = redis.call('INCR', KEYS[1])
+            local created = redis.call('EXISTS', KEYS[2]) == 0
+            redis.call('XADD', KEYS[2], id .. '-0',
+                'senderId', ARGV[1], 'senderNickname', ARGV[2], 'content', ARGV[3], 'createdAt', ARGV[4])
+            if created then
+                redis.call('XGROUP', 'CREATE', KEYS[2], ARGV[6], '0')
+            end
+            redis.call('SADD', KEYS[3], ARGV[5])
+            return id
+            """, Long.class);
+
+    // 카운터를 되돌리지 않도록 더 클 때만 기록
+    private static final RedisScript<Long> INIT_MESSAGE_ID = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if tonumber(ARGV[1]) > current then
+                redis.call('SET', KEYS[1], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=채팅방 스트림, KEYS[2]=활성 채팅방 목록, ARGV[1]=소비자 그룹, ARGV[2]=채팅방 ID, ARGV[3..]=레코드 ID
+    private static final RedisScript<Long> ACKNOWLEDGE = new DefaultRedisScript<>("""
+            redis.call('XACK', KEYS[1], ARGV[1], unpack(ARGV, 3))
+            redis.call('XDEL', KEYS[1], unpack(ARGV, 3))
+            if redis.call('XLEN', KEYS[1]) == 0 then
+                redis.call('DEL', KEYS[1])
+                redis.call('SREM', KEYS[2], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    // 소유자가 같을 때만 만료 시간 연장
+    private static final RedisScript<Long> RENEW_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 소유자가 같을 때만 삭제
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final boolean enabled;
+
+    public ChatMessageStreamService(RedisTemplate<String, String> redisTemplate,
+                                    ChatMessageRepository chatMessageRepository,
+                                    @Value("${chat.message.fast-send.enabled:false}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.chatMessageRepository = chatMessageRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Key generator
+    private String keyStream(Long chatRoomId) {
+        return "chat:room:" + chatRoomId + ":messages";
+    }
+
+    private String keyDrainLock(Long chatRoomId) {
+        return "chat:room:" + chatRoomId + ":messages:drain";
+    }
+
+    /**
+     * 메시지 ID를 발급하고 채팅방 스트림에 추가
+     *
+     * @return 스트림에 추가된 메시지, Redis 오류 시 null
+     */
+    public ChatMessageStreamEntry append(Long chatRoomId, User sender, String content) {
+        // DB의 DATETIME(6) 정밀도에 맞춰 저장 전후 값이 같도록 함
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<String> keys = List.of(KEY_MESSAGE_ID, keyStream(chatRoomId), KEY_ACTIVE_ROOMS);
+        Object[] args = {String.valueOf(sender.getId()), sender.getNickname(), content, createdAt.toString(),
+                String.valueOf(chatRoomId), GROUP};
+
+        try {
+            Long messageId = redisTemplate.execute(APPEND, keys, args);
+            if (messageId == null) {
+                Long maxId = chatMessageRepository.findMaxId();
+                redisTemplate.execute(INIT_MESSAGE_ID, List.of(KEY_MESSAGE_ID), String.valueOf(maxId));
+                log.info("Initialized chat message id counter to {}", maxId);
+                messageId = redisTemplate.execute(APPEND, keys, args);
+            }
+            if (messageId == null) {
+                return null;
+            }
+            return new ChatMessageStreamEntry(messageId + "-0", messageId, chatRoomId, sender.getId(),
+                    sender.getNickname(), content, createdAt);
+        } catch (Exception e) {
+            log.warn("Failed to append message to stream for room {}: {}", chatRoomId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 아직 DB로 옮겨지지 않은 메시지 중 lastMessageId 이후 메시지 조회 (ID 오름차순)
+     *
+     * @return 메시지 목록, Redis 오류 시 빈 목록 (DB로 옮겨진 메시지는 DB에서 조회됨)
+     */
+    public List<ChatPollMessageDto> readAfter(Long chatRoomId, Long lastMessageId) {
+        try {
+            List<MapRecord<String, String, String>> records = streamOps().range(keyStream(chatRoomId),
+                    Range.rightUnbounded(Range.Bound.inclusive((lastMessageId + 1) + "-0")));
+            if (records == null) {
+                return List.of();
+            }
+            return records.stream()
+                    .map(record -> toEntry(chatRoomId, record))
+                    .map(entry -> new ChatPollMessageDto(entry.getMessageId(), entry.getSenderNickname(),
+                            entry.getContent(), entry.getCreatedAt()))
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.warn("Failed to read message stream for room {}: {}", chatRoomId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * DB로 옮길 메시지가 남아 있는 채팅방 ID 목록
+     */
+    public Set<Long> getActiveRoomIds() {
+        Set<String> members = redisTemplate.opsForSet().members(KEY_ACTIVE_ROOMS);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * 채팅방 스트림에 아직 DB로 옮기지 않은 메시지가 남아 있는지 확인
+     * (옮긴 메시지는 acknowledge에서 XDEL로 지우므로 스트림 길이로 판단)
+     */
+    public boolean hasPending(Long chatRoomId) {
+        Long size = streamOps().size(keyStream(chatRoomId));
+        return size != null && size > 0;
+    }
+
+    /**
+     * DB로 옮길 메시지를 ID 순서대로 최대 count개 읽음
+     * 읽고 저장하지 못한 메시지(pending)가 있으면 그것부터, 없으면 새 메시지를 읽는다.
+     * 다른 소비자(종료되었거나 락을 잃은 노드)의 pending 메시지는 minIdle 이상 처리되지 않은 것만 회수하고,
+     * 아직 회수할 수 없는 메시지가 있으면 그보다 뒤의 메시지를 먼저 저장하지 않도록 빈 목록을 반환한다.
+     * 채팅방 drain 락을 잡은 상태에서 호출해야 한다.
+     *
+     * @param minIdle 다른 소비자의 메시지를 회수하기 위한 최소 유휴 시간 (drain 락 만료 시간 이상)
+     */
+    public List<ChatMessageStreamEntry> readForDrain(Long chatRoomId, String consumer, int count, Duration minIdle) {
+        String key = keyStream(chatRoomId);
+        StreamOperations<String, String, String> ops = streamOps();
+        Consumer owner = Consumer.from(GROUP, consumer);
+
+        List<MapRecord<String, String, String>> records;
+        PendingMessages pending = ops.pending(key, GROUP, Range.unbounded(), count);
+        if (pending != null && !pending.isEmpty()) {
+            RecordId[] others = pending.stream()
+                    .filter(message -> !consumer.equals(message.getConsumerName()))
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+            if (others.length > 0) {
+                List<MapRecord<String, String, String>> claimed = ops.claim(key, GROUP, consumer, minIdle, others);
+                int claimedCount = claimed != null ? claimed.size() : 0;
+                if (claimedCount < others.length) {
+                    log.info("{} pending stream messages of room {} are still in flight on other consumers, waiting",
+                            others.length - claimedCount, chatRoomId);
+                    return List.of();
+                }
+                log.info("Claimed {} pending stream messages of room {} from other consumers", claimedCount, chatRoomId);
+            }
+            // pending 목록이 모두 이 소비자의 것이 되었으므로 ID 순서대로 다시 읽음
+            records = ops.read(owner, StreamReadOptions.empty().count(count), StreamOffset.create(key, ReadOffset.from("0")));
+        } else {
+            records = ops.read(owner, StreamReadOptions.empty().count(count),
+                    StreamOffset.create(key, ReadOffset.lastConsumed()));
+        }
+
+        if (records == null) {
+            return List.of();
+        }
+        List<ChatMessageStreamEntry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, String, String> record : records) {
+            entries.add(toEntry(chatRoomId, record));
+        }
+        entries.sort((a, b) -> Long.compare(a.getMessageId(), b.getMessageId()));
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * DB 저장이 끝난 메시지를 스트림에서 제거
+     */
+    public void acknowledge(Long chatRoomId, List<ChatMessageStreamEntry> entries) {
+        List<String> args = new ArrayList<>(entries.size() + 2);
+        args.add(GROUP);
+        args.add(String.valueOf(chatRoomId));
+        entries.forEach(entry -> args.add(entry.getRecordId()));
+        redisTemplate.execute(ACKNOWLEDGE, List.of(keyStream(chatRoomId), KEY_ACTIVE_ROOMS), args.toArray());
+    }
+
+    /**
+     * 채팅방 drain 락 획득 (한 채팅방의 메시지는 한 노드가 ID 순서대로 저장하도록 함)
+     */
+    public boolean tryLockDrain(Long chatRoomId, String owner, Duration ttl) {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(keyDrainLock(chatRoomId), owner, ttl);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    /**
+     * 채팅방 drain 락 만료 시간 연장
+     *
+     * @return 아직 락을 가지고 있으면 true (만료되어 다른 노드가 가져갔으면 false)
+     */
+    public boolean renewDrainLock(Long chatRoomId, String owner, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW_LOCK, List.of(keyDrainLock(chatRoomId)), owner,
+                String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    public void unlockDrain(Long chatRoomId, String owner) {
+        redisTemplate.execute(UNLOCK, List.of(keyDrainLock(chatRoomId)), owner);
+    }
+
+    private StreamOperations<String, String, String> streamOps() {
+        return redisTemplate.opsForStream();
+    }
+
+    private ChatMessageStreamEntry toEntry(Long chatRoomId, MapRecord<String, String, String> record) {
+        Map<String, String> fields = record.getValue();
+        String recordId = record.getId().getValue();
+        return new ChatMessageStreamEntry(
+                recordId,
+                record.getId().getTimestamp(),
+                chatRoomId,
+                Long.valueOf(fields.get(FIELD_SENDER_ID)),
+                fields.get(FIELD_SENDER_NICKNAME),
+                fields.get(FIELD_CONTENT),
+                LocalDateTime.parse(fields.get(FIELD_CREATED_AT))
+        );
+    }
+}
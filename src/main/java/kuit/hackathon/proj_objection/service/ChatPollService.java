@@ -1,13 +1,11 @@
 package kuit.hackathon.proj_objection.service;
 
 import kuit.hackathon.proj_objection.dto.common.ChatPollMessageDto;
-import kuit.hackathon.proj_objection.dto.common.ChatRoomStatusCache;
+import kuit.hackathon.proj_objection.dto.common.ChatRoomCacheSnapshot;
 import kuit.hackathon.proj_objection.dto.response.ChatPollResponseDto;
-import kuit.hackathon.proj_objection.entity.ChatMessage;
 import kuit.hackathon.proj_objection.entity.ChatRoom;
 import kuit.hackathon.proj_objection.entity.ChatRoomMember;
 import kuit.hackathon.proj_objection.entity.User;
-import kuit.hackathon.proj_objection.exception.ChatRoomMemberNotFoundException;
 import kuit.hackathon.proj_objection.exception.ChatRoomNotFoundException;
 import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
 import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
@@ -17,8 +15,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,24 +30,24 @@ public class ChatPollService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomCacheService chatRoomCacheService;
+    private final ChatRoomMemberCacheService chatRoomMemberCacheService;
+    private final ChatMessageStreamService chatMessageStreamService;
+    private final ChatRecentMessageCacheService chatRecentMessageCacheService;
 
     @Transactional(readOnly = true)
     public ChatPollResponseDto poll(Long chatRoomId, Long lastMessageId, User user) {
-        // 1. 보안: 채팅방 존재 확인 + 멤버십 검증 (항상 DB 조회)
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(ChatRoomNotFoundException::new);
-        chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, user)
-                .orElseThrow(ChatRoomMemberNotFoundException::new);
+        // 1. 보안: 채팅방 존재 확인 + 멤버십 검증 (멤버십 캐시 HIT 시 DB 조회 생략)
+        ChatRoom chatRoom = getChatRoomAsMember(chatRoomId, user);
 
         Long effectiveLastMessageId = (lastMessageId != null) ? lastMessageId : 0L;
 
         try {
-            // 2. Redis에서 lastMessageId 조회
-            Long redisLastMessageId = chatRoomCacheService.getLastMessageId(chatRoomId);
+            // 2. Redis에서 채팅방 상태 스냅샷 조회 (HGETALL 1회)
+            ChatRoomCacheSnapshot snapshot = chatRoomCacheService.getSnapshot(chatRoomId);
 
-            if (redisLastMessageId != null) {
+            if (snapshot != null) {
                 // 2-A. 캐시 HIT: Redis 기반 폴링
-                return pollWithCache(chatRoom, effectiveLastMessageId, redisLastMessageId);
+                return pollWithCache(chatRoom, effectiveLastMessageId, snapshot);
             } else {
                 // 2-B. 캐시 MISS: DB 조회 후 캐시 생성
                 return pollWithoutCache(chatRoom, effectiveLastMessageId);
@@ -61,42 +61,41 @@ public class ChatPollService {
     }
 
     /**
-     * 캐시 HIT 시: Redis에서 데이터 조회, 새 메시지만 DB에서 fetch
+     * 멤버십 캐시 HIT 시 SELECT 없이 프록시 참조를 사용 (캐시 MISS 경로에서만 실제 로딩됨)
+     * 캐시 MISS 시 DB에서 채팅방/멤버를 확인한 뒤 멤버십 캐시를 채움
      */
-    private ChatPollResponseDto pollWithCache(ChatRoom chatRoom, Long clientLastMessageId,
-                                              Long redisLastMessageId) {
-        List<ChatPollMessageDto> messages = List.of();
-
-        // 새 메시지가 있는 경우에만 DB 조회
-        if (redisLastMessageId > clientLastMessageId) {
-            List<ChatMessage> newMessages = chatMessageRepository
-                    .findMessagesWithSender(chatRoom, clientLastMessageId);  // JOIN FETCH로 N+1 해결
-
-            messages = newMessages.stream()
-                    .map(msg -> new ChatPollMessageDto(
-                            msg.getId(),
-                            msg.getSender().getNickname(),
-                            msg.getContent(),
-                            msg.getCreatedAt()
-                    ))
-                    .collect(Collectors.toList());
+    private ChatRoom getChatRoomAsMember(Long chatRoomId, User user) {
+        if (chatRoomMemberCacheService.getRole(chatRoomId, user.getId()) != null) {
+            return chatRoomRepository.getReferenceById(chatRoomId);
         }
 
-        // Redis에서 percent와 status 조회
-        Map<String, Integer> percent = chatRoomCacheService.getPercent(chatRoom.getId());
-        ChatRoomStatusCache statusCache = chatRoomCacheService.getStatus(chatRoom.getId());
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(ChatRoomNotFoundException::new);
+        chatRoomMemberCacheService.getOrLoadRole(chatRoom, user);
+        return chatRoom;
+    }
+
+    /**
+     * 캐시 HIT 시: Redis에서 데이터 조회, 새 메시지는 최근 메시지 링에서 조회하고 링 범위 밖일 때만 DB에서 fetch
+     */
+    private ChatPollResponseDto pollWithCache(ChatRoom chatRoom, Long clientLastMessageId,
+                                              ChatRoomCacheSnapshot snapshot) {
+        List<ChatPollMessageDto> messages = List.of();
 
-        // 부분 캐시 미스 → DB 재조회하여 캐시 복구
-        if (percent == null || statusCache == null) {
-            log.warn("Partial cache miss for room {}, rebuilding cache", chatRoom.getId());
-            return pollWithoutCache(chatRoom, clientLastMessageId);
+        // 새 메시지가 있는 경우에만 조회 (링 → DB 순)
+        if (snapshot.getLastMessageId() > clientLastMessageId) {
+            messages = chatRecentMessageCacheService.findAfter(
+                    chatRoom.getId(), clientLastMessageId, snapshot.getLastMessageId());
+            if (messages == null) {
+                messages = findNewMessages(chatRoom, clientLastMessageId);
+            }
         }
 
         return ChatPollResponseDto.builder()
                 .messages(messages)
-                .chatRoomStatus(statusCache.getStatus())
-                .finishRequestNickname(statusCache.getFinishRequestNickname())
-                .percent(percent)
+                .chatRoomStatus(snapshot.getStatus())
+                .finishRequestNickname(snapshot.getFinishRequestNickname())
+                .percent(snapshot.getPercent())
                 .build();
     }
 
@@ -105,8 +104,7 @@ public class ChatPollService {
      */
     private ChatPollResponseDto pollWithoutCache(ChatRoom chatRoom, Long clientLastMessageId) {
         // 기존 로직: DB에서 모든 데이터 조회 (JOIN FETCH 사용으로 N+1 해결)
-        List<ChatMessage> messages = chatMessageRepository
-                .findMessagesWithSender(chatRoom, clientLastMessageId);
+        List<ChatPollMessageDto> messages = findNewMessages(chatRoom, clientLastMessageId);
 
         // PARTICIPANT만 필터링하여 percent 계산
         List<ChatRoomMember> allMembers = chatRoomMemberRepository.findByChatRoom(chatRoom);
@@ -123,21 +121,40 @@ public class ChatPollService {
 
         // Redis 캐시 생성 (비동기 아님, but 에러 시 무시)
         try {
-            if (!messages.isEmpty()) {
-                Long lastMsgId = messages.get(messages.size() - 1).getId();
-                chatRoomCacheService.setLastMessageId(chatRoom.getId(), lastMsgId);
-            } else {
-                // 메시지가 하나도 없으면 0으로 캐싱 (첫 폴링 케이스)
-                chatRoomCacheService.setLastMessageId(chatRoom.getId(), 0L);
-            }
-            chatRoomCacheService.setPercent(chatRoom.getId(), percent);
-            chatRoomCacheService.setStatus(chatRoom.getId(), chatRoom.getStatus(), finishRequestNickname);
+            // 메시지가 하나도 없으면 0으로 캐싱 (첫 폴링 케이스)
+            Long lastMsgId = !messages.isEmpty()
+                    ? messages.get(messages.size() - 1).getMessageId()
+                    : 0L;
+            chatRoomCacheService.putSnapshot(chatRoom.getId(), new ChatRoomCacheSnapshot(
+                    lastMsgId,
+                    chatRoom.getStatus(),
+                    finishRequestNickname,
+                    percent
+            ));
         } catch (Exception e) {
             log.warn("Failed to create cache for room {}: {}", chatRoom.getId(), e.getMessage());
             // 캐시 생성 실패해도 응답은 정상 반환
         }
 
-        List<ChatPollMessageDto> messageDtos = messages.stream()
+        return ChatPollResponseDto.builder()
+                .messages(messages)
+                .chatRoomStatus(chatRoom.getStatus())
+                .finishRequestNickname(finishRequestNickname)
+                .percent(percent)
+                .build();
+    }
+
+    /**
+     * lastMessageId 이후 메시지 조회 (ID 오름차순, JOIN FETCH로 N+1 해결)
+     * 빠른 전송 모드에서는 아직 DB로 옮겨지지 않은 메시지를 스트림에서 함께 조회한다.
+     * 스트림을 먼저 읽어야 그 사이 DB로 옮겨지고 스트림에서 지워진 메시지를 놓치지 않는다.
+     */
+    private List<ChatPollMessageDto> findNewMessages(ChatRoom chatRoom, Long lastMessageId) {
+        List<ChatPollMessageDto> streamed = chatMessageStreamService.isEnabled()
+                ? chatMessageStreamService.readAfter(chatRoom.getId(), lastMessageId)
+                : List.of();
+
+        List<ChatPollMessageDto> stored = chatMessageRepository.findMessagesWithSender(chatRoom, lastMessageId).stream()
                 .map(msg -> new ChatPollMessageDto(
                         msg.getId(),
                         msg.getSender().getNickname(),
@@ -146,11 +163,14 @@ public class ChatPollService {
                 ))
                 .collect(Collectors.toList());
 
-        return ChatPollResponseDto.builder()
-                .messages(messageDtos)
-                .chatRoomStatus(chatRoom.getStatus())
-                .finishRequestNickname(finishRequestNickname)
-                .percent(percent)
-                .build();
+        if (streamed.isEmpty()) {
+            return stored;
+        }
+
+        // DB로 옮겨졌지만 아직 스트림에서 지워지지 않은 메시지는 중복되므로 ID 기준으로 합침
+        TreeMap<Long, ChatPollMessageDto> merged = new TreeMap<>();
+        stored.forEach(message -> merged.put(message.getMessageId(), message));
+        streamed.forEach(message -> merged.putIfAbsent(message.getMessageId(), message));
+        return new ArrayList<>(merged.values());
     }
 }
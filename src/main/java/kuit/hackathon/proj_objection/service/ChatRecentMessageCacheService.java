@@ -0,0 +1,256 @@
+package kuit.hackathon.proj_objection.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kuit.hackathon.proj_objection.dto.common.ChatPollMessageDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼
+ * 채팅방별 Redis 정렬 집합(chat:room:{id}:recent, score=메시지 ID)에 폴링 응답 형태의 최근 메시지를 최대 N개 보관하고,
+ * 로컬 메모리에 사본을 두어 같은 방을 폴링하는 요청들이 DB 조회 없이 새 메시지를 받도록 한다.
+ *
+ * - floor(chat:room:{id}:recent:floor): floor보다 큰 ID의 메시지는 모두 링에 있음을 뜻함
+ *   링은 첫 메시지가 추가될 때 "그 메시지 직전"을 floor로 하여 만들어지고, 오래된 메시지가 밀려나면 floor가 올라간다.
+ * - 클라이언트의 lastMessageId가 floor 이상이고 링이 상태 캐시의 lastMessageId까지 담고 있을 때만 링에서 응답하며,
+ *   그 외(재시작 직후, 오래 접속하지 않은 클라이언트, Redis 오류)에는 null을 반환하여 호출 측이 DB에서 조회한다.
+ * - 로컬 사본은 상태 캐시의 lastMessageId보다 뒤처졌을 때만 Redis에서 다시 읽으므로 새 메시지마다 노드당 1회만 읽는다.
+ * - 링 기록과 상태 캐시의 lastMessageId 증가는 한 스크립트로 처리하여, 링 기록으로 올라간 lastMessageId의 메시지는 항상 링에 있다.
+ * - 더 큰 ID가 이미 기록된 뒤에 작은 ID가 도착하면(커밋 순서가 ID 순서와 다른 경우) 그 사이 링이 이 메시지 없이 응답했을 수 있으므로
+ *   링을 비우고 floor를 지금까지 기록된 가장 큰 ID로 올린 뒤 모든 노드의 로컬 사본을 무효화한다. 그 이하 구간은 DB에서 조회한다.
+ *   (floor를 지우기만 하면 이후 더 작은 ID가 링을 다시 만들면서 그보다 큰 메시지가 빠진 구간을 응답할 수 있음)
+ * - 링 기록에 실패해도 같은 방법으로 기존 floor를 버려, 이 메시지가 빠진 링이 이후 메시지로 응답하지 않도록 한다.
+ *
+ * 한계: 작은 ID가 늦게 도착한 것은 그 메시지가 기록될 때에야 알 수 있다.
+ * 102가 101보다 먼저 커밋되어 기록되면, 그 사이의 폴링은 [102]를 받고 lastMessageId를 102로 올리므로 101을 받지 못한다.
+ * 이 커밋 순서 문제는 "lastMessageId 이후"를 조회하는 DB 폴링에도 원래 있던 것으로, 링이 해결하지는 않는다.
+ */
+@Slf4j
+@Service
+public class ChatRecentMessageCacheService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, RecentMessages> nearCache;
+    private final int capacity;
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    // KEYS[1]=링, KEYS[2]=floor, KEYS[3]=채팅방 상태 해시, ARGV[1]=TTL ms, ARGV[2]=최대 메시지 수, ARGV[3]=메시지 ID,
+    // ARGV[4]=메시지 JSON, ARGV[5]=링을 새로 만들 때의 floor (메시지 ID - 1)
+    // 링이 없으면 이 메시지부터 시작하고, 넘치면 오래된 메시지를 제거하며 floor를 올림
+    // floor나 링에 더 큰 ID가 있으면 링을 비우고 floor를 그 ID로 올린 뒤 0을 반환,
+    // 기록하면 상태 해시의 lastMessageId를 함께 올리고 1을 반환
+    private static final RedisScript<Long> APPEND = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                redis.call('DEL', KEYS[1])
+                redis.call('SET', KEYS[2], ARGV[5])
+            else
+                local newest = redis.call('GET', KEYS[2])
+                local last = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES')
+                if last[2] and tonumber(last[2]) > tonumber(newest) then
+                    newest = last[2]
+                end
+                if tonumber(newest) > tonumber(ARGV[3]) then
+                    redis.call('DEL', KEYS[1])
+                    redis.call('SET', KEYS[2], newest, 'PX', ARGV[1])
+                    return 0
+                end
+            end
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[4])
+            local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[2])
+            if overflow > 0 then
+                local evicted = redis.call('ZRANGE', KEYS[1], overflow - 1, overflow - 1, 'WITHSCORES')
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)
+                if tonumber(evicted[2]) > tonumber(redis.call('GET', KEYS[2])) then
+                    redis.call('SET', KEYS[2], evicted[2])
+                end
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                local current = tonumber(redis.call('HGET', KEYS[3], 'lastMessageId') or '0')
+                if tonumber(ARGV[3]) > current then
+                    redis.call('HSET', KEYS[3], 'lastMessageId', ARGV[3])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=링, KEYS[2]=floor, ARGV[1]=TTL ms, ARGV[2]=기록하지 못한 메시지 ID
+    // 링을 비우고 floor를 기존 floor, 링의 마지막 ID, 기록하지 못한 ID 중 가장 큰 값으로 올림
+    private static final RedisScript<Long> RESET = new DefaultRedisScript<>("""
+            local newest = ARGV[2]
+            local floor = redis.call('GET', KEYS[2])
+            if floor and tonumber(floor) > tonumber(newest) then
+                newest = floor
+            end
+            local last = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES')
+            if last[2] and tonumber(last[2]) > tonumber(newest) then
+                newest = last[2]
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], newest, 'PX', ARGV[1])
+            return 1
+            """, Long.class);
+
+    // floor와 메시지 목록(ID 오름차순)을 한 번에 조회, 링이 없으면 빈 목록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ = new DefaultRedisScript<>("""
+            local floor = redis.call('GET', KEYS[2])
+            if not floor then return {} end
+            local result = redis.call('ZRANGE', KEYS[1], 0, -1)
+            table.insert(result, 1, floor)
+            return result
+            """, List.class);
+
+    public ChatRecentMessageCacheService(RedisTemplate<String, String> redisTemplate,
+                                         ObjectMapper objectMapper,
+                                         @Value("${chat.cache.recent.size:100}") int capacity,
+                                         @Value("${chat.cache.recent.max-rooms:10000}") long nearCacheMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = Math.max(1, capacity);
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaxSize)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+    }
+
+    // Key generator
+    private String keyRecent(Long chatRoomId) {
+        return "chat:room:" + chatRoomId + ":recent";
+    }
+
+    private String keyFloor(Long chatRoomId) {
+        return "chat:room:" + chatRoomId + ":recent:floor";
+    }
+
+    /**
+     * 링에서 lastMessageId 이후 메시지 조회 (ID 오름차순)
+     *
+     * @param chatRoomId       채팅방 ID
+     * @param lastMessageId    클라이언트가 마지막으로 받은 메시지 ID
+     * @param latestMessageId  상태 캐시의 lastMessageId (링이 여기까지 담고 있어야 응답)
+     * @return 메시지 목록, 링이 해당 구간을 담고 있지 않거나 Redis 오류 시 null (DB 조회 필요)
+     */
+    public List<ChatPollMessageDto> findAfter(Long chatRoomId, Long lastMessageId, Long latestMessageId) {
+        RecentMessages recent = nearCache.getIfPresent(chatRoomId);
+        if (recent == null || recent.lastMessageId() < latestMessageId) {
+            // 같은 방을 폴링하는 요청들이 동시에 뒤처진 사본을 발견해도 Redis는 한 번만 읽음
+            recent = nearCache.asMap().compute(chatRoomId, (id, existing) ->
+                    existing != null && existing.lastMessageId() >= latestMessageId ? existing : load(id));
+        }
+
+        if (recent == null || !recent.covers(lastMessageId, latestMessageId)) {
+            return null;
+        }
+        return recent.after(lastMessageId);
+    }
+
+    /**
+     * 새 메시지를 링에 추가하고 상태 캐시의 lastMessageId를 함께 올림 (링이 없으면 이 메시지부터 시작)
+     */
+    public void append(Long chatRoomId, ChatPollMessageDto message) {
+        try {
+            Long appended = redisTemplate.execute(APPEND,
+                    List.of(keyRecent(chatRoomId), keyFloor(chatRoomId), ChatRoomCacheService.keyState(chatRoomId)),
+                    String.valueOf(TTL.toMillis()), String.valueOf(capacity),
+                    String.valueOf(message.getMessageId()), objectMapper.writeValueAsString(message),
+                    String.valueOf(message.getMessageId() - 1));
+            if (appended != null && appended == 0L) {
+                log.info("Message {} of room {} arrived after a newer one, resetting recent messages",
+                        message.getMessageId(), chatRoomId);
+                invalidate(chatRoomId);
+                return;
+            }
+            log.debug("Appended message {} to recent messages of room {}", message.getMessageId(), chatRoomId);
+        } catch (Exception e) {
+            log.warn("Failed to append message to recent messages of room {}: {}", chatRoomId, e.getMessage());
+            reset(chatRoomId, message.getMessageId());
+        }
+    }
+
+    /**
+     * 이 노드의 로컬 사본에서 채팅방 제거 (무효화 채널 수신 시 호출)
+     */
+    public void evictLocal(Long chatRoomId) {
+        // 진행 중인 로드가 있으면 끝날 때까지 기다렸다가 제거
+        nearCache.asMap().remove(chatRoomId);
+    }
+
+    // 이 메시지가 빠진 링이 이후 메시지로 범위를 넓혀 응답하지 않도록 링을 비우고 floor를 이 메시지 이상으로 올림
+    private void reset(Long chatRoomId, Long messageId) {
+        try {
+            redisTemplate.execute(RESET, List.of(keyRecent(chatRoomId), keyFloor(chatRoomId)),
+                    String.valueOf(TTL.toMillis()), String.valueOf(messageId));
+        } catch (Exception e) {
+            log.warn("Failed to reset recent messages of room {}: {}", chatRoomId, e.getMessage());
+        }
+        invalidate(chatRoomId);
+    }
+
+    // 이 노드는 즉시 비우고, 다른 노드에는 상태 캐시 무효화 채널로 알림
+    private void invalidate(Long chatRoomId) {
+        evictLocal(chatRoomId);
+        try {
+            redisTemplate.convertAndSend(ChatRoomCacheService.INVALIDATION_CHANNEL, String.valueOf(chatRoomId));
+        } catch (Exception e) {
+            log.warn("Failed to publish recent messages invalidation for room {}: {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    private RecentMessages load(Long chatRoomId) {
+        try {
+            @SuppressWarnings("unchecked")
+            List<String> values = redisTemplate.execute(READ, List.of(keyRecent(chatRoomId), keyFloor(chatRoomId)));
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+
+            long floor = Long.parseLong(values.get(0));
+            List<ChatPollMessageDto> messages = new ArrayList<>(values.size() - 1);
+            for (String json : values.subList(1, values.size())) {
+                messages.add(objectMapper.readValue(json, ChatPollMessageDto.class));
+            }
+            return new RecentMessages(floor, Collections.unmodifiableList(messages));
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid recent messages of room {}, treating as cache miss: {}", chatRoomId, e.getMessage());
+            return null;
+        } catch (Exception e) {
+            log.warn("Failed to get recent messages from Redis for room {}: {}", chatRoomId, e.getMessage());
+            return null;
+        }
+    }
+
+    private record RecentMessages(long floor, List<ChatPollMessageDto> messages) {
+
+        private long lastMessageId() {
+            return messages.isEmpty() ? floor : messages.get(messages.size() - 1).getMessageId();
+        }
+
+        private boolean covers(Long lastMessageId, Long latestMessageId) {
+            return lastMessageId >= floor && lastMessageId() >= latestMessageId;
+        }
+
+        private List<ChatPollMessageDto> after(Long lastMessageId) {
+            int from = messages.size();
+            while (from > 0 && messages.get(from - 1).getMessageId() > lastMessageId) {
+                from--;
+            }
+            return messages.subList(from, messages.size());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package kuit.hackathon.proj_objection.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 채팅방 상태 캐시 무효화 채널 구독자
+ * 다른 노드에서 캐시를 갱신하면 이 노드의 L1 캐시와 최근 메시지 링 사본에서 해당 채팅방을 제거한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ChatRoomCacheInvalidationListener implements MessageListener {
+
+    private final ChatRoomCacheService chatRoomCacheService;
+    private final ChatRecentMessageCacheService chatRecentMessageCacheService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long chatRoomId = Long.parseLong(body);
+            chatRoomCacheService.evictLocal(chatRoomId);
+            chatRecentMessageCacheService.evictLocal(chatRoomId);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid cache invalidation message: {}", body);
+        }
+    }
+}
@@ -1,84 +1,169 @@
 package kuit.hackathon.proj_objection.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import kuit.hackathon.proj_objection.dto.common.ChatRoomStatusCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kuit.hackathon.proj_objection.dto.common.ChatRoomCacheSnapshot;
 import kuit.hackathon.proj_objection.entity.ChatRoom;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 채팅방 상태 캐시
+ * 채팅방별 단일 해시(chat:room:{id}:state)에 lastMessageId, status, finishRequestNickname, percent:{닉네임}을 저장한다.
+ * 스냅샷은 항상 putSnapshot으로 통째로 생성되고, 필드 갱신은 키가 존재할 때만 적용되므로 해시는 항상 완전한 상태를 유지한다.
+ *
+ * Redis 앞단에 채팅방별 로컬(L1) 캐시를 두어 같은 방을 폴링하는 다수의 요청을 메모리에서 응답한다.
+ * 갱신 시 무효화 채널(chat:room:cache:invalidate)로 채팅방 ID를 발행하여 모든 노드의 L1을 비우고,
+ * 무효화 메시지가 유실되더라도 L1 TTL(chat.cache.near.ttl-ms) 이후에는 Redis에서 다시 읽는다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class ChatRoomCacheService {
 
+    public static final String INVALIDATION_CHANNEL = "chat:room:cache:invalidate";
+
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final Cache<Long, ChatRoomCacheSnapshot> nearCache;
 
     private static final Duration TTL = Duration.ofHours(1);
 
-    // Key generators
-    private String keyLastMessageId(Long chatRoomId) {
-        return "chat:room:" + chatRoomId + ":lastMessageId";
-    }
+    private static final String FIELD_LAST_MESSAGE_ID = "lastMessageId";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_FINISH_REQUEST_NICKNAME = "finishRequestNickname";
+    private static final String FIELD_PERCENT_PREFIX = "percent:";
+
+    // 기존 해시를 지우고 전체 필드를 원자적으로 기록 (ARGV[1]=TTL ms, ARGV[2..]=field/value 쌍)
+    // DB에서 스냅샷을 만드는 동안 더 큰 lastMessageId가 기록되었을 수 있으므로 lastMessageId는 둘 중 큰 값을 유지
+    private static final RedisScript<Long> PUT_SNAPSHOT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'lastMessageId')
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            if current and tonumber(current) > (tonumber(redis.call('HGET', KEYS[1], 'lastMessageId')) or 0) then
+                redis.call('HSET', KEYS[1], 'lastMessageId', current)
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 늦게 도착한 갱신이 lastMessageId를 되돌리지 않도록 증가할 때만 기록
+    private static final RedisScript<Long> SET_LAST_MESSAGE_ID = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            local current = tonumber(redis.call('HGET', KEYS[1], 'lastMessageId') or '0')
+            if tonumber(ARGV[2]) > current then
+                redis.call('HSET', KEYS[1], 'lastMessageId', ARGV[2])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // ARGV[2]=status, ARGV[3]=finishRequestNickname (빈 문자열이면 삭제)
+    private static final RedisScript<Long> SET_STATUS = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('HSET', KEYS[1], 'status', ARGV[2])
+            if ARGV[3] == '' then
+                redis.call('HDEL', KEYS[1], 'finishRequestNickname')
+            else
+                redis.call('HSET', KEYS[1], 'finishRequestNickname', ARGV[3])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
 
-    private String keyPercent(Long chatRoomId) {
-        return "chat:room:" + chatRoomId + ":percent";
+    // 기존 percent:* 필드를 모두 교체 (ARGV[2..]=field/value 쌍)
+    private static final RedisScript<Long> SET_PERCENT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do
+                if string.sub(field, 1, 8) == 'percent:' then
+                    redis.call('HDEL', KEYS[1], field)
+                end
+            end
+            if #ARGV > 1 then
+                redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    public ChatRoomCacheService(RedisTemplate<String, String> redisTemplate,
+                                @Value("${chat.cache.near.max-size:10000}") long nearCacheMaxSize,
+                                @Value("${chat.cache.near.ttl-ms:1000}") long nearCacheTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(nearCacheTtlMs))
+                .build();
     }
 
-    private String keyStatus(Long chatRoomId) {
-        return "chat:room:" + chatRoomId + ":status";
+    // Key generator (최근 메시지 링 스크립트에서도 lastMessageId를 함께 올리기 위해 사용)
+    static String keyState(Long chatRoomId) {
+        return "chat:room:" + chatRoomId + ":state";
     }
 
-    // GET methods
-    public Long getLastMessageId(Long chatRoomId) {
-        try {
-            String value = redisTemplate.opsForValue().get(keyLastMessageId(chatRoomId));
-            return (value != null) ? Long.parseLong(value) : null;
-        } catch (Exception e) {
-            log.warn("Failed to get lastMessageId from Redis for room {}: {}", chatRoomId, e.getMessage());
-            return null;
-        }
+    // GET method
+    /**
+     * 채팅방 상태 스냅샷 조회 (L1 HIT 시 메모리, 아니면 HGETALL 1회)
+     *
+     * @param chatRoomId 채팅방 ID
+     * @return 스냅샷, 캐시 미스 또는 Redis 오류 시 null
+     */
+    public ChatRoomCacheSnapshot getSnapshot(Long chatRoomId) {
+        // 로드와 L1 기록을 한 번에 처리하여, 로드 중 도착한 무효화가 로드가 끝난 뒤 적용되도록 함
+        // (무효화 이전에 읽은 스냅샷이 무효화 이후 L1에 다시 기록되지 않음)
+        return nearCache.get(chatRoomId, this::loadSnapshot);
     }
 
-    public Map<String, Integer> getPercent(Long chatRoomId) {
+    private ChatRoomCacheSnapshot loadSnapshot(Long chatRoomId) {
         try {
-            String json = redisTemplate.opsForValue().get(keyPercent(chatRoomId));
-            if (json == null) return null;
-            return objectMapper.readValue(json, new TypeReference<Map<String, Integer>>() {});
+            Map<String, String> hash = redisTemplate.<String, String>opsForHash().entries(keyState(chatRoomId));
+            if (hash == null || hash.isEmpty()) return null;
+
+            return toSnapshot(chatRoomId, hash);
         } catch (Exception e) {
-            log.warn("Failed to get percent from Redis for room {}: {}", chatRoomId, e.getMessage());
+            log.warn("Failed to get state from Redis for room {}: {}", chatRoomId, e.getMessage());
             return null;
         }
     }
 
-    public ChatRoomStatusCache getStatus(Long chatRoomId) {
+    // SET methods
+    /**
+     * DB에서 재구성한 전체 상태로 스냅샷 생성
+     */
+    public void putSnapshot(Long chatRoomId, ChatRoomCacheSnapshot snapshot) {
         try {
-            String json = redisTemplate.opsForValue().get(keyStatus(chatRoomId));
-            if (json == null) return null;
-            return objectMapper.readValue(json, ChatRoomStatusCache.class);
+            List<String> args = new ArrayList<>();
+            args.add(ttlMillis());
+            addField(args, FIELD_LAST_MESSAGE_ID, String.valueOf(snapshot.getLastMessageId()));
+            addField(args, FIELD_STATUS, snapshot.getStatus().name());
+            if (snapshot.getFinishRequestNickname() != null) {
+                addField(args, FIELD_FINISH_REQUEST_NICKNAME, snapshot.getFinishRequestNickname());
+            }
+            addPercentFields(args, snapshot.getPercent());
+
+            redisTemplate.execute(PUT_SNAPSHOT, List.of(keyState(chatRoomId)), args.toArray());
+            invalidate(chatRoomId);
+            log.debug("Cached state snapshot for room {}", chatRoomId);
         } catch (Exception e) {
-            log.warn("Failed to get status from Redis for room {}: {}", chatRoomId, e.getMessage());
-            return null;
+            log.warn("Failed to cache state snapshot for room {}: {}", chatRoomId, e.getMessage());
         }
     }
 
-    // SET methods
     public void setLastMessageId(Long chatRoomId, Long messageId) {
         try {
-            redisTemplate.opsForValue().set(
-                keyLastMessageId(chatRoomId),
-                String.valueOf(messageId),
-                TTL
-            );
-            log.debug("Cached lastMessageId {} for room {}", messageId, chatRoomId);
+            Long applied = redisTemplate.execute(SET_LAST_MESSAGE_ID, List.of(keyState(chatRoomId)),
+                    ttlMillis(), String.valueOf(messageId));
+            invalidate(chatRoomId);
+            log.debug("Cached lastMessageId {} for room {} (applied: {})", messageId, chatRoomId, applied);
         } catch (Exception e) {
             log.warn("Failed to cache lastMessageId for room {}: {}", chatRoomId, e.getMessage());
         }
@@ -86,9 +171,13 @@ public class ChatRoomCacheService {
 
     public void setPercent(Long chatRoomId, Map<String, Integer> percent) {
         try {
-            String json = objectMapper.writeValueAsString(percent);
-            redisTemplate.opsForValue().set(keyPercent(chatRoomId), json, TTL);
-            log.debug("Cached percent for room {}: {}", chatRoomId, percent);
+            List<String> args = new ArrayList<>();
+            args.add(ttlMillis());
+            addPercentFields(args, percent);
+
+            Long applied = redisTemplate.execute(SET_PERCENT, List.of(keyState(chatRoomId)), args.toArray());
+            invalidate(chatRoomId);
+            log.debug("Cached percent for room {}: {} (applied: {})", chatRoomId, percent, applied);
         } catch (Exception e) {
             log.warn("Failed to cache percent for room {}: {}", chatRoomId, e.getMessage());
         }
@@ -96,10 +185,10 @@ public class ChatRoomCacheService {
 
     public void setStatus(Long chatRoomId, ChatRoom.RoomStatus status, String finishRequestNickname) {
         try {
-            ChatRoomStatusCache cache = new ChatRoomStatusCache(status, finishRequestNickname);
-            String json = objectMapper.writeValueAsString(cache);
-            redisTemplate.opsForValue().set(keyStatus(chatRoomId), json, TTL);
-            log.debug("Cached status for room {}: {}", chatRoomId, status);
+            Long applied = redisTemplate.execute(SET_STATUS, List.of(keyState(chatRoomId)),
+                    ttlMillis(), status.name(), (finishRequestNickname != null) ? finishRequestNickname : "");
+            invalidate(chatRoomId);
+            log.debug("Cached status for room {}: {} (applied: {})", chatRoomId, status, applied);
         } catch (Exception e) {
             log.warn("Failed to cache status for room {}: {}", chatRoomId, e.getMessage());
         }
@@ -108,14 +197,67 @@ public class ChatRoomCacheService {
     // DELETE method (for cache invalidation)
     public void deleteAll(Long chatRoomId) {
         try {
-            redisTemplate.delete(List.of(
-                keyLastMessageId(chatRoomId),
-                keyPercent(chatRoomId),
-                keyStatus(chatRoomId)
-            ));
+            redisTemplate.delete(keyState(chatRoomId));
+            invalidate(chatRoomId);
             log.debug("Deleted all cache for room {}", chatRoomId);
         } catch (Exception e) {
             log.warn("Failed to delete cache for room {}: {}", chatRoomId, e.getMessage());
         }
     }
+
+    /**
+     * 이 노드의 L1 캐시에서 채팅방 제거 (무효화 채널 수신 시 호출)
+     */
+    public void evictLocal(Long chatRoomId) {
+        // 진행 중인 로드가 있으면 끝날 때까지 기다렸다가 제거
+        nearCache.asMap().remove(chatRoomId);
+    }
+
+    // 이 노드는 즉시 비우고, 다른 노드에는 무효화 채널로 알림 (발행 실패 시 다른 노드는 L1 TTL 후 갱신)
+    private void invalidate(Long chatRoomId) {
+        evictLocal(chatRoomId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(chatRoomId));
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation for room {}: {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    private ChatRoomCacheSnapshot toSnapshot(Long chatRoomId, Map<String, String> hash) {
+        String lastMessageId = hash.get(FIELD_LAST_MESSAGE_ID);
+        String status = hash.get(FIELD_STATUS);
+        if (lastMessageId == null || status == null) {
+            // 스크립트로만 기록하므로 정상적으로는 발생하지 않음 → 캐시 미스로 처리하여 재생성
+            log.warn("Incomplete state hash for room {}, treating as cache miss", chatRoomId);
+            return null;
+        }
+
+        Map<String, Integer> percent = new HashMap<>();
+        hash.forEach((field, value) -> {
+            if (field.startsWith(FIELD_PERCENT_PREFIX)) {
+                percent.put(field.substring(FIELD_PERCENT_PREFIX.length()), Integer.parseInt(value));
+            }
+        });
+
+        return new ChatRoomCacheSnapshot(
+                Long.parseLong(lastMessageId),
+                ChatRoom.RoomStatus.valueOf(status),
+                hash.get(FIELD_FINISH_REQUEST_NICKNAME),
+                Collections.unmodifiableMap(percent)
+        );
+    }
+
+    private void addPercentFields(List<String> args, Map<String, Integer> percent) {
+        if (percent == null) return;
+        percent.forEach((nickname, score) -> addField(args, FIELD_PERCENT_PREFIX + nickname, String.valueOf(score)));
+    }
+
+    private void addField(List<String> args, String field, String value) {
+        args.add(field);
+        args.add(value);
+    }
+
+    private String ttlMillis() {
+        return String.valueOf(TTL.toMillis());
+    }
 }
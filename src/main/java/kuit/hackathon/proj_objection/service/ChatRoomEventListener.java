@@ -0,0 +1,61 @@
+package kuit.hackathon.proj_objection.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kuit.hackathon.proj_objection.dto.common.ChatRoomEventMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis 채팅방 이벤트 채널 구독자
+ * 어느 노드에서 발생한 이벤트든 이 노드의 롱폴링 대기자를 깨우고 로컬 STOMP 구독자에게 전달한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ChatRoomEventListener implements MessageListener {
+
+    private final ChatRoomSignalService chatRoomSignalService;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ChatRoomEventMessage event = objectMapper.readValue(message.getBody(), ChatRoomEventMessage.class);
+            dispatch(event);
+        } catch (Exception e) {
+            log.warn("Failed to handle room event from channel {}: {}",
+                    new String(message.getChannel(), StandardCharsets.UTF_8), e.getMessage());
+        }
+    }
+
+    /**
+     * 이 노드의 대기자/구독자에게 이벤트 전달
+     *
+     * @param event 채팅방 이벤트
+     */
+    public void dispatch(ChatRoomEventMessage event) {
+        // 롱폴링 대기 중인 클라이언트 wakeup
+        chatRoomSignalService.signal(event.getChatRoomId());
+
+        try {
+            // 이미 직렬화된 JSON이므로 메시지 컨버터를 거치지 않고 그대로 전송
+            messagingTemplate.send(event.getDestination(), MessageBuilder
+                    .withPayload(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                    .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to push event to {} for room {}: {}",
+                    event.getDestination(), event.getChatRoomId(), e.getMessage());
+        }
+    }
+}
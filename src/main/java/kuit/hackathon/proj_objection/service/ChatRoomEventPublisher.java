@@ -0,0 +1,127 @@
+package kuit.hackathon.proj_objection.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kuit.hackathon.proj_objection.dto.common.ChatMessageDto;
+import kuit.hackathon.proj_objection.dto.common.ChatRoomEventMessage;
+import kuit.hackathon.proj_objection.dto.common.DebateStatusDto;
+import kuit.hackathon.proj_objection.dto.common.ExitNotificationDto;
+import kuit.hackathon.proj_objection.dto.common.JudgmentNotificationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * 채팅방 이벤트 푸시
+ * 트랜잭션 커밋 이후 채팅방별 Redis 채널(chat:room:{id}:events)로 이벤트를 발행하면,
+ * 모든 노드의 ChatRoomEventListener가 각자의 롱폴링 대기자를 깨우고 STOMP 구독자에게 전달한다.
+ * 푸시 실패는 로그만 남기며 호출 측 흐름에 영향을 주지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ChatRoomEventPublisher {
+
+    private static final String CHAT_ROOM_TOPIC = "/topic/chatroom/";
+    private static final String CHANNEL_PREFIX = "chat:room:";
+    private static final String CHANNEL_SUFFIX = ":events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatRoomEventListener chatRoomEventListener;
+
+    /**
+     * 새 메시지 브로드캐스트 (/topic/chatroom/{chatRoomId})
+     */
+    public void publishMessage(Long chatRoomId, ChatMessageDto message) {
+        publishAfterCommit(chatRoomId, messageTopic(chatRoomId), message);
+    }
+
+    /**
+     * 실시간 승률 브로드캐스트 (/topic/chatroom/{chatRoomId}/status)
+     */
+    public void publishPercent(Long chatRoomId, Map<String, Integer> percent) {
+        publishAfterCommit(chatRoomId, statusTopic(chatRoomId), DebateStatusDto.of(percent));
+    }
+
+    /**
+     * 종료 요청/수락/거절 브로드캐스트 (/topic/chatroom/{chatRoomId}/exit)
+     */
+    public void publishExit(Long chatRoomId, ExitNotificationDto notification) {
+        publishAfterCommit(chatRoomId, exitTopic(chatRoomId), notification);
+    }
+
+    /**
+     * 최종 판결 결과 브로드캐스트 (/topic/chatroom/{chatRoomId}/exit)
+     */
+    public void publishJudgment(Long chatRoomId, JudgmentNotificationDto notification) {
+        publishAfterCommit(chatRoomId, exitTopic(chatRoomId), notification);
+    }
+
+    /**
+     * 판결 코멘트 생성 중간 결과 브로드캐스트 (/topic/chatroom/{chatRoomId}/exit)
+     * 저장되는 데이터가 아니므로 트랜잭션 커밋을 기다리지 않고 즉시 전송
+     */
+    public void publishJudgmentProgress(Long chatRoomId, JudgmentNotificationDto notification) {
+        publish(chatRoomId, exitTopic(chatRoomId), notification);
+    }
+
+    // 구독자가 커밋 전 데이터를 다시 읽지 않도록 커밋 이후에 전송 (트랜잭션 밖이면 즉시 전송)
+    private void publishAfterCommit(Long chatRoomId, String destination, Object payload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(chatRoomId, destination, payload);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        publish(chatRoomId, destination, payload);
+                    }
+                }
+        );
+    }
+
+    private void publish(Long chatRoomId, String destination, Object payload) {
+        ChatRoomEventMessage event;
+        try {
+            event = new ChatRoomEventMessage(chatRoomId, destination, objectMapper.writeValueAsString(payload));
+        } catch (Exception e) {
+            log.warn("Failed to serialize event for {} in room {}: {}", destination, chatRoomId, e.getMessage());
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(getChannel(chatRoomId), objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            // Redis 장애 시 최소한 이 노드의 클라이언트에게는 전달
+            log.warn("Failed to publish event for room {}, dispatching locally: {}", chatRoomId, e.getMessage());
+            chatRoomEventListener.dispatch(event);
+        }
+    }
+
+    public static String getChannel(Long chatRoomId) {
+        return CHANNEL_PREFIX + chatRoomId + CHANNEL_SUFFIX;
+    }
+
+    public static String getChannelPattern() {
+        return CHANNEL_PREFIX + "*" + CHANNEL_SUFFIX;
+    }
+
+    private String messageTopic(Long chatRoomId) {
+        return CHAT_ROOM_TOPIC + chatRoomId;
+    }
+
+    private String statusTopic(Long chatRoomId) {
+        return CHAT_ROOM_TOPIC + chatRoomId + "/status";
+    }
+
+    private String exitTopic(Long chatRoomId) {
+        return CHAT_ROOM_TOPIC + chatRoomId + "/exit";
+    }
+}
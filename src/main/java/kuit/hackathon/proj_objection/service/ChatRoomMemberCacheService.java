@@ -0,0 +1,131 @@
+package kuit.hackathon.proj_objection.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.ChatRoomMember;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.exception.ChatRoomMemberNotFoundException;
+import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 채팅방 멤버십 캐시
+ * 채팅방별 Redis 해시(chat:room:{id}:members)에 userId → 역할을 저장하고, 로컬(L1) 캐시를 앞단에 둔다.
+ * 멤버는 입장 후 탈퇴/역할 변경이 없으므로 무효화 없이 긍정 결과(멤버인 경우)만 캐싱한다.
+ * 멤버 확인은 getOrLoadRole()로 하며, 캐시에 없으면 DB로 확인한 뒤 캐시를 채운다.
+ */
+@Slf4j
+@Service
+public class ChatRoomMemberCacheService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final Cache<String, ChatRoomMember.MemberRole> nearCache;
+
+    private static final Duration TTL = Duration.ofDays(1);
+
+    public ChatRoomMemberCacheService(RedisTemplate<String, String> redisTemplate,
+                                      ChatRoomMemberRepository chatRoomMemberRepository,
+                                      @Value("${chat.cache.member.max-size:100000}") long nearCacheMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaxSize)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+    }
+
+    // Key generator
+    private String keyMembers(Long chatRoomId) {
+        return "chat:room:" + chatRoomId + ":members";
+    }
+
+    private String nearCacheKey(Long chatRoomId, Long userId) {
+        return chatRoomId + ":" + userId;
+    }
+
+    /**
+     * 멤버 역할 조회 (캐시 MISS 시 DB 조회 후 캐싱)
+     *
+     * @param chatRoom 채팅방 (프록시 참조 가능)
+     * @param user     사용자 (프록시 참조 가능)
+     * @return 멤버 역할
+     * @throws ChatRoomMemberNotFoundException 채팅방 멤버가 아닌 경우
+     */
+    public ChatRoomMember.MemberRole getOrLoadRole(ChatRoom chatRoom, User user) {
+        ChatRoomMember.MemberRole cachedRole = getRole(chatRoom.getId(), user.getId());
+        if (cachedRole != null) {
+            return cachedRole;
+        }
+
+        ChatRoomMember member = chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, user)
+                .orElseThrow(ChatRoomMemberNotFoundException::new);
+        put(chatRoom.getId(), user.getId(), member.getRole());
+        return member.getRole();
+    }
+
+    /**
+     * 캐시된 멤버 역할 조회
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param userId     사용자 ID
+     * @return 멤버 역할, 캐시에 없거나 Redis 오류 시 null (DB 확인 필요)
+     */
+    public ChatRoomMember.MemberRole getRole(Long chatRoomId, Long userId) {
+        ChatRoomMember.MemberRole cached = nearCache.getIfPresent(nearCacheKey(chatRoomId, userId));
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            String value = redisTemplate.<String, String>opsForHash().get(keyMembers(chatRoomId), String.valueOf(userId));
+            if (value == null) return null;
+
+            ChatRoomMember.MemberRole role = ChatRoomMember.MemberRole.valueOf(value);
+            nearCache.put(nearCacheKey(chatRoomId, userId), role);
+            return role;
+        } catch (Exception e) {
+            log.warn("Failed to get member role from Redis for room {}: {}", chatRoomId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 멤버 역할 캐싱
+     * 트랜잭션 안에서 호출되면 커밋 이후에 기록하여 롤백된 입장이 캐시에 남지 않도록 한다.
+     */
+    public void put(Long chatRoomId, Long userId, ChatRoomMember.MemberRole role) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(chatRoomId, userId, role);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        write(chatRoomId, userId, role);
+                    }
+                }
+        );
+    }
+
+    private void write(Long chatRoomId, Long userId, ChatRoomMember.MemberRole role) {
+        nearCache.put(nearCacheKey(chatRoomId, userId), role);
+        try {
+            redisTemplate.opsForHash().put(keyMembers(chatRoomId), String.valueOf(userId), role.name());
+            redisTemplate.expire(keyMembers(chatRoomId), TTL);
+            log.debug("Cached member role {} of user {} for room {}", role, userId, chatRoomId);
+        } catch (Exception e) {
+            log.warn("Failed to cache member role for room {}: {}", chatRoomId, e.getMessage());
+        }
+    }
+}
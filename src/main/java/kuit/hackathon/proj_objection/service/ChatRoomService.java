@@ -1,5 +1,7 @@
 package kuit.hackathon.proj_objection.service;
 
+import kuit.hackathon.proj_objection.dto.common.ExitNotificationDto;
+import kuit.hackathon.proj_objection.dto.common.JudgmentNotificationDto;
 import kuit.hackathon.proj_objection.dto.response.CreateChatRoomResponseDto;
 import kuit.hackathon.proj_objection.dto.response.ExitDecisionResponseDto;
 import kuit.hackathon.proj_objection.dto.response.ExitRequestResponseDto;
@@ -13,6 +15,7 @@ import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +28,10 @@ public class ChatRoomService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final AsyncJudgmentService asyncJudgmentService;
     private final ChatRoomCacheService chatRoomCacheService;
+    private final ChatRoomMemberCacheService chatRoomMemberCacheService;
+    private final ChatRoomEventPublisher chatRoomEventPublisher;
+
+    private static final String JUDGMENT_REJECTED_MESSAGE = "판결 요청을 처리하지 못했습니다. 잠시 후 다시 수락해 주세요.";
 
     // 채팅방 생성
     @Transactional
@@ -70,20 +77,24 @@ public class ChatRoomService {
 
 
         ChatRoomMember.MemberRole role = member.getRole();
+        chatRoomMemberCacheService.put(chatRoom.getId(), user.getId(), role);
 
         // PARTICIPANT 입장 시 Redis percent 캐시 갱신
         if (role == ChatRoomMember.MemberRole.PARTICIPANT) {
+            Map<String, Integer> percent = chatRoomMemberRepository.findByChatRoom(chatRoom).stream()
+                    .filter(m -> m.getRole() == ChatRoomMember.MemberRole.PARTICIPANT)
+                    .collect(java.util.stream.Collectors.toMap(
+                            m -> m.getUser().getNickname(),
+                            ChatRoomMember::getPercent
+                    ));
             try {
-                Map<String, Integer> percent = chatRoomMemberRepository.findByChatRoom(chatRoom).stream()
-                        .filter(m -> m.getRole() == ChatRoomMember.MemberRole.PARTICIPANT)
-                        .collect(java.util.stream.Collectors.toMap(
-                                m -> m.getUser().getNickname(),
-                                ChatRoomMember::getPercent
-                        ));
                 chatRoomCacheService.setPercent(chatRoom.getId(), percent);
             } catch (Exception e) {
                 log.warn("Failed to update percent cache for room {}: {}", chatRoom.getId(), e.getMessage());
             }
+
+            // 커밋 후 승률 표시 대상 변경 브로드캐스트
+            chatRoomEventPublisher.publishPercent(chatRoom.getId(), percent);
         }
 
         return new JoinChatRoomResponseDto(
@@ -96,7 +107,6 @@ public class ChatRoomService {
         );
     }
 
-
     // 종료 요청
     @Transactional
     public ExitRequestResponseDto requestExit(Long chatRoomId, User requester) {
@@ -109,10 +119,7 @@ public class ChatRoomService {
         }
 
         // 요청자가 PARTICIPANT인지 확인
-        ChatRoomMember requesterMember = chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, requester)
-                .orElseThrow(ChatRoomMemberNotFoundException::new);
-
-        if (requesterMember.getRole() != ChatRoomMember.MemberRole.PARTICIPANT) {
+        if (chatRoomMemberCacheService.getOrLoadRole(chatRoom, requester) != ChatRoomMember.MemberRole.PARTICIPANT) {
             throw new ExitRequestPermissionDeniedException();
         }
 
@@ -120,6 +127,21 @@ public class ChatRoomService {
         chatRoom.requestExit(requester);
         chatRoomRepository.save(chatRoom);
 
+        // 판결 수락 시 비동기 AI 분석 및 DB 저장 트리거
+        // 수락 알림보다 먼저 제출하여, 판결 작업이 거절되면 수락 상태를 알리지 않고 오류만 알림
+        if (approve && !requestJudgment(chatRoomId)) {
+            // 판결 작업이 거절되면(서버 종료 중 등) 종료 요청 상태로 되돌려 다시 수락할 수 있게 함
+            chatRoom.reopenExitRequest();
+            chatRoomRepository.save(chatRoom);
+            try {
+                chatRoomCacheService.setStatus(chatRoomId, chatRoom.getStatus(), chatRoom.getExitRequester().getNickname());
+            } catch (Exception e) {
+                log.warn("Failed to update status cache for room {}: {}", chatRoomId, e.getMessage());
+            }
+            chatRoomEventPublisher.publishJudgment(chatRoomId, JudgmentNotificationDto.error(JUDGMENT_REJECTED_MESSAGE));
+            return new ExitDecisionResponseDto(chatRoomId, false, JUDGMENT_REJECTED_MESSAGE);
+        }
+
         // Redis status 캐시 업데이트
         try {
             String requesterNickname = chatRoom.getExitRequester().getNickname();
@@ -128,6 +150,9 @@ public class ChatRoomService {
             log.warn("Failed to update status cache for room {}: {}", chatRoomId, e.getMessage());
         }
 
+        // 커밋 후 종료 요청 알림 브로드캐스트
+        chatRoomEventPublisher.publishExit(chatRoomId, ExitNotificationDto.request(requester.getNickname()));
+
         // 요청 응답
         return new ExitRequestResponseDto(
                 chatRoomId,
@@ -148,10 +173,7 @@ public class ChatRoomService {
         }
 
         // 결정자가 PARTICIPANT인지 확인
-        ChatRoomMember deciderMember = chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, decider)
-                .orElseThrow(ChatRoomMemberNotFoundException::new);
-
-        if (deciderMember.getRole() != ChatRoomMember.MemberRole.PARTICIPANT) {
+        if (chatRoomMemberCacheService.getOrLoadRole(chatRoom, decider) != ChatRoomMember.MemberRole.PARTICIPANT) {
             throw new ExitDecisionPermissionDeniedException();
         }
 
@@ -172,6 +194,21 @@ public class ChatRoomService {
 
         chatRoomRepository.save(chatRoom);
 
+        // 판결 수락 시 비동기 AI 분석 및 DB 저장 트리거
+        // 수락 알림보다 먼저 제출하여, 판결 작업이 거절되면 수락 상태를 알리지 않고 오류만 알림
+        if (approve && !requestJudgment(chatRoomId)) {
+            // 판결 작업이 거절되면(서버 종료 중 등) 종료 요청 상태로 되돌려 다시 수락할 수 있게 함
+            chatRoom.reopenExitRequest();
+            chatRoomRepository.save(chatRoom);
+            try {
+                chatRoomCacheService.setStatus(chatRoomId, chatRoom.getStatus(), chatRoom.getExitRequester().getNickname());
+            } catch (Exception e) {
+                log.warn("Failed to update status cache for room {}: {}", chatRoomId, e.getMessage());
+            }
+            chatRoomEventPublisher.publishJudgment(chatRoomId, JudgmentNotificationDto.error(JUDGMENT_REJECTED_MESSAGE));
+            return new ExitDecisionResponseDto(chatRoomId, false, JUDGMENT_REJECTED_MESSAGE);
+        }
+
         // Redis status 캐시 업데이트
         try {
             String requesterNickname = (chatRoom.getExitRequester() != null)
@@ -182,10 +219,10 @@ public class ChatRoomService {
             log.warn("Failed to update status cache for room {}: {}", chatRoomId, e.getMessage());
         }
 
-        // 판결 수락 시 비동기 AI 분석 및 DB 저장 트리거
-        if (approve) {
-            asyncJudgmentService.analyzeAndSave(chatRoomId);
-        }
+        // 커밋 후 종료 수락/거절 알림 브로드캐스트
+        chatRoomEventPublisher.publishExit(chatRoomId, approve
+                ? ExitNotificationDto.approved(decider.getNickname(), message)
+                : ExitNotificationDto.rejected(decider.getNickname(), message));
 
         return new ExitDecisionResponseDto(
                 chatRoomId,
@@ -194,6 +231,17 @@ public class ChatRoomService {
         );
     }
 
+    // 판결 작업 제출, 스레드 풀이 거절하면 false
+    private boolean requestJudgment(Long chatRoomId) {
+        try {
+            asyncJudgmentService.analyzeAndSave(chatRoomId);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.error("Judgment task rejected for chatRoomId {}, reverting to exit request: {}", chatRoomId, e.getMessage());
+            return false;
+        }
+    }
+
     // 초대 코드 타입에 따라 역할 결정
     private ChatRoomMember.MemberRole determineRole(ChatRoom chatRoom, String inviteCode) {
         if (inviteCode.equals(chatRoom.getParticipantCode())) {
@@ -205,5 +253,4 @@ public class ChatRoomService {
         }
     }
 
-
 }
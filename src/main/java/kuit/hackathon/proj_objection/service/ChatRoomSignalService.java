@@ -0,0 +1,68 @@
+package kuit.hackathon.proj_objection.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 단위 wakeup 신호 관리
+ * 롱폴링 요청은 await()로 대기하고, 메시지/승률/상태 변경 시 signal()로 해당 방의 대기자를 모두 깨운다.
+ */
+@Slf4j
+@Service
+public class ChatRoomSignalService {
+
+    private final Map<Long, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방 변경 신호 대기 등록
+     * 반환된 future는 signal() 시 완료되며, 호출 측에서 타임아웃/취소하면 대기 목록에서 자동 제거된다.
+     *
+     * @param chatRoomId 채팅방 ID
+     * @return 신호 수신 시 완료되는 future
+     */
+    public CompletableFuture<Void> await(Long chatRoomId) {
+        CompletableFuture<Void> signal = new CompletableFuture<>();
+
+        // compute로 등록해야 signal()의 remove와 원자적으로 직렬화되어 신호 유실이 없음
+        waiters.compute(chatRoomId, (id, roomWaiters) -> {
+            Set<CompletableFuture<Void>> set = (roomWaiters != null) ? roomWaiters : ConcurrentHashMap.newKeySet();
+            set.add(signal);
+            return set;
+        });
+        signal.whenComplete((v, ex) -> remove(chatRoomId, signal));
+
+        return signal;
+    }
+
+    /**
+     * 채팅방 대기자 전체 wakeup
+     *
+     * @param chatRoomId 채팅방 ID
+     */
+    public void signal(Long chatRoomId) {
+        Set<CompletableFuture<Void>> roomWaiters = waiters.remove(chatRoomId);
+        if (roomWaiters == null) {
+            return;
+        }
+
+        log.debug("Signaling {} waiters for room {}", roomWaiters.size(), chatRoomId);
+        roomWaiters.forEach(waiter -> waiter.complete(null));
+    }
+
+    public int getWaiterCount(Long chatRoomId) {
+        Set<CompletableFuture<Void>> roomWaiters = waiters.get(chatRoomId);
+        return (roomWaiters != null) ? roomWaiters.size() : 0;
+    }
+
+    private void remove(Long chatRoomId, CompletableFuture<Void> signal) {
+        waiters.computeIfPresent(chatRoomId, (id, roomWaiters) -> {
+            roomWaiters.remove(signal);
+            return roomWaiters.isEmpty() ? null : roomWaiters;
+        });
+    }
+}
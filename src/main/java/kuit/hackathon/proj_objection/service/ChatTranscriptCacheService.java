@@ -0,0 +1,107 @@
+package kuit.hackathon.proj_objection.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kuit.hackathon.proj_objection.client.openai.TokenEstimator;
+import kuit.hackathon.proj_objection.entity.ChatMessage;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 분석용 대화 내용("원고: ...", "피고: ...") 캐시
+ * 채팅방별로 포맷된 메시지 목록(추정 토큰 수 포함)과 마지막으로 반영한 메시지 ID를 로컬 메모리에 보관하고,
+ * 분석할 때마다 그 이후의 새 메시지만 조회하여 이어 붙인다. (메시지는 수정/삭제되지 않으므로 append-only)
+ *
+ * IDENTITY ID는 발급 순서대로 커밋되지 않으므로, 먼저 ID를 받은 메시지가 더 큰 ID의 메시지보다 늦게 보일 수 있다.
+ * 그래서 마지막 N개(chat.cache.transcript.overlap) 메시지는 확정하지 않고 매번 다시 조회하여,
+ * 그 사이에 늦게 커밋된 메시지도 ID 순서대로 끼워 넣는다.
+ */
+@Slf4j
+@Service
+public class ChatTranscriptCacheService {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final Cache<Long, Transcript> transcripts;
+    private final int overlap;
+
+    public ChatTranscriptCacheService(ChatMessageRepository chatMessageRepository,
+                                      @Value("${chat.cache.transcript.max-size:1000}") long maxSize,
+                                      @Value("${chat.cache.transcript.overlap:20}") int overlap) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.overlap = Math.max(0, overlap);
+        this.transcripts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+    }
+
+    /**
+     * 채팅방의 전체 대화 내용을 AI 입력 형식의 메시지 목록으로 반환 (ID 오름차순)
+     * 캐시된 마지막 N개 메시지와 그 이후의 메시지만 DB에서 조회(JOIN FETCH sender)하여 이어 붙인다.
+     *
+     * @param chatRoom    채팅방
+     * @param plaintiffId 원고(채팅방 생성자) 사용자 ID, 그 외 발신자는 피고로 표기
+     * @return 포맷된 메시지 목록 (수정 불가)
+     */
+    public List<TranscriptLine> getLines(ChatRoom chatRoom, Long plaintiffId) {
+        Long chatRoomId = chatRoom.getId();
+        Transcript cached = transcripts.getIfPresent(chatRoomId);
+        if (cached == null || !cached.plaintiffId().equals(plaintiffId)) {
+            cached = new Transcript(plaintiffId, 0L, List.of());
+        }
+
+        // 마지막 overlap개 메시지는 다시 조회 (그 사이에 늦게 커밋된 메시지 포함)
+        int settled = Math.max(0, cached.lines().size() - overlap);
+        long fromId = (settled == 0) ? 0L : cached.lines().get(settled - 1).getMessageId();
+        List<ChatMessage> tail = chatMessageRepository.findMessagesWithSender(chatRoom, fromId);
+        if (cached.hasTail(settled, tail)) {
+            return cached.lines();
+        }
+
+        Transcript updated = cached.replaceTail(settled, tail);
+        log.debug("Rebuilt last {} messages of transcript of room {} (lastMessageId: {})",
+                tail.size(), chatRoomId, updated.lastMessageId());
+
+        // 판결/승률 분석이 동시에 갱신할 수 있으므로 더 최신 내용만 남김 (같으면 방금 조회한 내용)
+        transcripts.asMap().merge(chatRoomId, updated, (existing, candidate) ->
+                existing.plaintiffId().equals(candidate.plaintiffId())
+                        && existing.lastMessageId() > candidate.lastMessageId() ? existing : candidate);
+        return updated.lines();
+    }
+
+    private record Transcript(Long plaintiffId, long lastMessageId, List<TranscriptLine> lines) {
+
+        // settled 이후의 캐시된 메시지가 다시 조회한 메시지와 같은지 (ID 비교)
+        private boolean hasTail(int settled, List<ChatMessage> messages) {
+            if (lines.size() - settled != messages.size()) {
+                return false;
+            }
+            for (int i = 0; i < messages.size(); i++) {
+                if (!lines.get(settled + i).getMessageId().equals(messages.get(i).getId())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Transcript replaceTail(int settled, List<ChatMessage> messages) {
+            List<TranscriptLine> replaced = new ArrayList<>(settled + messages.size());
+            replaced.addAll(lines.subList(0, settled));
+            for (ChatMessage message : messages) {
+                String label = message.getSender().getId().equals(plaintiffId) ? "원고" : "피고";
+                String text = label + ": " + message.getContent();
+                replaced.add(new TranscriptLine(message.getId(), text, TokenEstimator.estimate(text)));
+            }
+
+            long newLastMessageId = replaced.isEmpty() ? 0L : replaced.get(replaced.size() - 1).getMessageId();
+            return new Transcript(plaintiffId, newLastMessageId, List.copyOf(replaced));
+        }
+    }
+}
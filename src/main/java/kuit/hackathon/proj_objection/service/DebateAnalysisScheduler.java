@@ -0,0 +1,144 @@
+package kuit.hackathon.proj_objection.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방별 승률 분석 요청 병합(debounce + coalescing)
+ * - 메시지가 연달아 오면 debounce-ms 동안 조용해질 때까지 기다렸다가 한 번만 분석 (최대 max-wait-ms까지만 지연)
+ * - 채팅방당 동시에 하나의 분석만 실행하고, 실행 중 들어온 요청은 dirty 표시 후 끝나면 한 번 더 분석
+ */
+@Slf4j
+@Service
+public class DebateAnalysisScheduler {
+
+    private final DebateAnalysisService debateAnalysisService;
+    private final Executor aiAnalysisExecutor;
+    private final long debounceMs;
+    private final long maxWaitMs;
+    private final ScheduledExecutorService timer;
+
+    // synchronized(this)로 보호
+    private final Map<Long, RoomState> rooms = new HashMap<>();
+
+    public DebateAnalysisScheduler(DebateAnalysisService debateAnalysisService,
+                                   @Qualifier("aiAnalysisExecutor") Executor aiAnalysisExecutor,
+                                   @Value("${chat.analysis.debounce-ms:1500}") long debounceMs,
+                                   @Value("${chat.analysis.max-wait-ms:5000}") long maxWaitMs) {
+        this.debateAnalysisService = debateAnalysisService;
+        this.aiAnalysisExecutor = aiAnalysisExecutor;
+        this.debounceMs = debounceMs;
+        this.maxWaitMs = maxWaitMs;
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "AI-Analysis-Debounce");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 채팅방 승률 재분석 요청 (메시지 커밋 후 호출)
+     *
+     * @param chatRoomId 분석할 채팅방 ID
+     */
+    public synchronized void request(Long chatRoomId) {
+        RoomState state = rooms.computeIfAbsent(chatRoomId, id -> new RoomState());
+
+        // 분석 중이면 끝난 뒤 한 번 더 실행하도록 표시만 함
+        if (state.running) {
+            state.dirty = true;
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (state.pending == null) {
+            state.firstRequestedAt = now;
+        } else if (!state.pending.cancel(false)) {
+            // 이미 실행이 시작된 타이머는 커밋된 이 메시지까지 포함해 분석함
+            return;
+        }
+
+        long remainingMaxWait = Math.max(0, state.firstRequestedAt + maxWaitMs - now);
+        state.pending = timer.schedule(() -> launch(chatRoomId),
+                Math.min(debounceMs, remainingMaxWait), TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void launch(Long chatRoomId) {
+        RoomState state = rooms.get(chatRoomId);
+        if (state == null || state.running) {
+            return;
+        }
+
+        state.pending = null;
+        state.running = true;
+        state.dirty = false;
+
+        log.debug("Launching debate analysis for room {}", chatRoomId);
+        // 스레드 풀 포화로 거절되면 RejectedExecutionHandler가 태스크를 취소하여 done()으로 상태가 정리됨
+        aiAnalysisExecutor.execute(new AnalysisTask(
+                () -> debateAnalysisService.analyzeAndUpdateScores(chatRoomId),
+                () -> complete(chatRoomId)
+        ));
+    }
+
+    private synchronized void complete(Long chatRoomId) {
+        RoomState state = rooms.get(chatRoomId);
+        if (state == null) {
+            return;
+        }
+
+        state.running = false;
+        if (!state.dirty) {
+            rooms.remove(chatRoomId);
+            return;
+        }
+
+        // 분석 중 새 메시지가 있었으면 debounce 후 한 번 더 분석
+        log.debug("Room {} changed during analysis, scheduling follow-up", chatRoomId);
+        state.dirty = false;
+        state.firstRequestedAt = System.currentTimeMillis();
+        state.pending = timer.schedule(() -> launch(chatRoomId), debounceMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private static class RoomState {
+        private ScheduledFuture<?> pending;
+        private long firstRequestedAt;
+        private boolean running;
+        private boolean dirty;
+    }
+
+    /**
+     * 완료/예외/취소(거절) 어느 경우든 done()에서 채팅방 상태를 정리하는 분석 태스크
+     */
+    private static class AnalysisTask extends FutureTask<Void> {
+
+        private final Runnable onDone;
+
+        private AnalysisTask(Runnable analysis, Runnable onDone) {
+            super(analysis, null);
+            this.onDone = onDone;
+        }
+
+        @Override
+        protected void done() {
+            onDone.run();
+        }
+    }
+}
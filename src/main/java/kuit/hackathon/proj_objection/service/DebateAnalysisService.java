@@ -7,7 +7,6 @@ import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
 import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,14 +22,15 @@ public class DebateAnalysisService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final ChatRoomCacheService chatRoomCacheService;
+    private final ChatRoomEventPublisher chatRoomEventPublisher;
 
     /**
-     * 비동기로 토론 분석 후 ChatRoomMember의 percent 업데이트
-     * 별도 스레드 풀에서 실행되어 메인 메시지 전송 흐름을 블로킹하지 않음
+     * 토론 분석 후 ChatRoomMember의 percent 업데이트
+     * DebateAnalysisScheduler가 채팅방별로 요청을 병합하여 aiAnalysisExecutor 스레드 풀에서 호출하므로
+     * 메인 메시지 전송 흐름을 블로킹하지 않음
      *
      * @param chatRoomId 분석할 채팅방 ID
      */
-    @Async("aiAnalysisExecutor")
     @Transactional
     public void analyzeAndUpdateScores(Long chatRoomId) {
         try {
@@ -62,6 +62,9 @@ public class DebateAnalysisService {
                 // Redis 실패해도 DB는 이미 업데이트되었으므로 다음 폴링에서 재캐싱됨
             }
 
+            // 커밋 후 실시간 승률 브로드캐스트
+            chatRoomEventPublisher.publishPercent(chatRoomId, scores);
+
             log.debug("AI analysis completed and percent updated for chatRoomId: {}", chatRoomId);
 
         } catch (Exception e) {
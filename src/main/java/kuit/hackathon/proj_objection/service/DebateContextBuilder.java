@@ -0,0 +1,186 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.client.openai.OpenAiClient;
+import kuit.hackathon.proj_objection.client.openai.TokenEstimator;
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.client.openai.dto.Message;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.exception.AnalysisParseException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * AI 분석에 보낼 대화 내용(context) 구성
+ * 전체 대화가 토큰 예산(chat.ai.context.token-budget) 안에 들어오면 그대로 보내고,
+ * 넘치면 최근 N개(chat.ai.context.recent-turns) 메시지만 원문으로 남기고 그 이전 대화는 누적 요약으로 대체한다.
+ *
+ * 요약은 Redis(chat:room:{id}:summary)에 요약 대상 마지막 메시지 ID와 함께 저장하며,
+ * 예산을 넘길 때만 "기존 요약 + 아직 요약되지 않은 오래된 메시지"를 다시 요약하므로 요약 호출은 가끔만 발생한다.
+ */
+@Slf4j
+@Service
+public class DebateContextBuilder {
+
+    private final ChatTranscriptCacheService chatTranscriptCacheService;
+    private final OpenAiClient openAiClient;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int tokenBudget;
+    private final int recentTurns;
+
+    private static final String MODEL = "gpt-4o";
+    private static final Duration SUMMARY_TTL = Duration.ofDays(1);
+    private static final String FIELD_COVERED_UP_TO = "coveredUpTo";
+    private static final String FIELD_SUMMARY = "summary";
+
+    private static final String SUMMARY_SYSTEM_PROMPT = """
+            당신은 원고와 피고 두 사용자의 논쟁 기록을 정리하는 서기입니다.
+            기존 요약과 이어지는 대화를 읽고, 두 내용을 합친 하나의 요약을 작성하세요.
+
+            <작성 기준>
+            1. 원고와 피고 각각의 핵심 주장과 근거를 빠짐없이 남기세요.
+            2. 감정적 비난, 욕설, 같은 말의 반복이 있었다면 누가 했는지 남기세요.
+            3. 새로운 의견이나 평가를 덧붙이지 마세요.
+            </작성 기준>
+
+            요약문만 평문으로 응답하세요.
+            """;
+
+    public DebateContextBuilder(ChatTranscriptCacheService chatTranscriptCacheService,
+                                OpenAiClient openAiClient,
+                                RedisTemplate<String, String> redisTemplate,
+                                @Value("${chat.ai.context.token-budget:4000}") int tokenBudget,
+                                @Value("${chat.ai.context.recent-turns:20}") int recentTurns) {
+        this.chatTranscriptCacheService = chatTranscriptCacheService;
+        this.openAiClient = openAiClient;
+        this.redisTemplate = redisTemplate;
+        this.tokenBudget = tokenBudget;
+        this.recentTurns = recentTurns;
+    }
+
+    // Key generator
+    private String keySummary(Long chatRoomId) {
+        return "chat:room:" + chatRoomId + ":summary";
+    }
+
+    /**
+     * 토큰 예산에 맞춘 AI 입력용 대화 내용 생성
+     *
+     * @param chatRoom    채팅방
+     * @param plaintiffId 원고(채팅방 생성자) 사용자 ID
+     * @return "원고: ...\n피고: ..." 형식의 대화 내용 (예산 초과 시 앞부분은 요약으로 대체)
+     */
+    public String build(ChatRoom chatRoom, Long plaintiffId) {
+        Long chatRoomId = chatRoom.getId();
+        List<TranscriptLine> lines = chatTranscriptCacheService.getLines(chatRoom, plaintiffId);
+
+        Summary summary = getSummary(chatRoomId);
+        List<TranscriptLine> unsummarized = lines.stream()
+                .filter(line -> line.getMessageId() > summary.coveredUpTo())
+                .toList();
+
+        if (summary.tokens() + sumTokens(unsummarized) <= tokenBudget || unsummarized.size() <= recentTurns) {
+            return format(summary, unsummarized);
+        }
+
+        // 예산 초과: 최근 N개를 제외한 오래된 메시지를 기존 요약에 합쳐 다시 요약
+        List<TranscriptLine> older = unsummarized.subList(0, unsummarized.size() - recentTurns);
+        List<TranscriptLine> recent = unsummarized.subList(unsummarized.size() - recentTurns, unsummarized.size());
+
+        Summary folded;
+        try {
+            folded = summarize(summary, older);
+        } catch (RuntimeException e) {
+            // 요약 실패 시 분석 자체는 진행하도록 기존 요약 + 최근 메시지만 사용
+            log.warn("Failed to summarize debate for room {}: {}", chatRoomId, e.getMessage());
+            return format(summary, recent);
+        }
+        saveSummary(chatRoomId, folded);
+        log.debug("Folded {} messages into summary of room {} (coveredUpTo: {})",
+                older.size(), chatRoomId, folded.coveredUpTo());
+
+        return format(folded, recent);
+    }
+
+    private Summary summarize(Summary previous, List<TranscriptLine> older) {
+        StringBuilder sb = new StringBuilder();
+        if (!previous.text().isEmpty()) {
+            sb.append("[기존 요약]\n").append(previous.text()).append("\n\n");
+        }
+        sb.append("[이어지는 대화]\n").append(join(older));
+
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .model(MODEL)
+                .messages(List.of(
+                        Message.system(SUMMARY_SYSTEM_PROMPT),
+                        Message.user(sb.toString())
+                ))
+                .temperature(0.3)
+                .maxTokens(Math.max(256, tokenBudget / 4))
+                .build();
+
+        String content = openAiClient.chatCompletion(request).getContent();
+        if (content == null || content.isBlank()) {
+            throw new AnalysisParseException("AI 요약 응답이 비어있습니다.");
+        }
+
+        String text = content.trim();
+        Long coveredUpTo = older.get(older.size() - 1).getMessageId();
+        return new Summary(coveredUpTo, text, TokenEstimator.estimate(text));
+    }
+
+    private Summary getSummary(Long chatRoomId) {
+        try {
+            Map<String, String> entries = redisTemplate.<String, String>opsForHash().entries(keySummary(chatRoomId));
+            String coveredUpTo = entries.get(FIELD_COVERED_UP_TO);
+            String text = entries.get(FIELD_SUMMARY);
+            if (coveredUpTo == null || text == null) {
+                return Summary.EMPTY;
+            }
+            return new Summary(Long.parseLong(coveredUpTo), text, TokenEstimator.estimate(text));
+        } catch (Exception e) {
+            log.warn("Failed to get debate summary from Redis for room {}: {}", chatRoomId, e.getMessage());
+            return Summary.EMPTY;
+        }
+    }
+
+    private void saveSummary(Long chatRoomId, Summary summary) {
+        try {
+            String key = keySummary(chatRoomId);
+            redisTemplate.<String, String>opsForHash().putAll(key, Map.of(
+                    FIELD_COVERED_UP_TO, String.valueOf(summary.coveredUpTo()),
+                    FIELD_SUMMARY, summary.text()
+            ));
+            redisTemplate.expire(key, SUMMARY_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to save debate summary to Redis for room {}: {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    private String format(Summary summary, List<TranscriptLine> lines) {
+        if (summary.text().isEmpty()) {
+            return join(lines);
+        }
+        return "[이전 대화 요약]\n" + summary.text() + "\n\n[최근 대화]\n" + join(lines);
+    }
+
+    private String join(List<TranscriptLine> lines) {
+        return lines.stream()
+                .map(TranscriptLine::getText)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private int sumTokens(List<TranscriptLine> lines) {
+        return lines.stream().mapToInt(TranscriptLine::getTokens).sum();
+    }
+
+    private record Summary(long coveredUpTo, String text, int tokens) {
+        private static final Summary EMPTY = new Summary(0L, "", 0);
+    }
+}
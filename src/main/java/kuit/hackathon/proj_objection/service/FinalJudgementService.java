@@ -4,10 +4,8 @@ import kuit.hackathon.proj_objection.dto.response.FinalJudgementResponseDto;
 import kuit.hackathon.proj_objection.entity.ChatRoom;
 import kuit.hackathon.proj_objection.entity.FinalJudgement;
 import kuit.hackathon.proj_objection.entity.User;
-import kuit.hackathon.proj_objection.exception.ChatRoomMemberNotFoundException;
 import kuit.hackathon.proj_objection.exception.ChatRoomNotFoundException;
 import kuit.hackathon.proj_objection.exception.FinalJudgementNotFoundException;
-import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
 import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
 import kuit.hackathon.proj_objection.repository.FinalJudgementRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +18,7 @@ public class FinalJudgementService {
 
     private final FinalJudgementRepository finalJudgementRepository;
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomMemberCacheService chatRoomMemberCacheService;
 
     /**
      * 채팅방 ID로 최종 판결문 조회
@@ -32,13 +30,12 @@ public class FinalJudgementService {
      */
     @Transactional(readOnly = true)
     public FinalJudgementResponseDto getByChatRoomId(Long chatRoomId, User user) {
-        // 채팅방 존재 확인
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(ChatRoomNotFoundException::new);
-
-        // 사용자가 채팅방 멤버인지 확인
-        chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, user)
-                .orElseThrow(ChatRoomMemberNotFoundException::new);
+        // 채팅방 존재 확인 + 사용자가 채팅방 멤버인지 확인 (멤버십 캐시 HIT 시 생략)
+        if (chatRoomMemberCacheService.getRole(chatRoomId, user.getId()) == null) {
+            ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                    .orElseThrow(ChatRoomNotFoundException::new);
+            chatRoomMemberCacheService.getOrLoadRole(chatRoom, user);
+        }
 
         // 최종 판결문 조회
         FinalJudgement judgement = finalJudgementRepository.findByChatRoom_Id(chatRoomId)
@@ -7,14 +7,12 @@ import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
 import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionResponse;
 import kuit.hackathon.proj_objection.client.openai.dto.Message;
 import kuit.hackathon.proj_objection.dto.common.AnalysisResult;
-import kuit.hackathon.proj_objection.entity.ChatMessage;
 import kuit.hackathon.proj_objection.entity.ChatRoom;
 import kuit.hackathon.proj_objection.entity.ChatRoomMember;
 import kuit.hackathon.proj_objection.entity.User;
 import kuit.hackathon.proj_objection.exception.AnalysisParseException;
 import kuit.hackathon.proj_objection.exception.ChatRoomNotFoundException;
 import kuit.hackathon.proj_objection.exception.InsufficientParticipantsException;
-import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
 import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
 import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -33,7 +34,8 @@ public class OpenAiChatProcessor {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final DebateContextBuilder debateContextBuilder;
+    private final AiResponseCacheService aiResponseCacheService;
     private final OpenAiClient openAiClient;
     private final ObjectMapper objectMapper;
 
@@ -101,11 +103,15 @@ public class OpenAiChatProcessor {
     public Map<String, Integer> analyzePercent(Long chatRoomId) {
         ChatRoom chatRoom = getChatRoom(chatRoomId);
         ParticipantPair participants = getParticipants(chatRoom);
-        List<ChatMessage> messages = getMessagesChronological(chatRoom);
-        String formattedMessages = formatMessagesForAi(messages, participants);
+        String formattedMessages = getTranscript(chatRoom, participants);
 
-       String response = callOpenAi(PERCENT_SYSTEM_PROMPT, formattedMessages);
-       int scoreA = parsePercentResponse(response);
+        // 승률은 다음 분석에서 다시 갱신되므로 요청 한도가 부족하면 생략
+        ChatCompletionRequest request = buildRequest(PERCENT_SYSTEM_PROMPT, formattedMessages).toBuilder()
+                .sheddable(true)
+                .build();
+        int scoreA = callWithCache(request,
+                () -> openAiClient.chatCompletion(request).getContent(),
+                this::parsePercentResponse);
 
         // 0 - 100 사이의 임의의 점수 생성
         // int scoreA = (int) (Math.random() * 101);
@@ -119,45 +125,35 @@ public class OpenAiChatProcessor {
 
     /**
      * 정밀 분석: 승자, 점수, 코멘트를 포함한 상세 분석
+     * 응답을 스트리밍으로 받으며, 판결 코멘트(judgment_comment)가 생성되는 대로 지금까지의 내용을 콜백으로 전달
      *
-     * @param chatRoomId 채팅방 ID
+     * @param chatRoomId        채팅방 ID
+     * @param onCommentProgress 지금까지 생성된 판결 코멘트 콜백 (누적 값)
      * @return 분석 결과
      */
     @Transactional(readOnly = true)
-    public AnalysisResult analyzeDetailed(Long chatRoomId) {
+    public AnalysisResult analyzeDetailed(Long chatRoomId, Consumer<String> onCommentProgress) {
         ChatRoom chatRoom = getChatRoom(chatRoomId);
         ParticipantPair participants = getParticipants(chatRoom);
-        List<ChatMessage> messages = getMessagesChronological(chatRoom);
-        String formattedMessages = formatMessagesForAi(messages, participants);
+        String formattedMessages = getTranscript(chatRoom, participants);
 
         // 이전 percent 분석 결과를 참고 문장으로 추가
         String percentReferenceLine = buildPercentReferenceLine(chatRoom, participants);
         String enrichedMessages = percentReferenceLine + "\n\n" + formattedMessages;
 
-        String response = callOpenAi(DETAILED_SYSTEM_PROMPT, enrichedMessages);
-//        String response = mockResponse();
-        return parseDetailedResponse(response, participants);
+        ChatCompletionRequest request = buildRequest(DETAILED_SYSTEM_PROMPT, enrichedMessages);
+        StreamingJsonFieldExtractor commentExtractor = new StreamingJsonFieldExtractor("judgment_comment");
+        return callWithCache(request,
+                () -> openAiClient.chatCompletionStream(request, delta -> {
+                    if (commentExtractor.append(delta)) {
+                        onCommentProgress.accept(commentExtractor.getValue());
+                    }
+                }),
+                response -> parseDetailedResponse(response, participants));
     }
 
     // ========== 테스트용 메서드 ==========
 
-    /**
-     * mock response
-     */
-
-    private String mockResponse() {
-        return """
-                {
-                    "winner": "원고",
-                    "winner_logic_score": 85,
-                    "winner_empathy_score": 90,
-                    "judgment_comment": "원고는 논리적인 근거를 잘 제시했으며, 감정적으로도 상대방을 배려하는 태도를 보였습니다.",
-                    "winner_reason": "원고는 구체적인 사례와 데이터를 활용하여 자신의 주장을 뒷받침했습니다.",
-                    "loser_reason": "피고는 감정적인 비난을 사용하여 신뢰도를 떨어뜨렸습니다."
-                }
-                """;
-    }
-
     /**
      * 퍼센트 분석 프롬프트 테스트: formattedMessages를 직접 받아서 AI 응답을 그대로 반환
      *
@@ -217,25 +213,9 @@ public class OpenAiChatProcessor {
         return new ParticipantPair(userA, userB);
     }
 
-    private List<ChatMessage> getMessagesChronological(ChatRoom chatRoom) {
-        return chatMessageRepository.findByChatRoomOrderByCreatedAtAsc(chatRoom);
-    }
-
-    private String formatMessagesForAi(List<ChatMessage> messages, ParticipantPair participants) {
-        StringBuilder sb = new StringBuilder();
-
-        for (ChatMessage message : messages) {
-            String label = message.getSender().getId().equals(participants.userA().getId())
-                    ? "원고" : "피고";
-            sb.append(label)
-                    .append(": ")
-                    .append(message.getContent())
-                    .append("\n");
-        }
-
-        log.info(sb.toString());
-
-        return sb.toString().trim();
+    // 원고(userA) 기준 "원고: ...\n피고: ..." 형식, 토큰 예산을 넘는 오래된 대화는 요약으로 대체
+    private String getTranscript(ChatRoom chatRoom, ParticipantPair participants) {
+        return debateContextBuilder.build(chatRoom, participants.userA().getId());
     }
 
     /**
@@ -302,7 +282,28 @@ public class OpenAiChatProcessor {
     }
 
     private String callOpenAi(String systemPrompt, String userMessage) {
-        ChatCompletionRequest request = ChatCompletionRequest.builder()
+        ChatCompletionResponse response = openAiClient.chatCompletion(buildRequest(systemPrompt, userMessage));
+        return requireContent(response.getContent());
+    }
+
+    /**
+     * 같은 요청(모델, 프롬프트, 대화 내용, 온도)의 응답이 캐시에 있으면 OpenAI 호출 없이 재사용
+     * 파싱에 실패한 응답은 재시도 시 다시 호출하도록 파싱에 성공한 응답만 저장
+     */
+    private <T> T callWithCache(ChatCompletionRequest request, Supplier<String> call, Function<String, T> parser) {
+        String cached = aiResponseCacheService.get(request);
+        if (cached != null) {
+            return parser.apply(cached);
+        }
+
+        String response = requireContent(call.get());
+        T result = parser.apply(response);
+        aiResponseCacheService.put(request, response);
+        return result;
+    }
+
+    private ChatCompletionRequest buildRequest(String systemPrompt, String userMessage) {
+        return ChatCompletionRequest.builder()
                 .model(MODEL)
                 .messages(List.of(
                         Message.system(systemPrompt),
@@ -311,10 +312,9 @@ public class OpenAiChatProcessor {
                 .temperature(0.3)
                 .maxTokens(1000)
                 .build();
+    }
 
-        ChatCompletionResponse response = openAiClient.chatCompletion(request);
-        String content = response.getContent();
-
+    private String requireContent(String content) {
         if (content == null || content.isBlank()) {
             throw new AnalysisParseException("AI 응답이 비어있습니다.");
         }
@@ -0,0 +1,187 @@
+package kuit.hackathon.proj_objection.service;
+
+/**
+ * 스트리밍으로 도착하는 JSON 텍스트에서 특정 문자열 필드의 값을 도착하는 만큼 꺼내는 추출기
+ * 응답 전체가 도착하기 전에 판결 코멘트("judgment_comment") 일부를 먼저 보여주기 위해 사용한다.
+ * 최상위 객체의 키만 비교하므로 다른 문자열 값이나 중첩 객체 안의 같은 이름은 무시한다.
+ * 이스케이프(\n, \", \\uXXXX 등)를 해석하며, 잘못된 \\u 이스케이프는 그대로 텍스트로 둔다. 필드가 닫힌 이후의 조각은 무시한다.
+ */
+public class StreamingJsonFieldExtractor {
+
+    private enum State { SCANNING, IN_STRING, BEFORE_VALUE, IN_VALUE, DONE }
+
+    private final String fieldName;
+    private final StringBuilder buffer = new StringBuilder();
+    private final StringBuilder value = new StringBuilder();
+    private final StringBuilder key = new StringBuilder();
+    private State state = State.SCANNING;
+    private int position;
+
+    // 구조 추적: 중첩 깊이, 최상위 객체에서 다음 문자열이 키인지, 지금 읽는 문자열이 최상위 키인지
+    private int depth;
+    private boolean expectingKey;
+    private boolean readingKey;
+
+    public StreamingJsonFieldExtractor(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * 새로 도착한 조각을 반영
+     *
+     * @param chunk 응답 조각
+     * @return 이번 조각으로 값이 늘어났으면 true
+     */
+    public boolean append(String chunk) {
+        if (state == State.DONE) {
+            return false;
+        }
+
+        buffer.append(chunk);
+        int before = value.length();
+
+        while (position < buffer.length() && state != State.DONE) {
+            boolean progressed = switch (state) {
+                case SCANNING -> scan();
+                case IN_STRING -> readString();
+                case BEFORE_VALUE -> beforeValue();
+                case IN_VALUE -> readValue();
+                case DONE -> false;
+            };
+            // 이스케이프가 다음 조각으로 잘린 경우 다음 append까지 대기
+            if (!progressed) {
+                break;
+            }
+        }
+        return value.length() > before;
+    }
+
+    public String getValue() {
+        return value.toString();
+    }
+
+    // 문자열 밖: 괄호 깊이와 키 위치를 추적
+    private boolean scan() {
+        char c = buffer.charAt(position++);
+        switch (c) {
+            case '{' -> {
+                depth++;
+                expectingKey = (depth == 1);
+            }
+            case '[' -> depth++;
+            case '}', ']' -> depth--;
+            case ',' -> expectingKey = (depth == 1);
+            case ':' -> expectingKey = false;
+            case '"' -> {
+                readingKey = expectingKey;
+                key.setLength(0);
+                state = State.IN_STRING;
+            }
+            default -> { }
+        }
+        return true;
+    }
+
+    // 필드 값이 아닌 문자열: 최상위 키면 내용을 모으고, 아니면 건너뜀
+    private boolean readString() {
+        char c = buffer.charAt(position);
+        if (c == '"') {
+            position++;
+            state = State.SCANNING;
+            if (readingKey) {
+                expectingKey = false;
+                if (key.toString().equals(fieldName)) {
+                    state = State.BEFORE_VALUE;
+                }
+            }
+            return true;
+        }
+
+        if (c != '\\') {
+            key.append(c);
+            position++;
+            return true;
+        }
+
+        if (position + 1 >= buffer.length()) {
+            return false;
+        }
+        // 키 비교용이므로 이스케이프 문자는 그대로 둠 (필드 이름에는 이스케이프가 없음)
+        key.append(c).append(buffer.charAt(position + 1));
+        position += 2;
+        return true;
+    }
+
+    // ':' 와 공백을 건너뛰고 여는 따옴표를 찾음, 문자열이 아닌 값이면 다시 탐색
+    private boolean beforeValue() {
+        char c = buffer.charAt(position);
+        if (c == ':' || Character.isWhitespace(c)) {
+            position++;
+            return true;
+        }
+
+        if (c == '"') {
+            position++;
+            state = State.IN_VALUE;
+        } else {
+            state = State.SCANNING;
+        }
+        return true;
+    }
+
+    private boolean readValue() {
+        char c = buffer.charAt(position);
+
+        if (c == '"') {
+            state = State.DONE;
+            return true;
+        }
+
+        if (c != '\\') {
+            value.append(c);
+            position++;
+            return true;
+        }
+
+        if (position + 1 >= buffer.length()) {
+            return false;
+        }
+
+        char escaped = buffer.charAt(position + 1);
+        if (escaped == 'u') {
+            if (position + 6 > buffer.length()) {
+                return false;
+            }
+            String hex = buffer.substring(position + 2, position + 6);
+            if (isHex(hex)) {
+                value.append((char) Integer.parseInt(hex, 16));
+                position += 6;
+            } else {
+                // 잘못된 이스케이프는 예외 없이 텍스트로 둠
+                value.append("\\u");
+                position += 2;
+            }
+            return true;
+        }
+
+        value.append(switch (escaped) {
+            case 'n' -> '\n';
+            case 't' -> '\t';
+            case 'r' -> '\r';
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            default -> escaped; // \" \\ \/
+        });
+        position += 2;
+        return true;
+    }
+
+    private static boolean isHex(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (Character.digit(s.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package kuit.hackathon.proj_objection.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI 분석용 대화 내용 한 줄 (메시지 1개)
+ * ChatTranscriptCacheService가 만들고 DebateContextBuilder가 토큰 예산 계산에 사용하는 내부 값이며, API 응답에는 쓰이지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class TranscriptLine {
+
+    // 메시지 ID
+    private Long messageId;
+
+    // 포맷된 메시지 (예: "원고: 그건 논리적이지 않아요")
+    private String text;
+
+    // 추정 토큰 수
+    private int tokens;
+}
@@ -0,0 +1,78 @@
+-- 초기 스키마 (ddl-auto로 생성되던 스키마와 동일)
+-- 이미 테이블이 있는 DB는 baseline-on-migrate로 V1이 적용된 것으로 기록되고 V2부터 실행됨
+
+CREATE TABLE user
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    nickname    VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_nickname UNIQUE (nickname)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat_room
+(
+    id                BIGINT                                                  NOT NULL AUTO_INCREMENT,
+    title             VARCHAR(255)                                            NOT NULL,
+    participant_code  VARCHAR(9)                                              NOT NULL,
+    observer_code     VARCHAR(9)                                              NOT NULL,
+    creator_id        BIGINT                                                  NOT NULL,
+    status            ENUM ('ALIVE', 'REQUEST_FINISH', 'REQUEST_ACCEPT', 'DONE') NOT NULL,
+    exit_requester_id BIGINT,
+    created_at        DATETIME(6),
+    modified_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_chat_room_participant_code UNIQUE (participant_code),
+    CONSTRAINT uk_chat_room_observer_code UNIQUE (observer_code),
+    CONSTRAINT fk_chat_room_creator FOREIGN KEY (creator_id) REFERENCES user (id),
+    CONSTRAINT fk_chat_room_exit_requester FOREIGN KEY (exit_requester_id) REFERENCES user (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat_room_member
+(
+    id           BIGINT                           NOT NULL AUTO_INCREMENT,
+    chat_room_id BIGINT                           NOT NULL,
+    user_id      BIGINT                           NOT NULL,
+    role         ENUM ('PARTICIPANT', 'OBSERVER') NOT NULL,
+    percent      INT                              NOT NULL,
+    created_at   DATETIME(6),
+    modified_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_chat_room_member_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (id),
+    CONSTRAINT fk_chat_room_member_user FOREIGN KEY (user_id) REFERENCES user (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat_message
+(
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    chat_room_id BIGINT NOT NULL,
+    sender_id    BIGINT NOT NULL,
+    content      TEXT   NOT NULL,
+    created_at   DATETIME(6),
+    modified_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_chat_message_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (id),
+    CONSTRAINT fk_chat_message_sender FOREIGN KEY (sender_id) REFERENCES user (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE final_judgement
+(
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    chat_room_id         BIGINT       NOT NULL,
+    winner               VARCHAR(255) NOT NULL,
+    plaintiff            VARCHAR(255) NOT NULL,
+    defendant            VARCHAR(255) NOT NULL,
+    winner_logic_score   INT          NOT NULL,
+    winner_empathy_score INT          NOT NULL,
+    judgment_comment     TEXT         NOT NULL,
+    winner_reason        TEXT         NOT NULL,
+    loser_reason         TEXT         NOT NULL,
+    created_at           DATETIME(6),
+    modified_at          DATETIME(6),
+    PRIMARY KEY (id),
+    -- chat_room_id 조회(findByChatRoom_Id)는 이 유니크 인덱스를 사용
+    CONSTRAINT uk_final_judgement_chat_room UNIQUE (chat_room_id),
+    CONSTRAINT fk_final_judgement_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (id)
+) ENGINE = InnoDB;
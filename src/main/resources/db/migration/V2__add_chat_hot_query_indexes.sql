@@ -0,0 +1,5 @@
+-- 폴링/메시지 페이지 조회: chat_room_id = ? AND id > ? (또는 id < ?) ORDER BY id
+CREATE INDEX idx_chat_message_room_id ON chat_message (chat_room_id, id);
+
+-- findByChatRoomAndUser, existsByChatRoomAndUser, countByChatRoomAndRoleAndUserNot
+CREATE INDEX idx_chat_room_member_room_user_role ON chat_room_member (chat_room_id, user_id, role);
@@ -1,5 +1,6 @@
 package kuit.hackathon.proj_objection.client.openai;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
 import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionResponse;
 import kuit.hackathon.proj_objection.client.openai.dto.Choice;
@@ -11,19 +12,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.web.client.RestClient;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,7 +53,7 @@ class OpenAiClientImplTest {
 
     @BeforeEach
     void setUp() {
-        openAiClient = new OpenAiClientImpl(restClient);
+        openAiClient = new OpenAiClientImpl(restClient, new ObjectMapper());
     }
 
     @Test
@@ -122,6 +130,64 @@ class OpenAiClientImplTest {
         assertThat(request.getMessages().get(1).getRole()).isEqualTo("user");
     }
 
+    @Test
+    @DisplayName("chatCompletionStream은 SSE 조각을 순서대로 전달하고 전체 내용을 반환")
+    void chatCompletionStream_success_shouldDeliverDeltas() {
+        // given
+        ChatCompletionRequest request = ChatCompletionRequest.of("gpt-4o", "Hello");
+        String sse = """
+                data: {"id":"chatcmpl-1","object":"chat.completion.chunk","choices":[{"index":0,"delta":{"role":"assistant","content":""},"finish_reason":null}]}
+
+                data: {"id":"chatcmpl-1","object":"chat.completion.chunk","choices":[{"index":0,"delta":{"content":"안녕"},"finish_reason":null}]}
+
+                data: {"id":"chatcmpl-1","object":"chat.completion.chunk","choices":[{"index":0,"delta":{"content":"하세요"},"finish_reason":null}]}
+
+                data: {"id":"chatcmpl-1","object":"chat.completion.chunk","choices":[{"index":0,"delta":{},"finish_reason":"stop"}]}
+
+                data: [DONE]
+
+                """;
+        givenStreamResponse(HttpStatus.OK, sse);
+        List<String> deltas = new ArrayList<>();
+
+        // when
+        String content = openAiClient.chatCompletionStream(request, deltas::add);
+
+        // then
+        assertThat(content).isEqualTo("안녕하세요");
+        assertThat(deltas).containsExactly("안녕", "하세요");
+        then(requestBodySpec).should().body(argThat((Object body) -> Boolean.TRUE.equals(((ChatCompletionRequest) body).getStream())));
+    }
+
+    @Test
+    @DisplayName("chatCompletionStream 5xx 응답 시 OpenAiApiException 발생")
+    void chatCompletionStream_serverError_shouldThrow() {
+        // given
+        ChatCompletionRequest request = ChatCompletionRequest.of("gpt-4o", "Hello");
+        givenStreamResponse(HttpStatus.SERVICE_UNAVAILABLE, "");
+
+        // when & then
+        assertThatThrownBy(() -> openAiClient.chatCompletionStream(request, delta -> { }))
+                .isInstanceOf(OpenAiApiException.class);
+    }
+
+    private void givenStreamResponse(HttpStatus status, String body) {
+        given(restClient.post()).willReturn(requestBodyUriSpec);
+        given(requestBodyUriSpec.uri("/v1/chat/completions")).willReturn(requestBodySpec);
+        given(requestBodySpec.accept(MediaType.TEXT_EVENT_STREAM)).willReturn(requestBodySpec);
+        given(requestBodySpec.body(any(Object.class))).willReturn(requestBodySpec);
+        given(requestBodySpec.exchange(any())).willAnswer(invocation -> {
+            RestClient.RequestHeadersSpec.ExchangeFunction<?> exchangeFunction = invocation.getArgument(0);
+            RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse response =
+                    mock(RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse.class);
+            given(response.getStatusCode()).willReturn(status);
+            if (status.is2xxSuccessful()) {
+                given(response.getBody()).willReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+            }
+            return exchangeFunction.exchange(mock(HttpRequest.class), response);
+        });
+    }
+
     private ChatCompletionResponse createMockResponse(String content) {
         Message message = Message.assistant(content);
         Choice choice = new Choice(0, message, "stop");
@@ -0,0 +1,121 @@
+package kuit.hackathon.proj_objection.client.openai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kuit.hackathon.proj_objection.client.openai.dto.Usage;
+import kuit.hackathon.proj_objection.exception.OpenAiApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAiRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("요청 한도가 남아있으면 대기 없이 통과")
+    void acquire_withinLimit_passes() {
+        // given
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(meterRegistry, 2, 10_000, 0);
+
+        // when & then
+        assertThatCode(() -> {
+            rateLimiter.acquire(100, false);
+            rateLimiter.acquire(100, false);
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("한도가 부족하면 버릴 수 있는 요청은 즉시 429로 생략")
+    void acquire_exhausted_shedsSheddableRequest() {
+        // given
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(meterRegistry, 1, 10_000, 60_000);
+        rateLimiter.acquire(100, false);
+
+        // when & then
+        assertThatThrownBy(() -> rateLimiter.acquire(100, true))
+                .isInstanceOf(OpenAiApiException.class)
+                .hasMessageContaining("생략");
+        assertThat(meterRegistry.get("openai.ratelimit.shed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 최대 대기 시간을 넘으면 429로 실패")
+    void acquire_waitTooLong_fails() {
+        // given
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(meterRegistry, 60, 1_000, 100);
+        rateLimiter.acquire(1_000, false);
+
+        // when & then
+        assertThatThrownBy(() -> rateLimiter.acquire(1_000, false))
+                .isInstanceOf(OpenAiApiException.class)
+                .hasMessageContaining("요청 한도 초과");
+    }
+
+    @Test
+    @DisplayName("실제 사용량이 추정치보다 적으면 남은 토큰을 돌려받음")
+    void recordUsage_lessThanEstimated_returnsTokens() {
+        // given
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(meterRegistry, 100, 1_000, 0);
+        rateLimiter.acquire(1_000, false);
+
+        // when
+        rateLimiter.recordUsage(1_000, new Usage(100, 100, 200));
+
+        // then
+        assertThatCode(() -> rateLimiter.acquire(700, true)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("응답 헤더의 잔여 요청 수가 0이면 다음 요청은 대기 대상")
+    void onResponseHeaders_remainingZero_limitsNextRequest() {
+        // given
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(meterRegistry, 100, 10_000, 0);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-limit-requests", "100");
+        headers.add("x-ratelimit-remaining-requests", "0");
+
+        // when
+        rateLimiter.onResponseHeaders(headers);
+
+        // then
+        assertThatThrownBy(() -> rateLimiter.acquire(10, true))
+                .isInstanceOf(OpenAiApiException.class);
+    }
+
+    @Test
+    @DisplayName("예약을 반납하면 같은 한도로 다음 요청이 통과")
+    void release_returnsReservation() {
+        // given
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(meterRegistry, 1, 1_000, 0);
+        rateLimiter.acquire(1_000, false);
+
+        // when
+        rateLimiter.release(1_000);
+
+        // then
+        assertThatCode(() -> rateLimiter.acquire(1_000, true)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("응답 헤더의 계정 한도는 노드 기준 버킷 크기를 바꾸지 않음")
+    void onResponseHeaders_accountLimit_keepsNodeCapacity() throws Exception {
+        // given
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(meterRegistry, 60, 10_000, 0);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-limit-requests", "600000");
+        headers.add("x-ratelimit-remaining-requests", "0");
+        rateLimiter.onResponseHeaders(headers);
+
+        // when
+        // 계정 한도(10건/ms)로 채워진다면 충분히 찼을 시간
+        Thread.sleep(20);
+
+        // then
+        assertThatThrownBy(() -> rateLimiter.acquire(10, true))
+                .isInstanceOf(OpenAiApiException.class);
+    }
+}
@@ -0,0 +1,288 @@
+package kuit.hackathon.proj_objection.client.openai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionResponse;
+import kuit.hackathon.proj_objection.exception.OpenAiApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientOpenAiClientTest {
+
+    @Mock
+    private OpenAiClient delegate;
+
+    private ResilientOpenAiClient client;
+
+    private final ChatCompletionRequest request = ChatCompletionRequest.builder().model("gpt-4o").build();
+
+    @BeforeEach
+    void setUp() {
+        // maxAttempts 3, 백오프 1~5ms, 연속 실패 3회 시 200ms 차단, 동시 호출 1개
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(new SimpleMeterRegistry(), 10_000, 10_000_000, 0);
+        client = new ResilientOpenAiClient(delegate, rateLimiter, 3, 1, 5, 3, 200, 1, 50);
+    }
+
+    @Test
+    @DisplayName("429 응답은 재시도하여 성공하면 응답 반환")
+    void chatCompletion_retryableError_retriesAndSucceeds() {
+        // given
+        ChatCompletionResponse response = mock(ChatCompletionResponse.class);
+        given(delegate.chatCompletion(request))
+                .willThrow(new OpenAiApiException(HttpStatus.TOO_MANY_REQUESTS, "클라이언트 에러"))
+                .willReturn(response);
+
+        // when
+        ChatCompletionResponse result = client.chatCompletion(request);
+
+        // then
+        assertThat(result).isSameAs(response);
+        then(delegate).should(times(2)).chatCompletion(request);
+    }
+
+    @Test
+    @DisplayName("네트워크 에러가 계속되면 최대 시도 횟수 후 실패")
+    void chatCompletion_networkError_givesUpAfterMaxAttempts() {
+        // given
+        given(delegate.chatCompletion(request)).willThrow(new ResourceAccessException("Read timed out"));
+
+        // when & then
+        assertThatThrownBy(() -> client.chatCompletion(request))
+                .isInstanceOf(ResourceAccessException.class);
+        then(delegate).should(times(3)).chatCompletion(request);
+    }
+
+    @Test
+    @DisplayName("400 등 재시도 불가 에러는 즉시 실패")
+    void chatCompletion_nonRetryableError_failsImmediately() {
+        // given
+        given(delegate.chatCompletion(request))
+                .willThrow(new OpenAiApiException(HttpStatus.BAD_REQUEST, "클라이언트 에러"));
+
+        // when & then
+        assertThatThrownBy(() -> client.chatCompletion(request))
+                .isInstanceOf(OpenAiApiException.class);
+        then(delegate).should(times(1)).chatCompletion(request);
+    }
+
+    @Test
+    @DisplayName("Retry-After가 최대 백오프보다 길면 기다리지 않고 실패")
+    void chatCompletion_longRetryAfter_failsWithoutWaiting() {
+        // given
+        given(delegate.chatCompletion(request))
+                .willThrow(new OpenAiApiException(HttpStatus.TOO_MANY_REQUESTS, "클라이언트 에러", Duration.ofSeconds(60)));
+
+        // when & then
+        assertThatThrownBy(() -> client.chatCompletion(request))
+                .isInstanceOf(OpenAiApiException.class);
+        then(delegate).should(times(1)).chatCompletion(request);
+    }
+
+    @Test
+    @DisplayName("연속 실패로 서킷이 열리면 호출 없이 즉시 실패하고, 차단 시간이 지나면 시험 호출로 복구")
+    void chatCompletion_circuitOpens_thenRecovers() throws Exception {
+        // given
+        ChatCompletionResponse response = mock(ChatCompletionResponse.class);
+        given(delegate.chatCompletion(request))
+                .willThrow(new OpenAiApiException(HttpStatus.SERVICE_UNAVAILABLE, "서버 에러"))
+                .willThrow(new OpenAiApiException(HttpStatus.SERVICE_UNAVAILABLE, "서버 에러"))
+                .willThrow(new OpenAiApiException(HttpStatus.SERVICE_UNAVAILABLE, "서버 에러"))
+                .willReturn(response);
+        assertThatThrownBy(() -> client.chatCompletion(request)).isInstanceOf(OpenAiApiException.class);
+
+        // when & then
+        assertThatThrownBy(() -> client.chatCompletion(request))
+                .isInstanceOf(OpenAiApiException.class)
+                .hasMessageContaining("일시 차단");
+        then(delegate).should(times(3)).chatCompletion(request);
+
+        Thread.sleep(250);
+        assertThat(client.chatCompletion(request)).isSameAs(response);
+        then(delegate).should(times(4)).chatCompletion(request);
+    }
+
+    @Test
+    @DisplayName("스트리밍은 조각이 전달되기 전 실패만 재시도")
+    void chatCompletionStream_retriesOnlyBeforeFirstDelta() {
+        // given
+        List<String> deltas = new ArrayList<>();
+        willAnswer(invocation -> {
+            Consumer<String> onDelta = invocation.getArgument(1);
+            onDelta.accept("부분");
+            throw new ResourceAccessException("Connection reset");
+        }).given(delegate).chatCompletionStream(any(), any());
+
+        // when & then
+        assertThatThrownBy(() -> client.chatCompletionStream(request, deltas::add))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(deltas).containsExactly("부분");
+        then(delegate).should(times(1)).chatCompletionStream(any(), any());
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 대기 후 503으로 실패")
+    void chatCompletion_bulkheadFull_rejects() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ChatCompletionResponse response = mock(ChatCompletionResponse.class);
+        given(delegate.chatCompletion(request)).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return response;
+        });
+        Thread inFlight = new Thread(() -> client.chatCompletion(request));
+        inFlight.start();
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> client.chatCompletion(request))
+                .isInstanceOf(OpenAiApiException.class)
+                .hasMessageContaining("동시 호출 한도 초과");
+
+        release.countDown();
+        inFlight.join(1000);
+        then(delegate).should(times(1)).chatCompletion(request);
+    }
+
+    @Test
+    @DisplayName("스트리밍 콜백 예외는 서킷 성공으로 세지 않고 원래 예외를 그대로 던짐")
+    void chatCompletionStream_callbackFailure_doesNotCloseCircuit() throws Exception {
+        // given
+        given(delegate.chatCompletion(request))
+                .willThrow(new OpenAiApiException(HttpStatus.SERVICE_UNAVAILABLE, "서버 에러"));
+        willAnswer(invocation -> {
+            Consumer<String> onDelta = invocation.getArgument(1);
+            onDelta.accept("부분");
+            return "부분";
+        }).given(delegate).chatCompletionStream(any(), any());
+        assertThatThrownBy(() -> client.chatCompletion(request)).isInstanceOf(OpenAiApiException.class);
+        Thread.sleep(250);
+
+        // when
+        // 시험 호출 중 콜백이 실패
+        assertThatThrownBy(() -> client.chatCompletionStream(request, delta -> {
+            throw new IllegalStateException("구독자 전송 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        // 서킷이 닫히지 않았으므로 다음 시험 호출이 한 번 실패하면 다시 열려 재시도 없이 차단됨
+        assertThatThrownBy(() -> client.chatCompletion(request))
+                .isInstanceOf(OpenAiApiException.class)
+                .hasMessageContaining("일시 차단");
+        then(delegate).should(times(4)).chatCompletion(request);
+    }
+
+    @Test
+    @DisplayName("서킷이 열리기 전에 시작한 호출이 늦게 성공해도 서킷을 닫지 않음")
+    void chatCompletion_staleSuccess_ignoredAfterCircuitOpens() throws Exception {
+        // given
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(new SimpleMeterRegistry(), 10_000, 10_000_000, 0);
+        ResilientOpenAiClient concurrentClient = new ResilientOpenAiClient(delegate, rateLimiter, 3, 1, 5, 3, 60_000, 2, 50);
+        ChatCompletionRequest slowRequest = ChatCompletionRequest.builder().model("gpt-4o-mini").build();
+        ChatCompletionResponse response = mock(ChatCompletionResponse.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.chatCompletion(slowRequest)).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return response;
+        });
+        given(delegate.chatCompletion(request))
+                .willThrow(new OpenAiApiException(HttpStatus.SERVICE_UNAVAILABLE, "서버 에러"));
+
+        Thread inFlight = new Thread(() -> concurrentClient.chatCompletion(slowRequest));
+        inFlight.start();
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> concurrentClient.chatCompletion(request)).isInstanceOf(OpenAiApiException.class);
+
+        // when
+        release.countDown();
+        inFlight.join(1000);
+
+        // then
+        assertThatThrownBy(() -> concurrentClient.chatCompletion(request))
+                .isInstanceOf(OpenAiApiException.class)
+                .hasMessageContaining("일시 차단");
+        then(delegate).should(times(3)).chatCompletion(request);
+    }
+
+    @Test
+    @DisplayName("재시도는 처음 예약한 요청 한도를 그대로 사용")
+    void chatCompletion_retry_reservesRateLimitOnce() {
+        // given
+        // 분당 1건, 대기 불가: 재시도마다 예약하면 두 번째 시도에서 429
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(new SimpleMeterRegistry(), 1, 10_000_000, 0);
+        ResilientOpenAiClient limitedClient = new ResilientOpenAiClient(delegate, rateLimiter, 3, 1, 5, 3, 200, 1, 50);
+        ChatCompletionResponse response = mock(ChatCompletionResponse.class);
+        given(delegate.chatCompletion(request))
+                .willThrow(new OpenAiApiException(HttpStatus.SERVICE_UNAVAILABLE, "서버 에러"))
+                .willReturn(response);
+
+        // when
+        ChatCompletionResponse result = limitedClient.chatCompletion(request);
+
+        // then
+        assertThat(result).isSameAs(response);
+        then(delegate).should(times(2)).chatCompletion(request);
+    }
+
+    @Test
+    @DisplayName("응답 없이 실패한 호출은 예약한 요청 한도를 반납")
+    void chatCompletion_failure_releasesRateLimit() {
+        // given
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(new SimpleMeterRegistry(), 1, 10_000_000, 0);
+        ResilientOpenAiClient limitedClient = new ResilientOpenAiClient(delegate, rateLimiter, 1, 1, 5, 3, 200, 1, 50);
+        ChatCompletionResponse response = mock(ChatCompletionResponse.class);
+        given(delegate.chatCompletion(request))
+                .willThrow(new ResourceAccessException("Connection refused"))
+                .willReturn(response);
+        assertThatThrownBy(() -> limitedClient.chatCompletion(request)).isInstanceOf(ResourceAccessException.class);
+
+        // when
+        ChatCompletionResponse result = limitedClient.chatCompletion(request);
+
+        // then
+        assertThat(result).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("스트리밍도 받은 본문으로 사용량을 보정")
+    void chatCompletionStream_recordsUsage() {
+        // given
+        // 분당 2,000토큰, 대기 불가: 프롬프트 + max_tokens 1,000을 예약하고 실제로는 몇 토큰만 사용
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(new SimpleMeterRegistry(), 10_000, 2_000, 0);
+        ResilientOpenAiClient limitedClient = new ResilientOpenAiClient(delegate, rateLimiter, 3, 1, 5, 3, 200, 1, 50);
+        ChatCompletionRequest streamRequest = ChatCompletionRequest.builder().model("gpt-4o").maxTokens(1_000).build();
+        given(delegate.chatCompletionStream(any(), any())).willReturn("짧은 답변");
+        limitedClient.chatCompletionStream(streamRequest, delta -> { });
+
+        // when & then
+        // 보정하지 않으면 남은 1,000토큰으로는 1,500토큰 예약이 불가
+        assertThatCode(() -> rateLimiter.acquire(1_500, true)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,89 @@
+package kuit.hackathon.proj_objection.client.openai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.client.openai.dto.Message;
+import kuit.hackathon.proj_objection.exception.OpenAiApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StubOpenAiClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("승률 분석 요청에는 0~100 점수 JSON을 생성")
+    void chatCompletion_percentPrompt_generatesScore() throws Exception {
+        // given
+        StubOpenAiClient client = new StubOpenAiClient(0, 0, 0.0, 1L, "");
+
+        // when
+        String content = client.chatCompletion(request("{ \"score\": 정수형_점수 }")).getContent();
+
+        // then
+        int score = objectMapper.readTree(content).get("score").asInt();
+        assertThat(score).isBetween(0, 100);
+    }
+
+    @Test
+    @DisplayName("정밀 분석 스트리밍은 조각을 이어 붙이면 스키마에 맞는 JSON")
+    void chatCompletionStream_detailedPrompt_generatesJudgment() throws Exception {
+        // given
+        StubOpenAiClient client = new StubOpenAiClient(0, 0, 0.0, 1L, "");
+        List<String> deltas = new ArrayList<>();
+
+        // when
+        String content = client.chatCompletionStream(request("\"judgment_comment\": \"...\""), deltas::add);
+
+        // then
+        assertThat(String.join("", deltas)).isEqualTo(content);
+        JsonNode node = objectMapper.readTree(content);
+        assertThat(node.get("winner").asText()).isIn("원고", "피고");
+        assertThat(node.get("judgment_comment").asText()).contains("승리!");
+        assertThat(node.has("winner_reason")).isTrue();
+        assertThat(node.has("loser_reason")).isTrue();
+    }
+
+    @Test
+    @DisplayName("녹화 응답이 있으면 이름 순서대로 돌려가며 재생")
+    void chatCompletion_replayDir_replaysInOrder(@TempDir Path dir) throws Exception {
+        // given
+        Files.writeString(dir.resolve("percent-1.json"), "{\"score\": 10}");
+        Files.writeString(dir.resolve("percent-2.json"), "{\"score\": 20}");
+        StubOpenAiClient client = new StubOpenAiClient(0, 0, 0.0, 1L, dir.toString());
+        ChatCompletionRequest request = request("{ \"score\": 정수형_점수 }");
+
+        // when & then
+        assertThat(client.chatCompletion(request).getContent()).isEqualTo("{\"score\": 10}");
+        assertThat(client.chatCompletion(request).getContent()).isEqualTo("{\"score\": 20}");
+        assertThat(client.chatCompletion(request).getContent()).isEqualTo("{\"score\": 10}");
+    }
+
+    @Test
+    @DisplayName("에러 비율이 1이면 항상 재시도 가능한 에러로 실패")
+    void chatCompletion_errorRateOne_alwaysFails() {
+        // given
+        StubOpenAiClient client = new StubOpenAiClient(0, 0, 1.0, 1L, "");
+
+        // when & then
+        assertThatThrownBy(() -> client.chatCompletion(request("요약")))
+                .isInstanceOfSatisfying(OpenAiApiException.class, e -> assertThat(e.isRetryable()).isTrue());
+    }
+
+    private ChatCompletionRequest request(String systemPrompt) {
+        return ChatCompletionRequest.builder()
+                .model("gpt-4o")
+                .messages(List.of(Message.system(systemPrompt), Message.user("원고: 주장\n피고: 반박")))
+                .build();
+    }
+}
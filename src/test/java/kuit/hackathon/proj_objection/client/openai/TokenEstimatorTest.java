@@ -0,0 +1,34 @@
+package kuit.hackathon.proj_objection.client.openai;
+
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.client.openai.dto.Message;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenEstimatorTest {
+
+    @Test
+    @DisplayName("토큰 추정 - ASCII는 4자당 1토큰, 그 외 문자는 1자당 1토큰")
+    void estimate_countsAsciiAndOthersSeparately() {
+        assertThat(TokenEstimator.estimate("abcdefgh")).isEqualTo(2);
+        assertThat(TokenEstimator.estimate("안녕")).isEqualTo(2);
+        assertThat(TokenEstimator.estimate("")).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 토큰 추정 - 메시지별 추정치와 형식 토큰, max_tokens를 합산")
+    void estimate_request_includesMaxTokens() {
+        // given
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .messages(List.of(Message.system("abcd"), Message.user("안녕")))
+                .maxTokens(100)
+                .build();
+
+        // when & then
+        assertThat(TokenEstimator.estimate(request)).isEqualTo(100 + (4 + 1) + (4 + 2));
+    }
+}
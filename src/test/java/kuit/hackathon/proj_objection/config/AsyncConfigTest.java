@@ -0,0 +1,178 @@
+package kuit.hackathon.proj_objection.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+    private AsyncConfig asyncConfig;
+
+    @BeforeEach
+    void setUp() {
+        asyncConfig = new AsyncConfig(meterRegistry, AsyncConfig.ExecutorMode.PLATFORM, 10, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executors.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    @Test
+    @DisplayName("승률 분석 큐가 가득 차면 가장 오래된 작업을 취소하고 새 작업을 받음")
+    void aiAnalysisExecutor_queueFull_shedsOldest() {
+        // given
+        ThreadPoolTaskExecutor executor = register(asyncConfig.aiAnalysisExecutor());
+        executor.execute(this::block);
+        executor.execute(this::block);
+
+        List<FutureTask<Void>> queued = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            FutureTask<Void> task = new FutureTask<>(() -> { }, null);
+            queued.add(task);
+            executor.execute(task);
+        }
+        for (int i = 0; i < 3; i++) {
+            executor.execute(this::block);
+        }
+
+        // when
+        FutureTask<Void> latest = new FutureTask<>(() -> { }, null);
+        executor.execute(latest);
+
+        // then
+        assertThat(queued.get(0).isCancelled()).isTrue();
+        assertThat(queued.get(1).isCancelled()).isFalse();
+        assertThat(latest.isCancelled()).isFalse();
+        assertThat(meterRegistry.get("ai.executor.shed").tag("lane", "percent").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ai.executor.queue.size").tag("lane", "percent").gauge().value()).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("판결문 스레드 풀은 작업이 몰려도 거절하지 않음")
+    void aiJudgmentExecutor_neverRejects() {
+        // given
+        ThreadPoolTaskExecutor executor = register(asyncConfig.aiJudgmentExecutor());
+        executor.execute(this::block);
+        executor.execute(this::block);
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            executor.execute(() -> { });
+        }
+
+        // then
+        assertThat(meterRegistry.get("ai.executor.queue.size").tag("lane", "judgment").gauge().value()).isEqualTo(500.0);
+    }
+
+    @Test
+    @DisplayName("판결문 스레드 풀은 종료 후 작업을 조용히 버리지 않고 거절을 호출 측에 알림")
+    void aiJudgmentExecutor_afterShutdown_rejectsToCaller() {
+        // given
+        ThreadPoolTaskExecutor executor = register(asyncConfig.aiJudgmentExecutor());
+        executor.shutdown();
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.get("ai.executor.shed").tag("lane", "judgment").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("폴링 스레드 풀은 작업을 받을 수 없으면 거절을 호출 측에 알리고 거절 수를 기록")
+    void chatPollExecutor_afterShutdown_rejectsToCaller() {
+        // given
+        ThreadPoolTaskExecutor executor = register(asyncConfig.chatPollExecutor());
+        executor.shutdown();
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.get("chat.poll.executor.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실행된 작업의 큐 대기 시간을 기록")
+    void aiJudgmentExecutor_recordsQueueWaitTime() throws Exception {
+        // given
+        ThreadPoolTaskExecutor executor = register(asyncConfig.aiJudgmentExecutor());
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        executor.execute(done::countDown);
+
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("ai.executor.queue.wait").tag("lane", "judgment").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드는 세마포어로 동시 실행 수를 제한하고 나머지는 대기시킴")
+    void aiAnalysisExecutor_virtualMode_limitsConcurrency() throws Exception {
+        // given
+        AsyncConfig virtualConfig = new AsyncConfig(meterRegistry, AsyncConfig.ExecutorMode.VIRTUAL, 10, 2);
+        LimitedVirtualThreadExecutor executor = (LimitedVirtualThreadExecutor) virtualConfig.aiAnalysisExecutor();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch finished = new CountDownLatch(5);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                block();
+                finished.countDown();
+            });
+        }
+
+        // then
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        waitUntil(() -> executor.getQueueSize() == 3);
+        assertThat(executor.getActiveCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("ai.executor.queue.size").tag("lane", "percent").gauge().value()).isEqualTo(3.0);
+
+        release.countDown();
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("ai.executor.queue.wait").tag("lane", "percent").timer().count()).isEqualTo(5L);
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private ThreadPoolTaskExecutor register(Object executor) {
+        ThreadPoolTaskExecutor taskExecutor = (ThreadPoolTaskExecutor) executor;
+        executors.add(taskExecutor);
+        return taskExecutor;
+    }
+
+    private void block() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package kuit.hackathon.proj_objection.config;
+
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.exception.MessageSendPermissionDeniedException;
+import kuit.hackathon.proj_objection.exception.UserNotFoundException;
+import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
+import kuit.hackathon.proj_objection.repository.UserRepository;
+import kuit.hackathon.proj_objection.service.ChatRoomMemberCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSubscriptionInterceptorTest {
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ChatRoomMemberCacheService chatRoomMemberCacheService;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private ChatRoomSubscriptionInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ChatRoomSubscriptionInterceptor(chatRoomRepository, userRepository, chatRoomMemberCacheService);
+    }
+
+    @Test
+    @DisplayName("SEND 거부 - /topic/chatroom/{id} 로 직접 보내면 MessageSendPermissionDeniedException")
+    void send_toTopic_rejected() {
+        // given
+        Message<byte[]> message = frame(StompCommand.SEND, "/topic/chatroom/1", 1L);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOf(MessageSendPermissionDeniedException.class);
+        then(chatRoomMemberCacheService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("SEND 허용 - /app 하위 목적지는 그대로 통과")
+    void send_toApplicationDestination_passes() {
+        // given
+        Message<byte[]> message = frame(StompCommand.SEND, "/app/chatroom/1", 1L);
+
+        // when
+        Message<?> result = interceptor.preSend(message, channel);
+
+        // then
+        assertThat(result).isSameAs(message);
+    }
+
+    @Test
+    @DisplayName("SEND 거부 - 로그인하지 않은 연결은 UserNotFoundException")
+    void send_withoutPrincipal_rejected() {
+        // given
+        Message<byte[]> message = frame(StompCommand.SEND, "/app/chatroom/1", null);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE 거부 - 로그인하지 않은 연결은 UserNotFoundException")
+    void subscribe_withoutPrincipal_rejected() {
+        // given
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/topic/chatroom/1", null);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOf(UserNotFoundException.class);
+        then(chatRoomMemberCacheService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE 허용 - 채팅방 토픽은 멤버 여부를 확인한 뒤 통과")
+    void subscribe_chatRoomTopic_checksMembership() {
+        // given
+        ChatRoom chatRoom = mock(ChatRoom.class);
+        User user = mock(User.class);
+        given(chatRoomRepository.getReferenceById(1L)).willReturn(chatRoom);
+        given(userRepository.getReferenceById(7L)).willReturn(user);
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/topic/chatroom/1", 7L);
+
+        // when
+        Message<?> result = interceptor.preSend(message, channel);
+
+        // then
+        assertThat(result).isSameAs(message);
+        then(chatRoomMemberCacheService).should().getOrLoadRole(chatRoom, user);
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE 허용 - 채팅방 외 목적지는 멤버 확인 없이 통과")
+    void subscribe_otherDestination_skipsMembership() {
+        // given
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/user/queue/errors", 7L);
+
+        // when
+        Message<?> result = interceptor.preSend(message, channel);
+
+        // then
+        assertThat(result).isSameAs(message);
+        then(chatRoomMemberCacheService).should(never()).getOrLoadRole(any(), any());
+    }
+
+    private Message<byte[]> frame(StompCommand command, String destination, Long userId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        Map<String, Object> attributes = new HashMap<>();
+        if (userId != null) {
+            attributes.put(LoginUserHandshakeInterceptor.USER_ID_ATTRIBUTE, userId);
+            String name = String.valueOf(userId);
+            accessor.setUser(() -> name);
+        }
+        accessor.setSessionAttributes(attributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
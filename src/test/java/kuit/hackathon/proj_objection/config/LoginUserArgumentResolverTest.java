@@ -6,13 +6,14 @@ import kuit.hackathon.proj_objection.annotation.LoginUser;
 import kuit.hackathon.proj_objection.entity.User;
 import kuit.hackathon.proj_objection.exception.UserNotFoundException;
 import kuit.hackathon.proj_objection.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.Optional;
@@ -20,7 +21,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class LoginUserArgumentResolverTest {
@@ -28,9 +31,13 @@ class LoginUserArgumentResolverTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
     private LoginUserArgumentResolver resolver;
 
+    @BeforeEach
+    void setUp() {
+        resolver = new LoginUserArgumentResolver(userRepository, 100L, 30L);
+    }
+
     @Test
     @DisplayName("@LoginUser User 파라미터를 지원한다")
     void supportsParameter_withLoginUserAndUserType_shouldReturnTrue() throws NoSuchMethodException {
@@ -79,6 +86,7 @@ class LoginUserArgumentResolverTest {
         // given
         Long userId = 1L;
         User user = User.create("testUser", "password");
+        ReflectionTestUtils.setField(user, "id", userId);
 
         NativeWebRequest webRequest = mock(NativeWebRequest.class);
         HttpServletRequest request = mock(HttpServletRequest.class);
@@ -93,7 +101,38 @@ class LoginUserArgumentResolverTest {
         Object result = resolver.resolveArgument(null, null, webRequest, null);
 
         // then
-        assertThat(result).isEqualTo(user);
+        assertThat(result).isInstanceOf(User.class);
+        assertThat(((User) result).getId()).isEqualTo(userId);
+        assertThat(((User) result).getNickname()).isEqualTo("testUser");
+    }
+
+    @Test
+    @DisplayName("같은 유저의 반복 요청은 DB를 다시 조회하지 않고, 비밀번호 없는 참조를 반환한다")
+    void resolveArgument_repeatedRequests_shouldUseCachedUser() {
+        // given
+        Long userId = 1L;
+        User user = User.create("testUser", "password");
+        ReflectionTestUtils.setField(user, "id", userId);
+
+        NativeWebRequest webRequest = mock(NativeWebRequest.class);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpSession session = mock(HttpSession.class);
+
+        given(webRequest.getNativeRequest()).willReturn(request);
+        given(request.getSession(false)).willReturn(session);
+        given(session.getAttribute("userId")).willReturn(userId);
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+
+        // when
+        Object first = resolver.resolveArgument(null, null, webRequest, null);
+        Object second = resolver.resolveArgument(null, null, webRequest, null);
+
+        // then
+        assertThat(((User) first).getId()).isEqualTo(userId);
+        assertThat(((User) second).getId()).isEqualTo(userId);
+        assertThat(((User) second).getNickname()).isEqualTo("testUser");
+        assertThat(((User) second).getPassword()).isNull();
+        then(userRepository).should(times(1)).findById(userId);
     }
 
     @Test
@@ -4,6 +4,7 @@ import kuit.hackathon.proj_objection.dto.common.ChatMessageDto;
 import kuit.hackathon.proj_objection.dto.common.ChatMessageListDto;
 import kuit.hackathon.proj_objection.dto.request.SendMessageRequestDto;
 import kuit.hackathon.proj_objection.dto.response.BaseResponse;
+import kuit.hackathon.proj_objection.dto.response.ChatMessagePageResponseDto;
 import kuit.hackathon.proj_objection.entity.User;
 import kuit.hackathon.proj_objection.exception.ChatRoomMemberNotFoundException;
 import kuit.hackathon.proj_objection.exception.ChatRoomNotFoundException;
@@ -159,4 +160,35 @@ class ChatMessageControllerTest {
 
         then(chatMessageService).should(times(1)).getChatMessages(chatRoomId, loginUser);
     }
+
+    @Test
+    @DisplayName("메시지 페이지 조회 성공 - service 호출 결과를 BaseResponse로 감싸서 반환")
+    void getChatMessagePage_success() {
+        // given
+        Long chatRoomId = 1L;
+        User loginUser = userWithId(10L, "철수");
+
+        ChatMessagePageResponseDto serviceResult = ChatMessagePageResponseDto.builder()
+                .messages(List.of(
+                        new ChatMessageListDto(99L, "영희", "최근 메시지", LocalDateTime.now(), ChatMessageDto.MessageType.OTHER)
+                ))
+                .nextBeforeId(99L)
+                .hasMore(true)
+                .build();
+
+        given(chatMessageService.getChatMessagePage(chatRoomId, loginUser, 100L, 1))
+                .willReturn(serviceResult);
+
+        // when
+        BaseResponse<ChatMessagePageResponseDto> response =
+                chatMessageController.getChatMessagePage(chatRoomId, 100L, 1, null, loginUser);
+
+        // then
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getResult().getMessages()).hasSize(1);
+        assertThat(response.getResult().getNextBeforeId()).isEqualTo(99L);
+        assertThat(response.getResult().isHasMore()).isTrue();
+
+        then(chatMessageService).should(times(1)).getChatMessagePage(chatRoomId, loginUser, 100L, 1);
+    }
 }
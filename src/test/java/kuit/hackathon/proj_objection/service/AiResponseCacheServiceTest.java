@@ -0,0 +1,111 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.client.openai.dto.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class AiResponseCacheServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private AiResponseCacheService aiResponseCacheService;
+
+    @BeforeEach
+    void setUp() {
+        aiResponseCacheService = new AiResponseCacheService(redisTemplate, true, 600L);
+    }
+
+    @Test
+    @DisplayName("같은 요청은 같은 키, 내용이 다르면 다른 키에 저장")
+    void put_sameRequestSameKey_differentContentDifferentKey() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+
+        // when
+        aiResponseCacheService.put(request("원고: 주장"), "{\"score\": 60}");
+        aiResponseCacheService.put(request("원고: 주장"), "{\"score\": 60}");
+        aiResponseCacheService.put(request("원고: 다른 주장"), "{\"score\": 40}");
+
+        // then
+        then(valueOperations).should(times(3)).set(keys.capture(), anyString(), eq(Duration.ofSeconds(600)));
+        assertThat(keys.getAllValues().get(0))
+                .startsWith("ai:response:")
+                .isEqualTo(keys.getAllValues().get(1))
+                .isNotEqualTo(keys.getAllValues().get(2));
+    }
+
+    @Test
+    @DisplayName("캐시된 응답 조회")
+    void get_hit_returnsResponse() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString())).willReturn("{\"score\": 60}");
+
+        // when
+        String response = aiResponseCacheService.get(request("원고: 주장"));
+
+        // then
+        assertThat(response).isEqualTo("{\"score\": 60}");
+    }
+
+    @Test
+    @DisplayName("Redis 에러 시 캐시 미스로 처리")
+    void get_redisFailure_returnsNull() {
+        // given
+        given(redisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        String response = aiResponseCacheService.get(request("원고: 주장"));
+
+        // then
+        assertThat(response).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 Redis를 사용하지 않음")
+    void get_disabled_skipsRedis() {
+        // given
+        AiResponseCacheService disabled = new AiResponseCacheService(redisTemplate, false, 600L);
+
+        // when
+        String response = disabled.get(request("원고: 주장"));
+
+        // then
+        assertThat(response).isNull();
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    private ChatCompletionRequest request(String transcript) {
+        return ChatCompletionRequest.builder()
+                .model("gpt-4o")
+                .messages(List.of(Message.system("시스템 프롬프트"), Message.user(transcript)))
+                .temperature(0.3)
+                .maxTokens(1000)
+                .build();
+    }
+}
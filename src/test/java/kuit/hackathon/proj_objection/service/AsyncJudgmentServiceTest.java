@@ -1,6 +1,7 @@
 package kuit.hackathon.proj_objection.service;
 
 import kuit.hackathon.proj_objection.dto.common.AnalysisResult;
+import kuit.hackathon.proj_objection.dto.common.JudgmentNotificationDto;
 import kuit.hackathon.proj_objection.entity.ChatRoom;
 import kuit.hackathon.proj_objection.entity.ChatRoomMember;
 import kuit.hackathon.proj_objection.entity.FinalJudgement;
@@ -12,17 +13,23 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
@@ -41,6 +48,15 @@ class AsyncJudgmentServiceTest {
     @Mock
     private FinalJudgementRepository finalJudgementRepository;
 
+    @Mock
+    private ChatRoomEventPublisher chatRoomEventPublisher;
+
+    @Mock
+    private ChatMessageStreamDrainer chatMessageStreamDrainer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private AsyncJudgmentService asyncJudgmentService;
 
@@ -66,10 +82,11 @@ class AsyncJudgmentServiceTest {
                 .loserReason("감정적 대응으로 일관")
                 .build();
 
+        given(chatMessageStreamDrainer.awaitDrained(chatRoomId)).willReturn(true);
         given(finalJudgementRepository.existsByChatRoom_Id(chatRoomId)).willReturn(false);
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
         given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember, participantMember));
-        given(openAiChatProcessor.analyzeDetailed(chatRoomId)).willReturn(analysisResult);
+        given(openAiChatProcessor.analyzeDetailed(eq(chatRoomId), any())).willReturn(analysisResult);
 
         // when
         asyncJudgmentService.analyzeAndSave(chatRoomId);
@@ -88,6 +105,53 @@ class AsyncJudgmentServiceTest {
         assertThat(savedJudgement.getJudgmentComment()).isEqualTo("원고가 논리적으로 주장을 펼쳤습니다.");
         assertThat(savedJudgement.getWinnerReason()).isEqualTo("구체적 사례와 논리적 근거 제시");
         assertThat(savedJudgement.getLoserReason()).isEqualTo("감정적 대응으로 일관");
+
+        ArgumentCaptor<JudgmentNotificationDto> notificationCaptor = ArgumentCaptor.forClass(JudgmentNotificationDto.class);
+        then(chatRoomEventPublisher).should(times(1)).publishJudgment(eq(chatRoomId), notificationCaptor.capture());
+        assertThat(notificationCaptor.getValue().getType()).isEqualTo("FINAL_JUDGMENT");
+        assertThat(notificationCaptor.getValue().getWinner()).isEqualTo("철수");
+    }
+
+    @Test
+    @DisplayName("판결 코멘트가 생성되는 대로 중간 결과를 즉시 전송")
+    void analyzeAndSave_publishesCommentProgress() {
+        // given
+        Long chatRoomId = 1L;
+        User creator = createUserWithId("철수", 1L);
+        User participant = createUserWithId("영희", 2L);
+        ChatRoom chatRoom = ChatRoom.create(creator);
+        setChatRoomId(chatRoom, chatRoomId);
+
+        ChatRoomMember creatorMember = ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT);
+        ChatRoomMember participantMember = ChatRoomMember.create(chatRoom, participant, ChatRoomMember.MemberRole.PARTICIPANT);
+
+        AnalysisResult analysisResult = AnalysisResult.builder()
+                .winner("철수")
+                .winnerLogicScore(85)
+                .winnerEmpathyScore(72)
+                .judgmentComment("원고가 논리적으로 주장을 펼쳤습니다.")
+                .winnerReason("구체적 사례와 논리적 근거 제시")
+                .loserReason("감정적 대응으로 일관")
+                .build();
+
+        given(chatMessageStreamDrainer.awaitDrained(chatRoomId)).willReturn(true);
+        given(finalJudgementRepository.existsByChatRoom_Id(chatRoomId)).willReturn(false);
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember, participantMember));
+        given(openAiChatProcessor.analyzeDetailed(eq(chatRoomId), any())).willAnswer(invocation -> {
+            Consumer<String> onCommentProgress = invocation.getArgument(1);
+            onCommentProgress.accept("원고가");
+            return analysisResult;
+        });
+
+        // when
+        asyncJudgmentService.analyzeAndSave(chatRoomId);
+
+        // then
+        ArgumentCaptor<JudgmentNotificationDto> progressCaptor = ArgumentCaptor.forClass(JudgmentNotificationDto.class);
+        then(chatRoomEventPublisher).should(times(1)).publishJudgmentProgress(eq(chatRoomId), progressCaptor.capture());
+        assertThat(progressCaptor.getValue().getType()).isEqualTo("JUDGMENT_PROGRESS");
+        assertThat(progressCaptor.getValue().getJudgmentComment()).isEqualTo("원고가");
     }
 
     @Test
@@ -96,13 +160,14 @@ class AsyncJudgmentServiceTest {
         // given
         Long chatRoomId = 1L;
 
+        given(chatMessageStreamDrainer.awaitDrained(chatRoomId)).willReturn(true);
         given(finalJudgementRepository.existsByChatRoom_Id(chatRoomId)).willReturn(true);
 
         // when
         asyncJudgmentService.analyzeAndSave(chatRoomId);
 
         // then
-        then(openAiChatProcessor).should(never()).analyzeDetailed(any());
+        then(openAiChatProcessor).should(never()).analyzeDetailed(any(), any());
         then(finalJudgementRepository).should(never()).save(any());
     }
 
@@ -119,16 +184,92 @@ class AsyncJudgmentServiceTest {
         ChatRoomMember creatorMember = ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT);
         ChatRoomMember participantMember = ChatRoomMember.create(chatRoom, participant, ChatRoomMember.MemberRole.PARTICIPANT);
 
+        given(chatMessageStreamDrainer.awaitDrained(chatRoomId)).willReturn(true);
         given(finalJudgementRepository.existsByChatRoom_Id(chatRoomId)).willReturn(false);
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
         given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember, participantMember));
-        given(openAiChatProcessor.analyzeDetailed(chatRoomId)).willThrow(new RuntimeException("OpenAI API 오류"));
+        given(openAiChatProcessor.analyzeDetailed(eq(chatRoomId), any())).willThrow(new RuntimeException("OpenAI API 오류"));
 
         // when - 예외가 발생해도 비동기 메서드는 예외를 던지지 않음
         asyncJudgmentService.analyzeAndSave(chatRoomId);
 
         // then
         then(finalJudgementRepository).should(never()).save(any());
+
+        ArgumentCaptor<JudgmentNotificationDto> notificationCaptor = ArgumentCaptor.forClass(JudgmentNotificationDto.class);
+        then(chatRoomEventPublisher).should(times(1)).publishJudgment(eq(chatRoomId), notificationCaptor.capture());
+        assertThat(notificationCaptor.getValue().getType()).isEqualTo("JUDGMENT_ERROR");
+    }
+
+    @Test
+    @DisplayName("스트림에 남아 있던 메시지를 판결 트랜잭션 전에 옮겨 판결 대화 내용에 포함")
+    void analyzeAndSave_includesMessageLeftInStream() {
+        // given
+        Long chatRoomId = 1L;
+        User creator = createUserWithId("철수", 1L);
+        User participant = createUserWithId("영희", 2L);
+        ChatRoom chatRoom = ChatRoom.create(creator);
+        setChatRoomId(chatRoom, chatRoomId);
+
+        ChatRoomMember creatorMember = ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT);
+        ChatRoomMember participantMember = ChatRoomMember.create(chatRoom, participant, ChatRoomMember.MemberRole.PARTICIPANT);
+
+        AnalysisResult analysisResult = AnalysisResult.builder()
+                .winner("철수")
+                .winnerLogicScore(85)
+                .winnerEmpathyScore(72)
+                .judgmentComment("원고가 논리적으로 주장을 펼쳤습니다.")
+                .winnerReason("구체적 사례와 논리적 근거 제시")
+                .loserReason("감정적 대응으로 일관")
+                .build();
+
+        // DB에 저장된 대화 내용 (drain 전에는 스트림에만 있던 메시지가 빠져 있음)
+        List<String> storedTranscript = new ArrayList<>(List.of("철수: 먼저 보낸 메시지"));
+        List<String> analyzedTranscript = new ArrayList<>();
+
+        given(chatMessageStreamDrainer.awaitDrained(chatRoomId)).willAnswer(invocation -> {
+            storedTranscript.add("영희: 스트림에 남아 있던 메시지");
+            return true;
+        });
+        given(finalJudgementRepository.existsByChatRoom_Id(chatRoomId)).willReturn(false);
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember, participantMember));
+        given(openAiChatProcessor.analyzeDetailed(eq(chatRoomId), any())).willAnswer(invocation -> {
+            analyzedTranscript.addAll(storedTranscript);
+            return analysisResult;
+        });
+
+        // when
+        asyncJudgmentService.analyzeAndSave(chatRoomId);
+
+        // then - 판결 트랜잭션을 열기 전에 스트림을 비움
+        InOrder inOrder = inOrder(chatMessageStreamDrainer, transactionManager, finalJudgementRepository);
+        inOrder.verify(chatMessageStreamDrainer).awaitDrained(chatRoomId);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(finalJudgementRepository).existsByChatRoom_Id(chatRoomId);
+
+        assertThat(analyzedTranscript).containsExactly("철수: 먼저 보낸 메시지", "영희: 스트림에 남아 있던 메시지");
+        then(finalJudgementRepository).should(times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("스트림을 비우지 못하면 분석하지 않고 실패 알림")
+    void analyzeAndSave_fail_whenStreamNotDrained() {
+        // given
+        Long chatRoomId = 1L;
+
+        given(chatMessageStreamDrainer.awaitDrained(chatRoomId)).willReturn(false);
+
+        // when
+        asyncJudgmentService.analyzeAndSave(chatRoomId);
+
+        // then
+        then(openAiChatProcessor).should(never()).analyzeDetailed(any(), any());
+        then(finalJudgementRepository).should(never()).save(any());
+
+        ArgumentCaptor<JudgmentNotificationDto> notificationCaptor = ArgumentCaptor.forClass(JudgmentNotificationDto.class);
+        then(chatRoomEventPublisher).should(times(1)).publishJudgment(eq(chatRoomId), notificationCaptor.capture());
+        assertThat(notificationCaptor.getValue().getType()).isEqualTo("JUDGMENT_ERROR");
     }
 
     // ========== Helper Methods ==========
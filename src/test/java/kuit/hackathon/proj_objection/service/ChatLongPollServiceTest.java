@@ -0,0 +1,152 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.dto.common.ChatPollMessageDto;
+import kuit.hackathon.proj_objection.dto.response.ChatPollResponseDto;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.exception.ChatRoomMemberNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ChatLongPollServiceTest {
+
+    @Mock
+    private ChatPollService chatPollService;
+
+    private ChatRoomSignalService chatRoomSignalService;
+    private ChatLongPollService chatLongPollService;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomSignalService = new ChatRoomSignalService();
+        chatLongPollService = new ChatLongPollService(chatPollService, chatRoomSignalService, Runnable::run, 30000L);
+    }
+
+    @Test
+    @DisplayName("새 메시지가 있으면 대기하지 않고 즉시 응답")
+    void poll_withNewMessages_returnsImmediately() {
+        // given
+        User user = User.create("철수", "password");
+        ChatPollResponseDto response = createResponse(List.of(
+                new ChatPollMessageDto(11L, "철수", "안녕하세요!", LocalDateTime.now())
+        ), ChatRoom.RoomStatus.ALIVE);
+
+        given(chatPollService.poll(1L, 10L, user)).willReturn(response);
+
+        // when
+        CompletableFuture<ChatPollResponseDto> result = chatLongPollService.poll(1L, 10L, 25000L, user);
+
+        // then
+        assertThat(result).isCompletedWithValue(response);
+        assertThat(chatRoomSignalService.getWaiterCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("변경 사항이 없으면 채팅방 신호를 받을 때까지 대기 후 다시 폴링")
+    void poll_withoutUpdates_waitsForSignal() {
+        // given
+        User user = User.create("철수", "password");
+        ChatPollResponseDto empty = createResponse(List.of(), ChatRoom.RoomStatus.ALIVE);
+        ChatPollResponseDto updated = createResponse(List.of(
+                new ChatPollMessageDto(11L, "영희", "반갑습니다!", LocalDateTime.now())
+        ), ChatRoom.RoomStatus.ALIVE);
+
+        given(chatPollService.poll(1L, 10L, user)).willReturn(empty, updated);
+
+        // when
+        CompletableFuture<ChatPollResponseDto> result = chatLongPollService.poll(1L, 10L, 25000L, user);
+
+        // then
+        assertThat(result).isNotDone();
+        assertThat(chatRoomSignalService.getWaiterCount(1L)).isEqualTo(1);
+
+        chatRoomSignalService.signal(1L);
+
+        assertThat(result).isCompletedWithValue(updated);
+        then(chatPollService).should(times(2)).poll(1L, 10L, user);
+    }
+
+    @Test
+    @DisplayName("종료된 채팅방은 대기하지 않음")
+    void poll_doneRoom_returnsImmediately() {
+        // given
+        User user = User.create("철수", "password");
+        ChatPollResponseDto done = createResponse(List.of(), ChatRoom.RoomStatus.DONE);
+
+        given(chatPollService.poll(1L, 10L, user)).willReturn(done);
+
+        // when
+        CompletableFuture<ChatPollResponseDto> result = chatLongPollService.poll(1L, 10L, 25000L, user);
+
+        // then
+        assertThat(result).isCompletedWithValue(done);
+    }
+
+    @Test
+    @DisplayName("즉시 폴링 실패 시 예외를 전파하고 대기 등록을 해제")
+    void poll_fail_propagatesExceptionAndReleasesWaiter() {
+        // given
+        User user = User.create("비회원", "password");
+        given(chatPollService.poll(1L, 0L, user)).willThrow(new ChatRoomMemberNotFoundException());
+
+        // when & then
+        assertThatThrownBy(() -> chatLongPollService.poll(1L, 0L, 25000L, user))
+                .isInstanceOf(ChatRoomMemberNotFoundException.class);
+        assertThat(chatRoomSignalService.getWaiterCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 폴링하는 작업을 스레드 풀이 거절하면 대기 전 폴링 결과로 응답")
+    void poll_rePollRejected_respondsWithParkedResult() {
+        // given
+        ChatLongPollService rejectingService = new ChatLongPollService(chatPollService, chatRoomSignalService,
+                task -> {
+                    throw new RejectedExecutionException("Chat poll executor rejected task");
+                }, 30000L);
+        User user = User.create("철수", "password");
+        ChatPollResponseDto empty = createResponse(List.of(), ChatRoom.RoomStatus.ALIVE);
+
+        given(chatPollService.poll(1L, 10L, user)).willReturn(empty);
+
+        // when
+        CompletableFuture<ChatPollResponseDto> result = rejectingService.poll(1L, 10L, 25000L, user);
+        chatRoomSignalService.signal(1L);
+
+        // then
+        assertThat(result).isCompletedWithValue(empty);
+        then(chatPollService).should(times(1)).poll(1L, 10L, user);
+    }
+
+    @Test
+    @DisplayName("대기 시간은 서버 상한으로 제한")
+    void getEffectiveWaitMs_clampsToMaxWait() {
+        assertThat(chatLongPollService.getEffectiveWaitMs(60000L)).isEqualTo(30000L);
+        assertThat(chatLongPollService.getEffectiveWaitMs(-1L)).isZero();
+    }
+
+    private ChatPollResponseDto createResponse(List<ChatPollMessageDto> messages, ChatRoom.RoomStatus status) {
+        return ChatPollResponseDto.builder()
+                .messages(messages)
+                .chatRoomStatus(status)
+                .finishRequestNickname(null)
+                .percent(Map.of("철수", 50))
+                .build();
+    }
+}
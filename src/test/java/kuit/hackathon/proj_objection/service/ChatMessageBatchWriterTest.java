@@ -0,0 +1,175 @@
+package kuit.hackathon.proj_objection.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kuit.hackathon.proj_objection.entity.ChatMessage;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageBatchWriterTest {
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMessageBatchWriter writer;
+
+    private ChatRoom chatRoom;
+    private User sender;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ChatMessageBatchWriter(chatMessageRepository, transactionManager, new SimpleMeterRegistry(), true, 50);
+        sender = User.create("철수", "password123");
+        ReflectionTestUtils.setField(sender, "id", 1L);
+        chatRoom = ChatRoom.create(sender);
+        ReflectionTestUtils.setField(chatRoom, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("대기 중인 메시지가 없으면 한 건만 저장하고 반환")
+    void write_single() {
+        // given
+        ChatMessage message = ChatMessage.create(chatRoom, sender, "안녕하세요");
+
+        // when
+        ChatMessage result = writer.write(message);
+
+        // then
+        assertThat(result).isSameAs(message);
+        then(chatMessageRepository).should(times(1)).saveAll(List.of(message));
+        then(transactionManager).should(times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("저장 중에 들어온 메시지들은 다음 트랜잭션 하나로 묶어서 저장")
+    void write_groupsMessagesArrivingDuringFlush() throws Exception {
+        // given
+        CountDownLatch firstFlushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+        List<Integer> batchSizes = new ArrayList<>();
+        given(chatMessageRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<ChatMessage> batch = invocation.getArgument(0);
+            synchronized (batchSizes) {
+                batchSizes.add(batch.size());
+            }
+            firstFlushStarted.countDown();
+            releaseFirstFlush.await(1, TimeUnit.SECONDS);
+            return batch;
+        });
+
+        Thread leader = Thread.ofVirtual().start(() -> writer.write(ChatMessage.create(chatRoom, sender, "첫 메시지")));
+        assertThat(firstFlushStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String content = "메시지 " + i;
+            followers.add(Thread.ofVirtual().start(() -> writer.write(ChatMessage.create(chatRoom, sender, content))));
+        }
+        Thread.sleep(100);
+        releaseFirstFlush.countDown();
+
+        leader.join(1000);
+        for (Thread follower : followers) {
+            follower.join(1000);
+        }
+
+        // then
+        assertThat(batchSizes).containsExactly(1, 3);
+        then(transactionManager).should(times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 한 건씩 다시 저장하여 문제 있는 메시지만 실패")
+    void write_batchFailure_retriesOneByOne() throws Exception {
+        // given
+        CountDownLatch firstFlushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+        given(chatMessageRepository.saveAll(anyList()))
+                .willAnswer(invocation -> {
+                    firstFlushStarted.countDown();
+                    releaseFirstFlush.await(1, TimeUnit.SECONDS);
+                    return invocation.getArgument(0);
+                })
+                .willThrow(new DataIntegrityViolationException("batch failed"));
+        given(chatMessageRepository.save(any(ChatMessage.class))).willAnswer(invocation -> {
+            ChatMessage message = invocation.getArgument(0);
+            if ("잘못된 메시지".equals(message.getContent())) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            return message;
+        });
+
+        Thread leader = Thread.ofVirtual().start(() -> writer.write(ChatMessage.create(chatRoom, sender, "첫 메시지")));
+        assertThat(firstFlushStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        List<ChatMessage> saved = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        Thread good = Thread.ofVirtual().start(() -> {
+            ChatMessage result = writer.write(ChatMessage.create(chatRoom, sender, "정상 메시지"));
+            synchronized (saved) {
+                saved.add(result);
+            }
+        });
+        Thread bad = Thread.ofVirtual().start(() -> {
+            try {
+                writer.write(ChatMessage.create(chatRoom, sender, "잘못된 메시지"));
+            } catch (RuntimeException e) {
+                synchronized (failures) {
+                    failures.add(e);
+                }
+            }
+        });
+        Thread.sleep(100);
+
+        // when
+        releaseFirstFlush.countDown();
+        leader.join(1000);
+        good.join(1000);
+        bad.join(1000);
+
+        // then
+        assertThat(saved).extracting(ChatMessage::getContent).containsExactly("정상 메시지");
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0)).isInstanceOf(DataIntegrityViolationException.class);
+        then(chatMessageRepository).should(times(2)).save(any(ChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("한 건짜리 저장이 실패하면 예외를 그대로 전달")
+    void write_singleFailure_propagates() {
+        // given
+        given(chatMessageRepository.saveAll(anyList())).willThrow(new DataIntegrityViolationException("bad row"));
+
+        // when & then
+        assertThatThrownBy(() -> writer.write(ChatMessage.create(chatRoom, sender, "메시지")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        then(chatMessageRepository).should(times(0)).save(any(ChatMessage.class));
+    }
+}
@@ -1,6 +1,7 @@
 package kuit.hackathon.proj_objection.service;
 
 import kuit.hackathon.proj_objection.dto.common.*;
+import kuit.hackathon.proj_objection.dto.response.ChatMessagePageResponseDto;
 import kuit.hackathon.proj_objection.entity.*;
 import kuit.hackathon.proj_objection.exception.*;
 import kuit.hackathon.proj_objection.repository.*;
@@ -12,15 +13,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,9 +34,21 @@ class ChatMessageServiceTest {
     @Mock
     private ChatRoomRepository chatRoomRepository;
     @Mock
-    private ChatRoomMemberRepository chatRoomMemberRepository;
+    private DebateAnalysisScheduler debateAnalysisScheduler;
     @Mock
-    private DebateAnalysisService debateAnalysisService;
+    private ChatRoomEventPublisher chatRoomEventPublisher;
+
+    @Mock
+    private ChatRoomMemberCacheService chatRoomMemberCacheService;
+
+    @Mock
+    private ChatMessageBatchWriter chatMessageBatchWriter;
+
+    @Mock
+    private ChatMessageStreamService chatMessageStreamService;
+
+    @Mock
+    private ChatRecentMessageCacheService chatRecentMessageCacheService;
 
     @InjectMocks
     private ChatMessageService chatMessageService;
@@ -67,8 +82,8 @@ class ChatMessageServiceTest {
         ReflectionTestUtils.setField(savedMessage, "id", 1L);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, sender))
-                .willReturn(Optional.of(ChatRoomMember.create(chatRoom, sender, ChatRoomMember.MemberRole.PARTICIPANT)));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, sender))
+                .willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
         given(chatMessageRepository.save(any(ChatMessage.class))).willReturn(savedMessage);
 
         // when
@@ -79,13 +94,92 @@ class ChatMessageServiceTest {
         assertThat(result.getSenderNickName()).isEqualTo("철수");
         then(chatMessageRepository).should(times(1)).save(any(ChatMessage.class));
 
-        // ✅ 실제 트랜잭션 커밋은 단위 테스트에서 일어나지 않으니,
-        // ✅ afterCommit을 직접 호출해서 커밋 후 동작을 시뮬레이션할 수 있음
-        TransactionSynchronizationManager.getSynchronizations()
-                .forEach(TransactionSynchronization::afterCommit);
+        // 저장(커밋) 후 최근 메시지 링 추가, 분석 요청과 브로드캐스트가 이루어지는지 검증
+        then(chatRecentMessageCacheService).should(times(1)).append(eq(chatRoomId), any(ChatPollMessageDto.class));
+        then(debateAnalysisScheduler).should(times(1)).request(chatRoomId);
+        then(chatRoomEventPublisher).should(times(1)).publishMessage(eq(chatRoomId), any(ChatMessageDto.class));
+    }
+
+    @Test
+    @DisplayName("그룹 커밋이 켜져 있으면 ChatMessageBatchWriter로 저장")
+    void sendMessage_batchWrite() {
+        // given
+        User sender = User.create("철수", "password123");
+        ReflectionTestUtils.setField(sender, "id", 1L);
+
+        ChatRoom chatRoom = ChatRoom.create(sender);
+        Long chatRoomId = 1L;
+
+        ChatMessage savedMessage = ChatMessage.create(chatRoom, sender, "안녕하세요");
+        ReflectionTestUtils.setField(savedMessage, "id", 7L);
+
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, sender))
+                .willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
+        given(chatMessageBatchWriter.isEnabled()).willReturn(true);
+        given(chatMessageBatchWriter.write(any(ChatMessage.class))).willReturn(savedMessage);
+
+        // when
+        ChatMessageDto result = chatMessageService.sendMessage(chatRoomId, sender, "안녕하세요");
+
+        // then
+        assertThat(result.getMessageId()).isEqualTo(7L);
+        then(chatMessageRepository).should(never()).save(any(ChatMessage.class));
+        then(debateAnalysisScheduler).should(times(1)).request(chatRoomId);
+    }
+
+    @Test
+    @DisplayName("빠른 전송 모드면 Redis Stream에 추가하고 DB 저장과 분석 요청은 drain에 맡김")
+    void sendMessage_fastSend() {
+        // given
+        User sender = User.create("철수", "password123");
+        ReflectionTestUtils.setField(sender, "id", 1L);
+
+        ChatRoom chatRoom = ChatRoom.create(sender);
+        Long chatRoomId = 1L;
+
+        ChatMessageStreamEntry streamed = new ChatMessageStreamEntry(
+                "21-0", 21L, chatRoomId, 1L, "철수", "안녕하세요", LocalDateTime.now());
+
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, sender))
+                .willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
+        given(chatMessageStreamService.isEnabled()).willReturn(true);
+        given(chatMessageStreamService.append(chatRoomId, sender, "안녕하세요")).willReturn(streamed);
+
+        // when
+        ChatMessageDto result = chatMessageService.sendMessage(chatRoomId, sender, "안녕하세요");
+
+        // then
+        assertThat(result.getMessageId()).isEqualTo(21L);
+        then(chatMessageRepository).should(never()).save(any(ChatMessage.class));
+        then(chatMessageBatchWriter).should(never()).write(any(ChatMessage.class));
+        then(debateAnalysisScheduler).should(never()).request(any());
+        then(chatRoomEventPublisher).should(times(1)).publishMessage(eq(chatRoomId), any(ChatMessageDto.class));
+    }
+
+    @Test
+    @DisplayName("빠른 전송 모드에서 Redis 오류로 스트림에 추가하지 못하면 DB에 직접 저장하지 않고 실패")
+    void sendMessage_fastSend_redisFailure_fails() {
+        // given
+        User sender = User.create("철수", "password123");
+        ReflectionTestUtils.setField(sender, "id", 1L);
+
+        ChatRoom chatRoom = ChatRoom.create(sender);
+        Long chatRoomId = 1L;
 
-        // afterCommit에서 debateAnalysisService가 호출되는지 검증
-        then(debateAnalysisService).should(times(1)).analyzeAndUpdateScores(chatRoomId);
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, sender))
+                .willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
+        given(chatMessageStreamService.isEnabled()).willReturn(true);
+        given(chatMessageStreamService.append(chatRoomId, sender, "안녕하세요")).willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> chatMessageService.sendMessage(chatRoomId, sender, "안녕하세요"))
+                .isInstanceOf(MessageSendUnavailableException.class);
+        then(chatMessageRepository).should(never()).save(any(ChatMessage.class));
+        then(chatMessageBatchWriter).should(never()).write(any(ChatMessage.class));
+        then(chatRoomEventPublisher).should(never()).publishMessage(any(), any());
     }
 
     @Test
@@ -98,8 +192,8 @@ class ChatMessageServiceTest {
         Long chatRoomId = 1L;
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, observer))
-                .willReturn(Optional.of(ChatRoomMember.create(chatRoom, observer, ChatRoomMember.MemberRole.OBSERVER)));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, observer))
+                .willReturn(ChatRoomMember.MemberRole.OBSERVER);
 
         // when & then
         assertThatThrownBy(() -> chatMessageService.sendMessage(chatRoomId, observer, "메시지"))
@@ -126,9 +220,9 @@ class ChatMessageServiceTest {
         ReflectionTestUtils.setField(msg2, "id", 2L);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, user))
-                .willReturn(Optional.of(ChatRoomMember.create(chatRoom, user, ChatRoomMember.MemberRole.PARTICIPANT)));
-        given(chatMessageRepository.findByChatRoomOrderByCreatedAtDesc(chatRoom))
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, user))
+                .willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
+        given(chatMessageRepository.findByChatRoomOrderByIdDesc(chatRoom))
                 .willReturn(List.of(msg2, msg1));
 
         // when
@@ -139,4 +233,67 @@ class ChatMessageServiceTest {
         assertThat(result.get(0).getType()).isEqualTo(ChatMessageDto.MessageType.OTHER);
         assertThat(result.get(1).getType()).isEqualTo(ChatMessageDto.MessageType.ME);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("메시지 페이지 조회 - limit보다 많으면 다음 페이지 커서 반환")
+    void getChatMessagePage_hasMore() {
+        // given
+        User user = User.create("철수", "password123");
+        User other = User.create("영희", "password456");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        ReflectionTestUtils.setField(other, "id", 2L);
+
+        ChatRoom chatRoom = ChatRoom.create(user);
+        Long chatRoomId = 1L;
+
+        ChatMessage msg3 = ChatMessage.create(chatRoom, other, "세 번째");
+        ChatMessage msg2 = ChatMessage.create(chatRoom, user, "두 번째");
+        ChatMessage msg1 = ChatMessage.create(chatRoom, other, "첫 번째");
+        ReflectionTestUtils.setField(msg3, "id", 30L);
+        ReflectionTestUtils.setField(msg2, "id", 20L);
+        ReflectionTestUtils.setField(msg1, "id", 10L);
+
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, user))
+                .willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
+        given(chatMessageRepository.findMessagesWithSenderBefore(chatRoom, 40L, PageRequest.of(0, 3)))
+                .willReturn(List.of(msg3, msg2, msg1));
+
+        // when
+        ChatMessagePageResponseDto result = chatMessageService.getChatMessagePage(chatRoomId, user, 40L, 2);
+
+        // then
+        assertThat(result.getMessages()).extracting(ChatMessageListDto::getMessageId).containsExactly(30L, 20L);
+        assertThat(result.getMessages().get(1).getType()).isEqualTo(ChatMessageDto.MessageType.ME);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getNextBeforeId()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("메시지 페이지 조회 - beforeId가 없으면 최신부터, limit은 상한으로 제한")
+    void getChatMessagePage_firstPage_clampsLimit() {
+        // given
+        User user = User.create("철수", "password123");
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        ChatRoom chatRoom = ChatRoom.create(user);
+        Long chatRoomId = 1L;
+
+        ChatMessage msg = ChatMessage.create(chatRoom, user, "유일한 메시지");
+        ReflectionTestUtils.setField(msg, "id", 1L);
+
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, user))
+                .willReturn(ChatRoomMember.MemberRole.OBSERVER);
+        given(chatMessageRepository.findMessagesWithSenderBefore(chatRoom, Long.MAX_VALUE, PageRequest.of(0, 101)))
+                .willReturn(List.of(msg));
+
+        // when
+        ChatMessagePageResponseDto result = chatMessageService.getChatMessagePage(chatRoomId, user, null, 10_000);
+
+        // then
+        assertThat(result.getMessages()).hasSize(1);
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getNextBeforeId()).isNull();
+    }
+}
@@ -0,0 +1,196 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.dto.common.ChatMessageStreamEntry;
+import kuit.hackathon.proj_objection.entity.ChatMessage;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.repository.ChatMessageJdbcRepository;
+import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
+import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
+import kuit.hackathon.proj_objection.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageStreamDrainerTest {
+
+    @Mock
+    private ChatMessageStreamService chatMessageStreamService;
+
+    @Mock
+    private ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DebateAnalysisScheduler debateAnalysisScheduler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMessageStreamDrainer drainer;
+
+    @BeforeEach
+    void setUp() {
+        // 생성 시점에는 비활성으로 보여 타이머를 띄우지 않고, 테스트에서 drainRoom을 직접 호출
+        drainer = new ChatMessageStreamDrainer(chatMessageStreamService, chatMessageJdbcRepository,
+                chatMessageRepository, chatRoomRepository, userRepository, debateAnalysisScheduler,
+                transactionManager, 200, 200, 30000);
+        given(chatMessageStreamService.isEnabled()).willReturn(true);
+    }
+
+    private ChatMessageStreamEntry createEntry(Long messageId, Long senderId, String content) {
+        return new ChatMessageStreamEntry(messageId + "-0", messageId, 1L, senderId, "철수", content, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("스트림의 메시지를 DB에 저장하고 스트림에서 제거한 뒤 승률 분석 요청")
+    void drainRoom_success() {
+        // given
+        List<ChatMessageStreamEntry> entries = List.of(createEntry(11L, 1L, "메시지1"), createEntry(12L, 1L, "메시지2"));
+        given(chatMessageStreamService.tryLockDrain(eq(1L), anyString(), any())).willReturn(true);
+        given(chatMessageStreamService.readForDrain(eq(1L), anyString(), anyInt(), any())).willReturn(entries);
+
+        // when
+        drainer.drainRoom(1L);
+
+        // then
+        then(chatMessageJdbcRepository).should(times(1)).insertAll(entries);
+        then(chatMessageStreamService).should(times(1)).acknowledge(1L, entries);
+        then(chatMessageStreamService).should(times(1)).unlockDrain(eq(1L), anyString());
+        then(debateAnalysisScheduler).should(times(1)).request(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 drain 락을 잡고 있으면 건너뜀")
+    void drainRoom_lockNotAcquired() {
+        // given
+        given(chatMessageStreamService.tryLockDrain(eq(1L), anyString(), any())).willReturn(false);
+
+        // when
+        drainer.drainRoom(1L);
+
+        // then
+        then(chatMessageStreamService).should(never()).readForDrain(any(), anyString(), anyInt(), any());
+        then(chatMessageJdbcRepository).should(never()).insertAll(anyList());
+        then(debateAnalysisScheduler).should(never()).request(any());
+    }
+
+    @Test
+    @DisplayName("이미 같은 내용으로 저장된 메시지는 다시 저장하지 않고 스트림에서 제거")
+    void drainRoom_skipsAlreadyPersistedMessage() {
+        // given
+        ChatMessageStreamEntry entry = createEntry(11L, 1L, "메시지1");
+        given(chatMessageStreamService.tryLockDrain(eq(1L), anyString(), any())).willReturn(true);
+        given(chatMessageStreamService.readForDrain(eq(1L), anyString(), anyInt(), any())).willReturn(List.of(entry));
+        willThrow(new DuplicateKeyException("Duplicate entry")).given(chatMessageJdbcRepository).insertAll(List.of(entry));
+
+        User sender = User.create("철수", "password123");
+        ReflectionTestUtils.setField(sender, "id", 1L);
+        ChatMessage existing = ChatMessage.create(ChatRoom.create(sender), sender, "메시지1");
+        given(chatMessageRepository.findById(11L)).willReturn(Optional.of(existing));
+
+        // when
+        drainer.drainRoom(1L);
+
+        // then
+        then(chatMessageRepository).should(never()).save(any());
+        then(chatMessageStreamService).should(times(1)).acknowledge(1L, List.of(entry));
+        then(debateAnalysisScheduler).should(times(1)).request(1L);
+    }
+
+    @Test
+    @DisplayName("배치가 이어지면 락을 연장하고, 연장에 실패하면 중단")
+    void drainRoom_lostLock_stops() {
+        // given
+        ChatMessageStreamDrainer singleBatchDrainer = new ChatMessageStreamDrainer(chatMessageStreamService,
+                chatMessageJdbcRepository, chatMessageRepository, chatRoomRepository, userRepository,
+                debateAnalysisScheduler, transactionManager, 1, 200, 30000);
+        List<ChatMessageStreamEntry> entries = List.of(createEntry(11L, 1L, "메시지1"));
+        given(chatMessageStreamService.tryLockDrain(eq(1L), anyString(), any())).willReturn(true);
+        given(chatMessageStreamService.readForDrain(eq(1L), anyString(), eq(1), eq(Duration.ofMillis(30000))))
+                .willReturn(entries);
+        given(chatMessageStreamService.renewDrainLock(eq(1L), anyString(), any())).willReturn(false);
+
+        // when
+        singleBatchDrainer.drainRoom(1L);
+
+        // then
+        then(chatMessageJdbcRepository).should(times(1)).insertAll(entries);
+        then(chatMessageStreamService).should(times(1)).acknowledge(1L, entries);
+        then(chatMessageStreamService).should(times(1)).readForDrain(any(), anyString(), anyInt(), any());
+        then(chatMessageStreamService).should(times(1)).unlockDrain(eq(1L), anyString());
+        then(debateAnalysisScheduler).should(times(1)).request(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 drain 락을 잡고 있으면 풀릴 때까지 기다렸다가 스트림을 비움")
+    void awaitDrained_waitsForOtherNode() {
+        // given
+        ChatMessageStreamDrainer fastDrainer = new ChatMessageStreamDrainer(chatMessageStreamService,
+                chatMessageJdbcRepository, chatMessageRepository, chatRoomRepository, userRepository,
+                debateAnalysisScheduler, transactionManager, 200, 10, 30000);
+        List<ChatMessageStreamEntry> entries = List.of(createEntry(11L, 1L, "메시지1"));
+        given(chatMessageStreamService.tryLockDrain(eq(1L), anyString(), any())).willReturn(false, true);
+        given(chatMessageStreamService.readForDrain(eq(1L), anyString(), anyInt(), any())).willReturn(entries);
+        given(chatMessageStreamService.hasPending(1L)).willReturn(true, false);
+
+        // when
+        boolean drained = fastDrainer.awaitDrained(1L);
+
+        // then
+        assertThat(drained).isTrue();
+        then(chatMessageStreamService).should(times(2)).tryLockDrain(eq(1L), anyString(), any());
+        then(chatMessageJdbcRepository).should(times(1)).insertAll(entries);
+        then(chatMessageStreamService).should(times(1)).acknowledge(1L, entries);
+    }
+
+    @Test
+    @DisplayName("락 만료 시간 안에 스트림을 비우지 못하면 false")
+    void awaitDrained_timeout() {
+        // given
+        ChatMessageStreamDrainer shortLockDrainer = new ChatMessageStreamDrainer(chatMessageStreamService,
+                chatMessageJdbcRepository, chatMessageRepository, chatRoomRepository, userRepository,
+                debateAnalysisScheduler, transactionManager, 200, 10, 50);
+        given(chatMessageStreamService.tryLockDrain(eq(1L), anyString(), any())).willReturn(false);
+        given(chatMessageStreamService.hasPending(1L)).willReturn(true);
+
+        // when
+        boolean drained = shortLockDrainer.awaitDrained(1L);
+
+        // then
+        assertThat(drained).isFalse();
+        then(chatMessageJdbcRepository).should(never()).insertAll(anyList());
+    }
+}
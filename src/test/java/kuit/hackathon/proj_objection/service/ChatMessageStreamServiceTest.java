@@ -0,0 +1,71 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.dto.common.ChatMessageStreamEntry;
+import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageStreamServiceTest {
+
+    private static final String STREAM_KEY = "chat:room:1:messages";
+    private static final Duration MIN_IDLE = Duration.ofSeconds(30);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    private ChatMessageStreamService chatMessageStreamService;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageStreamService = new ChatMessageStreamService(redisTemplate, chatMessageRepository, true);
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+    }
+
+    @Test
+    @DisplayName("다른 소비자가 처리 중인 메시지를 회수하지 못하면 뒤의 메시지를 읽지 않고 대기")
+    void readForDrain_otherConsumerInFlight_waits() {
+        // given
+        RecordId recordId = RecordId.of("5-0");
+        PendingMessages pending = new PendingMessages("drain", Range.unbounded(), List.of(
+                new PendingMessage(recordId, Consumer.from("drain", "drainer-other"), Duration.ofSeconds(1), 1)));
+        given(streamOperations.pending(eq(STREAM_KEY), eq("drain"), any(Range.class), eq(200L))).willReturn(pending);
+        given(streamOperations.claim(STREAM_KEY, "drain", "drainer-me", MIN_IDLE, recordId)).willReturn(List.of());
+
+        // when
+        List<ChatMessageStreamEntry> entries = chatMessageStreamService.readForDrain(1L, "drainer-me", 200, MIN_IDLE);
+
+        // then
+        assertThat(entries).isEmpty();
+        then(streamOperations).should(never()).read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset[].class));
+    }
+}
@@ -1,5 +1,7 @@
 package kuit.hackathon.proj_objection.service;
 
+import kuit.hackathon.proj_objection.dto.common.ChatPollMessageDto;
+import kuit.hackathon.proj_objection.dto.common.ChatRoomCacheSnapshot;
 import kuit.hackathon.proj_objection.dto.response.ChatPollResponseDto;
 import kuit.hackathon.proj_objection.entity.ChatMessage;
 import kuit.hackathon.proj_objection.entity.ChatRoom;
@@ -14,17 +16,24 @@ import kuit.hackathon.proj_objection.service.ChatRoomCacheService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +51,15 @@ class ChatPollServiceTest {
     @Mock
     private ChatRoomCacheService chatRoomCacheService;
 
+    @Mock
+    private ChatRoomMemberCacheService chatRoomMemberCacheService;
+
+    @Mock
+    private ChatMessageStreamService chatMessageStreamService;
+
+    @Mock
+    private ChatRecentMessageCacheService chatRecentMessageCacheService;
+
     @InjectMocks
     private ChatPollService chatPollService;
 
@@ -68,7 +86,7 @@ class ChatPollServiceTest {
         setMessageId(msg2, 12L);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, creator)).willReturn(Optional.of(creatorMember));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
         given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember, participantMember));
         given(chatMessageRepository.findMessagesWithSender(chatRoom, lastMessageId))
                 .willReturn(List.of(msg1, msg2));
@@ -86,6 +104,39 @@ class ChatPollServiceTest {
         then(chatMessageRepository).should(times(1)).findMessagesWithSender(chatRoom, lastMessageId);
     }
 
+    @Test
+    @DisplayName("폴링 성공 - 빠른 전송 모드면 아직 DB에 없는 스트림 메시지를 ID 순으로 합쳐 반환")
+    void poll_success_mergesStreamedMessages() {
+        // given
+        Long chatRoomId = 1L;
+        Long lastMessageId = 10L;
+
+        User creator = createUserWithId("철수", 1L);
+        ChatRoom chatRoom = ChatRoom.create(creator);
+        setChatRoomId(chatRoom, chatRoomId);
+
+        ChatRoomMember creatorMember = ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT);
+
+        ChatMessage msg1 = ChatMessage.create(chatRoom, creator, "메시지1");
+        setMessageId(msg1, 11L);
+
+        // 11번은 DB로 옮겨졌지만 아직 스트림에도 남아 있는 상태
+        given(chatMessageStreamService.isEnabled()).willReturn(true);
+        given(chatMessageStreamService.readAfter(chatRoomId, lastMessageId)).willReturn(List.of(
+                new ChatPollMessageDto(11L, "철수", "메시지1", LocalDateTime.now()),
+                new ChatPollMessageDto(12L, "철수", "메시지2", LocalDateTime.now())));
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
+        given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember));
+        given(chatMessageRepository.findMessagesWithSender(chatRoom, lastMessageId)).willReturn(List.of(msg1));
+
+        // when
+        ChatPollResponseDto result = chatPollService.poll(chatRoomId, lastMessageId, creator);
+
+        // then
+        assertThat(result.getMessages()).extracting(ChatPollMessageDto::getMessageId).containsExactly(11L, 12L);
+    }
+
     @Test
     @DisplayName("폴링 성공 - lastMessageId가 null이면 0으로 처리하여 모든 메시지 반환")
     void poll_success_nullLastMessageIdTreatedAsZero() {
@@ -103,7 +154,7 @@ class ChatPollServiceTest {
         setMessageId(msg1, 1L);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, creator)).willReturn(Optional.of(creatorMember));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
         given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember));
         given(chatMessageRepository.findMessagesWithSender(chatRoom, 0L))
                 .willReturn(List.of(msg1));
@@ -143,13 +194,13 @@ class ChatPollServiceTest {
         setChatRoomId(chatRoom, chatRoomId);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, nonMember)).willReturn(Optional.empty());
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, nonMember)).willThrow(new ChatRoomMemberNotFoundException());
 
         // when & then
         assertThatThrownBy(() -> chatPollService.poll(chatRoomId, 0L, nonMember))
                 .isInstanceOf(ChatRoomMemberNotFoundException.class);
 
-        then(chatRoomMemberRepository).should(times(1)).findByChatRoomAndUser(chatRoom, nonMember);
+        then(chatRoomMemberCacheService).should(times(1)).getOrLoadRole(chatRoom, nonMember);
     }
 
     @Test
@@ -167,7 +218,7 @@ class ChatPollServiceTest {
         ChatRoomMember participantMember = ChatRoomMember.create(chatRoom, participant, ChatRoomMember.MemberRole.PARTICIPANT);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, participant)).willReturn(Optional.of(participantMember));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, participant)).willReturn(participantMember.getRole());
         given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember, participantMember));
         given(chatMessageRepository.findMessagesWithSender(chatRoom, 0L)).willReturn(List.of());
 
@@ -191,7 +242,7 @@ class ChatPollServiceTest {
         ChatRoomMember creatorMember = ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, creator)).willReturn(Optional.of(creatorMember));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
         given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember));
         given(chatMessageRepository.findMessagesWithSender(chatRoom, 0L)).willReturn(List.of());
 
@@ -222,7 +273,7 @@ class ChatPollServiceTest {
         setMemberPercent(observerMember, 50); // OBSERVER는 무시되어야 함
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, creator)).willReturn(Optional.of(creatorMember));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
         given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember, participantMember, observerMember));
         given(chatMessageRepository.findMessagesWithSender(chatRoom, 0L)).willReturn(List.of());
 
@@ -249,7 +300,7 @@ class ChatPollServiceTest {
         setMemberPercent(creatorMember, 50);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, creator)).willReturn(Optional.of(creatorMember));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
         given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember));
         given(chatMessageRepository.findMessagesWithSender(chatRoom, 0L)).willReturn(List.of());
 
@@ -261,6 +312,164 @@ class ChatPollServiceTest {
         assertThat(result.getPercent()).containsEntry("철수", 50);
     }
 
+    @Test
+    @DisplayName("캐시 HIT - 새 메시지가 없으면 스냅샷만으로 응답하고 DB를 조회하지 않음")
+    void poll_cacheHit_noNewMessages_skipsDb() {
+        // given
+        Long chatRoomId = 1L;
+        User creator = createUserWithId("철수", 1L);
+        ChatRoom chatRoom = ChatRoom.create(creator);
+        setChatRoomId(chatRoom, chatRoomId);
+
+        ChatRoomMember creatorMember = ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT);
+        ChatRoomCacheSnapshot snapshot = new ChatRoomCacheSnapshot(
+                12L, ChatRoom.RoomStatus.REQUEST_FINISH, "영희", Map.of("철수", 55, "영희", 45));
+
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
+        given(chatRoomCacheService.getSnapshot(chatRoomId)).willReturn(snapshot);
+
+        // when
+        ChatPollResponseDto result = chatPollService.poll(chatRoomId, 12L, creator);
+
+        // then
+        assertThat(result.getMessages()).isEmpty();
+        assertThat(result.getChatRoomStatus()).isEqualTo(ChatRoom.RoomStatus.REQUEST_FINISH);
+        assertThat(result.getFinishRequestNickname()).isEqualTo("영희");
+        assertThat(result.getPercent()).containsEntry("철수", 55);
+
+        then(chatMessageRepository).should(never()).findMessagesWithSender(any(), anyLong());
+        then(chatRoomMemberRepository).should(never()).findByChatRoom(any());
+        then(chatRoomCacheService).should(never()).putSnapshot(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 HIT - 스냅샷의 lastMessageId가 더 크면 새 메시지만 DB에서 조회")
+    void poll_cacheHit_newMessages_fetchesOnlyMessages() {
+        // given
+        Long chatRoomId = 1L;
+        User creator = createUserWithId("철수", 1L);
+        ChatRoom chatRoom = ChatRoom.create(creator);
+        setChatRoomId(chatRoom, chatRoomId);
+
+        ChatRoomMember creatorMember = ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT);
+        ChatMessage msg = ChatMessage.create(chatRoom, creator, "새 메시지");
+        setMessageId(msg, 11L);
+
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
+        given(chatRoomCacheService.getSnapshot(chatRoomId)).willReturn(
+                new ChatRoomCacheSnapshot(11L, ChatRoom.RoomStatus.ALIVE, null, Map.of("철수", 50)));
+        given(chatMessageRepository.findMessagesWithSender(chatRoom, 10L)).willReturn(List.of(msg));
+
+        // when
+        ChatPollResponseDto result = chatPollService.poll(chatRoomId, 10L, creator);
+
+        // then
+        assertThat(result.getMessages()).hasSize(1);
+        assertThat(result.getMessages().get(0).getMessageId()).isEqualTo(11L);
+        then(chatRoomMemberRepository).should(never()).findByChatRoom(any());
+    }
+
+    @Test
+    @DisplayName("캐시 HIT - 새 메시지가 최근 메시지 링 범위 안이면 DB를 조회하지 않음")
+    void poll_cacheHit_recentMessages_skipsDatabase() {
+        // given
+        Long chatRoomId = 1L;
+        User creator = createUserWithId("철수", 1L);
+        ChatRoom chatRoom = ChatRoom.create(creator);
+        setChatRoomId(chatRoom, chatRoomId);
+
+        given(chatRoomMemberCacheService.getRole(chatRoomId, creator.getId())).willReturn(ChatRoomMember.MemberRole.OBSERVER);
+        given(chatRoomRepository.getReferenceById(chatRoomId)).willReturn(chatRoom);
+        given(chatRoomCacheService.getSnapshot(chatRoomId)).willReturn(
+                new ChatRoomCacheSnapshot(11L, ChatRoom.RoomStatus.ALIVE, null, Map.of("철수", 50)));
+        given(chatRecentMessageCacheService.findAfter(chatRoomId, 10L, 11L)).willReturn(
+                List.of(new ChatPollMessageDto(11L, "철수", "새 메시지", LocalDateTime.now())));
+
+        // when
+        ChatPollResponseDto result = chatPollService.poll(chatRoomId, 10L, creator);
+
+        // then
+        assertThat(result.getMessages()).extracting(ChatPollMessageDto::getMessageId).containsExactly(11L);
+        then(chatMessageRepository).should(never()).findMessagesWithSender(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시 MISS - DB 조회 결과로 전체 스냅샷을 한 번에 생성")
+    void poll_cacheMiss_putsFullSnapshot() {
+        // given
+        Long chatRoomId = 1L;
+        User creator = createUserWithId("철수", 1L);
+        ChatRoom chatRoom = ChatRoom.create(creator);
+        setChatRoomId(chatRoom, chatRoomId);
+
+        ChatRoomMember creatorMember = ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT);
+        setMemberPercent(creatorMember, 50);
+        ChatMessage msg = ChatMessage.create(chatRoom, creator, "메시지");
+        setMessageId(msg, 7L);
+
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
+        given(chatRoomMemberRepository.findByChatRoom(chatRoom)).willReturn(List.of(creatorMember));
+        given(chatMessageRepository.findMessagesWithSender(chatRoom, 0L)).willReturn(List.of(msg));
+
+        // when
+        chatPollService.poll(chatRoomId, 0L, creator);
+
+        // then
+        ArgumentCaptor<ChatRoomCacheSnapshot> captor = ArgumentCaptor.forClass(ChatRoomCacheSnapshot.class);
+        then(chatRoomCacheService).should(times(1)).putSnapshot(eq(chatRoomId), captor.capture());
+        assertThat(captor.getValue().getLastMessageId()).isEqualTo(7L);
+        assertThat(captor.getValue().getStatus()).isEqualTo(ChatRoom.RoomStatus.ALIVE);
+        assertThat(captor.getValue().getPercent()).containsEntry("철수", 50);
+    }
+
+    @Test
+    @DisplayName("멤버십 캐시 HIT - 채팅방/멤버 조회 없이 프록시 참조로 폴링")
+    void poll_membershipCacheHit_skipsMembershipQueries() {
+        // given
+        Long chatRoomId = 1L;
+        User creator = createUserWithId("철수", 1L);
+        ChatRoom chatRoom = ChatRoom.create(creator);
+        setChatRoomId(chatRoom, chatRoomId);
+
+        given(chatRoomMemberCacheService.getRole(chatRoomId, 1L)).willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
+        given(chatRoomRepository.getReferenceById(chatRoomId)).willReturn(chatRoom);
+        given(chatRoomCacheService.getSnapshot(chatRoomId)).willReturn(
+                new ChatRoomCacheSnapshot(5L, ChatRoom.RoomStatus.ALIVE, null, Map.of("철수", 50)));
+
+        // when
+        ChatPollResponseDto result = chatPollService.poll(chatRoomId, 5L, creator);
+
+        // then
+        assertThat(result.getMessages()).isEmpty();
+        then(chatRoomRepository).should(never()).findById(any());
+        then(chatRoomMemberCacheService).should(never()).getOrLoadRole(any(), any());
+    }
+
+    @Test
+    @DisplayName("멤버십 캐시 MISS - 채팅방 조회 후 멤버십 캐시 서비스로 멤버 확인")
+    void poll_membershipCacheMiss_populatesCache() {
+        // given
+        Long chatRoomId = 1L;
+        User creator = createUserWithId("철수", 1L);
+        ChatRoom chatRoom = ChatRoom.create(creator);
+        setChatRoomId(chatRoom, chatRoomId);
+        ChatRoomMember creatorMember = ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT);
+
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
+        given(chatRoomCacheService.getSnapshot(chatRoomId)).willReturn(
+                new ChatRoomCacheSnapshot(0L, ChatRoom.RoomStatus.ALIVE, null, Map.of("철수", 50)));
+
+        // when
+        chatPollService.poll(chatRoomId, 0L, creator);
+
+        // then
+        then(chatRoomMemberCacheService).should(times(1)).getOrLoadRole(chatRoom, creator);
+    }
+
     // ========== Helper Methods ==========
 
     private User createUserWithId(String nickname, Long id) {
@@ -0,0 +1,269 @@
+package kuit.hackathon.proj_objection.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kuit.hackathon.proj_objection.dto.common.ChatPollMessageDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRecentMessageCacheServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private ObjectMapper objectMapper;
+
+    private ChatRecentMessageCacheService chatRecentMessageCacheService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        chatRecentMessageCacheService = new ChatRecentMessageCacheService(redisTemplate, objectMapper, 100, 100L);
+    }
+
+    private String json(Long messageId, String content) throws Exception {
+        return objectMapper.writeValueAsString(
+                new ChatPollMessageDto(messageId, "철수", content, LocalDateTime.of(2026, 1, 9, 12, 0)));
+    }
+
+    @Test
+    @DisplayName("링 범위 안의 폴링은 lastMessageId 이후 메시지를 반환하고, 다음 폴링은 로컬 사본으로 응답")
+    void findAfter_withinWindow_servesFromNearCache() throws Exception {
+        // given (floor 10 → 11번 이후 메시지는 모두 링에 있음)
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of("10", json(11L, "메시지1"), json(12L, "메시지2"), json(13L, "메시지3")));
+
+        // when
+        List<ChatPollMessageDto> first = chatRecentMessageCacheService.findAfter(1L, 11L, 13L);
+        List<ChatPollMessageDto> second = chatRecentMessageCacheService.findAfter(1L, 12L, 13L);
+
+        // then
+        assertThat(first).extracting(ChatPollMessageDto::getMessageId).containsExactly(12L, 13L);
+        assertThat(first.get(0).getContent()).isEqualTo("메시지2");
+        assertThat(second).extracting(ChatPollMessageDto::getMessageId).containsExactly(13L);
+        then(redisTemplate).should(times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("클라이언트의 lastMessageId가 링보다 오래되었으면 null을 반환하여 DB 조회")
+    void findAfter_olderThanWindow_returnsNull() throws Exception {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of("10", json(11L, "메시지1")));
+
+        // when
+        List<ChatPollMessageDto> result = chatRecentMessageCacheService.findAfter(1L, 5L, 11L);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 null을 반환하여 DB 조회")
+    void findAfter_redisError_returnsNull() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("Redis down"));
+
+        // when
+        List<ChatPollMessageDto> result = chatRecentMessageCacheService.findAfter(1L, 11L, 13L);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("더 큰 ID 뒤에 작은 ID가 기록되면 로컬 사본을 버리고 다른 노드에도 무효화를 알림")
+    void append_outOfOrder_invalidatesCopies() throws Exception {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of("10", json(11L, "메시지1")))
+                .willReturn(0L)
+                .willReturn(List.of());
+        chatRecentMessageCacheService.findAfter(1L, 10L, 11L);
+
+        // when
+        chatRecentMessageCacheService.append(1L,
+                new ChatPollMessageDto(10L, "철수", "늦은 메시지", LocalDateTime.of(2026, 1, 9, 12, 0)));
+        List<ChatPollMessageDto> result = chatRecentMessageCacheService.findAfter(1L, 9L, 11L);
+
+        // then
+        assertThat(result).isNull();
+        then(redisTemplate).should(times(1)).convertAndSend(ChatRoomCacheService.INVALIDATION_CHANNEL, "1");
+        then(redisTemplate).should(times(3)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("링 기록에 실패하면 링을 비우고 floor를 올려 이 메시지가 빠진 링으로 응답하지 않음")
+    void append_redisError_resetsRing() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("Redis timeout"))
+                .willReturn(1L);
+
+        // when
+        chatRecentMessageCacheService.append(1L,
+                new ChatPollMessageDto(12L, "철수", "메시지", LocalDateTime.of(2026, 1, 9, 12, 0)));
+
+        // then
+        then(redisTemplate).should().execute(any(RedisScript.class),
+                eq(List.of("chat:room:1:recent", "chat:room:1:recent:floor")), any(), eq("12"));
+        then(redisTemplate).should(times(1)).convertAndSend(ChatRoomCacheService.INVALIDATION_CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("메시지가 ID 순서와 다르게 동시에 기록되어도 이미 기록된 메시지를 빠뜨린 채 링에서 응답하지 않음")
+    void appendAndFindAfter_concurrentOutOfOrder_neverSkipsRecordedMessage() throws Exception {
+        // given
+        FakeRing ring = new FakeRing(100);
+        willAnswer(invocation -> ring.execute(invocation.getArgument(0), (Object[]) invocation.getRawArguments()[2]))
+                .given(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            ids.add(id);
+        }
+        // 가까운 ID끼리 순서가 뒤바뀌도록 작은 구간 단위로 섞음
+        for (int from = 0; from < ids.size(); from += 5) {
+            Collections.shuffle(ids.subList(from, Math.min(ids.size(), from + 5)));
+        }
+
+        Set<Long> recorded = ConcurrentHashMap.newKeySet();
+        AtomicInteger next = new AtomicInteger();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<String> violations = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            writers.add(executor.submit(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < ids.size()) {
+                    Long id = ids.get(index);
+                    chatRecentMessageCacheService.append(1L,
+                            new ChatPollMessageDto(id, "철수", "메시지" + id, LocalDateTime.of(2026, 1, 9, 12, 0)));
+                    recorded.add(id);
+                }
+            }));
+        }
+        List<Future<?>> pollers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            pollers.add(executor.submit(() -> {
+                while (writing.get()) {
+                    Set<Long> before = Set.copyOf(recorded);
+                    long latest = ring.lastMessageId();
+                    long cursor = ThreadLocalRandom.current().nextLong(latest + 1);
+                    List<ChatPollMessageDto> result = chatRecentMessageCacheService.findAfter(1L, cursor, latest);
+                    if (result == null) {
+                        continue;
+                    }
+                    Set<Long> served = new HashSet<>();
+                    result.forEach(message -> served.add(message.getMessageId()));
+                    before.stream()
+                            .filter(id -> id > cursor && id <= latest && !served.contains(id))
+                            .forEach(id -> violations.add("cursor " + cursor + " latest " + latest + " skipped " + id));
+                }
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get(10, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        for (Future<?> poller : pollers) {
+            poller.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(violations).isEmpty();
+    }
+
+    /**
+     * APPEND/READ 스크립트와 같은 동작을 하는 단일 채팅방용 메모리 대역 (스크립트처럼 한 번에 하나씩 실행)
+     */
+    private static class FakeRing {
+
+        private final int capacity;
+        private final TreeMap<Long, String> messages = new TreeMap<>();
+        private Long floor;
+        private long lastMessageId;
+
+        private FakeRing(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private synchronized long lastMessageId() {
+            return lastMessageId;
+        }
+
+        private synchronized Object execute(RedisScript<?> script, Object[] args) {
+            if (script.getScriptAsString().contains("ZADD")) {
+                return append(Long.parseLong((String) args[2]), (String) args[3]);
+            }
+            if (floor == null) {
+                return List.of();
+            }
+            List<String> result = new ArrayList<>();
+            result.add(String.valueOf(floor));
+            result.addAll(messages.values());
+            return result;
+        }
+
+        private long append(long id, String json) {
+            if (floor == null) {
+                messages.clear();
+                floor = id - 1;
+            } else {
+                long newest = messages.isEmpty() ? floor : Math.max(floor, messages.lastKey());
+                if (newest > id) {
+                    messages.clear();
+                    floor = newest;
+                    return 0L;
+                }
+            }
+            messages.put(id, json);
+            while (messages.size() > capacity) {
+                floor = Math.max(floor, messages.pollFirstEntry().getKey());
+            }
+            lastMessageId = Math.max(lastMessageId, id);
+            return 1L;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.dto.common.ChatRoomCacheSnapshot;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomCacheServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+
+    private ChatRoomCacheService chatRoomCacheService;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomCacheService = new ChatRoomCacheService(redisTemplate, 100L, 60000L);
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 해시 필드를 타입이 있는 스냅샷으로 변환하고 L1에 보관")
+    void getSnapshot_parsesHashAndServesFromNearCache() {
+        // given
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("chat:room:1:state")).willReturn(Map.of(
+                "lastMessageId", "12",
+                "status", "REQUEST_FINISH",
+                "finishRequestNickname", "철수",
+                "percent:철수", "60",
+                "percent:영희", "40"
+        ));
+
+        // when
+        ChatRoomCacheSnapshot first = chatRoomCacheService.getSnapshot(1L);
+        ChatRoomCacheSnapshot second = chatRoomCacheService.getSnapshot(1L);
+
+        // then
+        assertThat(first.getLastMessageId()).isEqualTo(12L);
+        assertThat(first.getStatus()).isEqualTo(ChatRoom.RoomStatus.REQUEST_FINISH);
+        assertThat(first.getFinishRequestNickname()).isEqualTo("철수");
+        assertThat(first.getPercent()).containsEntry("철수", 60).containsEntry("영희", 40);
+        assertThat(second).isSameAs(first);
+        then(hashOperations).should(times(1)).entries("chat:room:1:state");
+    }
+
+    @Test
+    @DisplayName("필드 갱신 시 L1을 비우고 다른 노드에 무효화 메시지 발행")
+    void setLastMessageId_evictsNearCacheAndPublishesInvalidation() {
+        // given
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("chat:room:1:state")).willReturn(Map.of(
+                "lastMessageId", "12",
+                "status", "ALIVE"
+        ));
+        chatRoomCacheService.getSnapshot(1L);
+
+        // when
+        chatRoomCacheService.setLastMessageId(1L, 13L);
+        chatRoomCacheService.getSnapshot(1L);
+
+        // then
+        then(redisTemplate).should(times(1)).execute(any(), anyList(), any(Object[].class));
+        then(redisTemplate).should(times(1)).convertAndSend(ChatRoomCacheService.INVALIDATION_CHANNEL, "1");
+        then(hashOperations).should(times(2)).entries("chat:room:1:state");
+    }
+
+    @Test
+    @DisplayName("필수 필드가 없는 해시는 캐시 미스로 처리")
+    void getSnapshot_incompleteHash_returnsNull() {
+        // given
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("chat:room:1:state")).willReturn(Map.of("percent:철수", "50"));
+
+        // when & then
+        assertThat(chatRoomCacheService.getSnapshot(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis에서 읽는 중 도착한 무효화는 읽기가 끝난 뒤 적용되어 이전 스냅샷이 L1에 남지 않음")
+    void getSnapshot_invalidatedWhileLoading_doesNotKeepStaleSnapshot() throws Exception {
+        // given
+        Thread invalidator = new Thread(() -> chatRoomCacheService.evictLocal(1L));
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("chat:room:1:state")).willAnswer(invocation -> {
+            // 읽는 도중 다른 스레드에서 무효화 메시지 수신
+            invalidator.start();
+            invalidator.join(200);
+            return Map.of("lastMessageId", "12", "status", "ALIVE");
+        });
+
+        // when
+        chatRoomCacheService.getSnapshot(1L);
+        invalidator.join();
+        chatRoomCacheService.getSnapshot(1L);
+
+        // then
+        then(hashOperations).should(times(2)).entries("chat:room:1:state");
+    }
+}
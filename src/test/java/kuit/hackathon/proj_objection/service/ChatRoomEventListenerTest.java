@@ -0,0 +1,95 @@
+package kuit.hackathon.proj_objection.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kuit.hackathon.proj_objection.dto.common.ChatRoomEventMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomEventListenerTest {
+
+    @Mock
+    private ChatRoomSignalService chatRoomSignalService;
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ChatRoomEventListener chatRoomEventListener;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomEventListener = new ChatRoomEventListener(chatRoomSignalService, messagingTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Redis 채널로 받은 이벤트를 로컬 대기자와 STOMP 구독자에게 전달")
+    void onMessage_dispatchesToLocalClients() throws Exception {
+        // given
+        String payload = "{\"type\":\"DEBATE_STATUS\",\"score\":{\"철수\":60}}";
+        String body = objectMapper.writeValueAsString(
+                new ChatRoomEventMessage(1L, "/topic/chatroom/1/status", payload));
+
+        // when
+        chatRoomEventListener.onMessage(new DefaultMessage(
+                "chat:room:1:events".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        then(chatRoomSignalService).should(times(1)).signal(1L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        then(messagingTemplate).should(times(1)).send(eq("/topic/chatroom/1/status"), captor.capture());
+        assertThat(new String((byte[]) captor.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 이벤트는 무시")
+    void onMessage_invalidBody_ignored() {
+        // when & then
+        assertThatCode(() -> chatRoomEventListener.onMessage(new DefaultMessage(
+                "chat:room:1:events".getBytes(StandardCharsets.UTF_8),
+                "not-json".getBytes(StandardCharsets.UTF_8)), null))
+                .doesNotThrowAnyException();
+
+        then(chatRoomSignalService).should(never()).signal(any());
+        then(messagingTemplate).should(never()).send(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("브로커 전송 실패해도 대기자 wakeup은 수행")
+    void dispatch_brokerFailure_stillSignals() {
+        // given
+        willThrow(new MessagingException("broker unavailable"))
+                .given(messagingTemplate).send(eq("/topic/chatroom/1/exit"), any());
+
+        // when & then
+        assertThatCode(() -> chatRoomEventListener.dispatch(
+                new ChatRoomEventMessage(1L, "/topic/chatroom/1/exit", "{}")))
+                .doesNotThrowAnyException();
+        then(chatRoomSignalService).should(times(1)).signal(1L);
+    }
+}
@@ -0,0 +1,118 @@
+package kuit.hackathon.proj_objection.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kuit.hackathon.proj_objection.dto.common.ChatMessageDto;
+import kuit.hackathon.proj_objection.dto.common.ChatRoomEventMessage;
+import kuit.hackathon.proj_objection.dto.common.ExitNotificationDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomEventPublisherTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ChatRoomEventListener chatRoomEventListener;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ChatRoomEventPublisher chatRoomEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomEventPublisher = new ChatRoomEventPublisher(redisTemplate, objectMapper, chatRoomEventListener);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에 채팅방 채널로 메시지 이벤트 발행")
+    void publishMessage_inTransaction_publishesAfterCommit() throws Exception {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        ChatMessageDto message = new ChatMessageDto(
+                10L, 1L, "철수", "안녕하세요", LocalDateTime.now(), ChatMessageDto.MessageType.OTHER);
+
+        // when
+        chatRoomEventPublisher.publishMessage(1L, message);
+
+        // then
+        then(redisTemplate).should(never()).convertAndSend(anyString(), any());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        then(redisTemplate).should(times(1)).convertAndSend(eq("chat:room:1:events"), captor.capture());
+
+        ChatRoomEventMessage event = objectMapper.readValue(captor.getValue(), ChatRoomEventMessage.class);
+        assertThat(event.getChatRoomId()).isEqualTo(1L);
+        assertThat(event.getDestination()).isEqualTo("/topic/chatroom/1");
+        assertThat(objectMapper.readTree(event.getPayload()).get("content").asText()).isEqualTo("안녕하세요");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 승률 이벤트를 즉시 발행")
+    void publishPercent_withoutTransaction_publishesImmediately() throws Exception {
+        // when
+        chatRoomEventPublisher.publishPercent(1L, Map.of("철수", 60, "영희", 40));
+
+        // then
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        then(redisTemplate).should(times(1)).convertAndSend(eq("chat:room:1:events"), captor.capture());
+
+        ChatRoomEventMessage event = objectMapper.readValue(captor.getValue(), ChatRoomEventMessage.class);
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        assertThat(event.getDestination()).isEqualTo("/topic/chatroom/1/status");
+        assertThat(payload.get("type").asText()).isEqualTo("DEBATE_STATUS");
+        assertThat(payload.get("score").get("철수").asInt()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("Redis 발행 실패 시 이 노드의 구독자에게 직접 전달")
+    void publishExit_redisFailure_dispatchesLocally() {
+        // given
+        given(redisTemplate.convertAndSend(eq("chat:room:1:events"), anyString()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when & then
+        assertThatCode(() -> chatRoomEventPublisher.publishExit(1L, ExitNotificationDto.request("철수")))
+                .doesNotThrowAnyException();
+
+        ArgumentCaptor<ChatRoomEventMessage> captor = ArgumentCaptor.forClass(ChatRoomEventMessage.class);
+        then(chatRoomEventListener).should(times(1)).dispatch(captor.capture());
+        assertThat(captor.getValue().getDestination()).isEqualTo("/topic/chatroom/1/exit");
+    }
+}
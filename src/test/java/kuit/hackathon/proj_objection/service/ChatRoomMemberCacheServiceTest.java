@@ -0,0 +1,101 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.ChatRoomMember;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.exception.ChatRoomMemberNotFoundException;
+import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMemberCacheServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    private ChatRoomMemberCacheService chatRoomMemberCacheService;
+
+    private User user;
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomMemberCacheService = new ChatRoomMemberCacheService(redisTemplate, chatRoomMemberRepository, 100L);
+
+        user = User.create("철수", "password123");
+        ReflectionTestUtils.setField(user, "id", 3L);
+        chatRoom = ChatRoom.create(user);
+        ReflectionTestUtils.setField(chatRoom, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("캐시 HIT - DB 조회 없이 캐시된 역할 반환")
+    void getOrLoadRole_cacheHit_skipsDatabase() {
+        // given
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.get("chat:room:1:members", "3")).willReturn("OBSERVER");
+
+        // when
+        ChatRoomMember.MemberRole role = chatRoomMemberCacheService.getOrLoadRole(chatRoom, user);
+
+        // then
+        assertThat(role).isEqualTo(ChatRoomMember.MemberRole.OBSERVER);
+        then(chatRoomMemberRepository).should(never()).findByChatRoomAndUser(any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 MISS - DB로 멤버 확인 후 캐시에 등록하고, 이후 조회는 로컬 캐시에서 응답")
+    void getOrLoadRole_cacheMiss_loadsAndCaches() {
+        // given
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, user)).willReturn(
+                Optional.of(ChatRoomMember.create(chatRoom, user, ChatRoomMember.MemberRole.PARTICIPANT)));
+
+        // when
+        ChatRoomMember.MemberRole first = chatRoomMemberCacheService.getOrLoadRole(chatRoom, user);
+        ChatRoomMember.MemberRole second = chatRoomMemberCacheService.getOrLoadRole(chatRoom, user);
+
+        // then
+        assertThat(first).isEqualTo(ChatRoomMember.MemberRole.PARTICIPANT);
+        assertThat(second).isEqualTo(ChatRoomMember.MemberRole.PARTICIPANT);
+        then(chatRoomMemberRepository).should(times(1)).findByChatRoomAndUser(chatRoom, user);
+        then(hashOperations).should(times(1)).put("chat:room:1:members", "3", "PARTICIPANT");
+    }
+
+    @Test
+    @DisplayName("멤버가 아니면 ChatRoomMemberNotFoundException 발생, 캐시에 등록하지 않음")
+    void getOrLoadRole_notMember_throws() {
+        // given
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, user)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> chatRoomMemberCacheService.getOrLoadRole(chatRoom, user))
+                .isInstanceOf(ChatRoomMemberNotFoundException.class);
+        then(hashOperations).should(never()).put(any(), any(), any());
+    }
+}
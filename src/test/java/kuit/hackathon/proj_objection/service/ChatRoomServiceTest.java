@@ -1,5 +1,7 @@
 package kuit.hackathon.proj_objection.service;
 
+import kuit.hackathon.proj_objection.dto.common.ExitNotificationDto;
+import kuit.hackathon.proj_objection.dto.common.JudgmentNotificationDto;
 import kuit.hackathon.proj_objection.dto.response.*;
 import kuit.hackathon.proj_objection.entity.*;
 import kuit.hackathon.proj_objection.exception.*;
@@ -10,12 +12,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +31,11 @@ class ChatRoomServiceTest {
     private ChatRoomMemberRepository chatRoomMemberRepository;
     @Mock
     private AsyncJudgmentService asyncJudgmentService;
+    @Mock
+    private ChatRoomEventPublisher chatRoomEventPublisher;
+
+    @Mock
+    private ChatRoomMemberCacheService chatRoomMemberCacheService;
 
     @InjectMocks
     private ChatRoomService chatRoomService;
@@ -112,8 +121,8 @@ class ChatRoomServiceTest {
         Long chatRoomId = 1L;
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, creator))
-                .willReturn(Optional.of(ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT)));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator))
+                .willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
         given(chatRoomRepository.save(any(ChatRoom.class))).willReturn(chatRoom);
 
         // when
@@ -122,6 +131,7 @@ class ChatRoomServiceTest {
         // then
         assertThat(result.getMessage()).contains("판결 요청");
         then(chatRoomRepository).should(times(1)).save(any(ChatRoom.class));
+        then(chatRoomEventPublisher).should(times(1)).publishExit(eq(chatRoomId), any(ExitNotificationDto.class));
     }
 
     @Test
@@ -140,8 +150,8 @@ class ChatRoomServiceTest {
         Long chatRoomId = 1L;
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, decider))
-                .willReturn(Optional.of(ChatRoomMember.create(chatRoom, decider, ChatRoomMember.MemberRole.PARTICIPANT)));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, decider))
+                .willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
         given(chatRoomRepository.save(any(ChatRoom.class))).willReturn(chatRoom);
 
         // when
@@ -169,8 +179,8 @@ class ChatRoomServiceTest {
         Long chatRoomId = 1L;
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, decider))
-                .willReturn(Optional.of(ChatRoomMember.create(chatRoom, decider, ChatRoomMember.MemberRole.PARTICIPANT)));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, decider))
+                .willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
         given(chatRoomRepository.save(any(ChatRoom.class))).willReturn(chatRoom);
 
         // when
@@ -181,4 +191,35 @@ class ChatRoomServiceTest {
         assertThat(result.getMessage()).contains("거절");
         then(asyncJudgmentService).should(never()).analyzeAndSave(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("종료 수락 시 판결 작업이 거절되면 종료 요청 상태로 되돌려 다시 수락 가능")
+    void decideExit_approve_judgmentRejected_reopensExitRequest() {
+        // given
+        User requester = User.create("철수", "password123");
+        User decider = User.create("영희", "password456");
+        ReflectionTestUtils.setField(requester, "id", 1L);
+        ReflectionTestUtils.setField(decider, "id", 2L);
+
+        ChatRoom chatRoom = ChatRoom.create(requester);
+        chatRoom.requestExit(requester);
+        Long chatRoomId = 1L;
+
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, decider))
+                .willReturn(ChatRoomMember.MemberRole.PARTICIPANT);
+        given(chatRoomRepository.save(any(ChatRoom.class))).willReturn(chatRoom);
+        willThrow(new TaskRejectedException("shutting down")).given(asyncJudgmentService).analyzeAndSave(chatRoomId);
+
+        // when
+        ExitDecisionResponseDto result = chatRoomService.decideExit(chatRoomId, decider, true);
+
+        // then
+        assertThat(result.getApproved()).isFalse();
+        assertThat(chatRoom.isRequestFinish()).isTrue();
+        assertThat(chatRoom.getExitRequester()).isSameAs(requester);
+        then(chatRoomEventPublisher).should(times(1)).publishJudgment(eq(chatRoomId), any(JudgmentNotificationDto.class));
+        // 판결 작업이 거절되었으므로 수락 알림은 보내지 않음
+        then(chatRoomEventPublisher).should(never()).publishExit(any(), any());
+    }
+}
@@ -0,0 +1,44 @@
+package kuit.hackathon.proj_objection.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRoomSignalServiceTest {
+
+    private final ChatRoomSignalService chatRoomSignalService = new ChatRoomSignalService();
+
+    @Test
+    @DisplayName("signal 시 해당 채팅방 대기자만 깨운다")
+    void signal_completesOnlyWaitersOfRoom() {
+        // given
+        CompletableFuture<Void> room1Waiter = chatRoomSignalService.await(1L);
+        CompletableFuture<Void> room2Waiter = chatRoomSignalService.await(2L);
+
+        // when
+        chatRoomSignalService.signal(1L);
+
+        // then
+        assertThat(room1Waiter).isCompleted();
+        assertThat(room2Waiter).isNotCompleted();
+        assertThat(chatRoomSignalService.getWaiterCount(1L)).isZero();
+        assertThat(chatRoomSignalService.getWaiterCount(2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 취소 시 대기 목록에서 제거된다")
+    void await_cancel_removesWaiter() {
+        // given
+        CompletableFuture<Void> waiter = chatRoomSignalService.await(1L);
+        chatRoomSignalService.await(1L);
+
+        // when
+        waiter.cancel(false);
+
+        // then
+        assertThat(chatRoomSignalService.getWaiterCount(1L)).isEqualTo(1);
+    }
+}
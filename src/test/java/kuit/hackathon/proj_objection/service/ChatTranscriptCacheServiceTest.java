@@ -0,0 +1,121 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.entity.ChatMessage;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.User;
+import kuit.hackathon.proj_objection.repository.ChatMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ChatTranscriptCacheServiceTest {
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    private ChatTranscriptCacheService chatTranscriptCacheService;
+
+    private User plaintiff;
+    private User defendant;
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        chatTranscriptCacheService = new ChatTranscriptCacheService(chatMessageRepository, 100, 1);
+
+        plaintiff = User.create("원고유저", "password");
+        defendant = User.create("피고유저", "password");
+        ReflectionTestUtils.setField(plaintiff, "id", 1L);
+        ReflectionTestUtils.setField(defendant, "id", 2L);
+
+        chatRoom = ChatRoom.create(plaintiff);
+        ReflectionTestUtils.setField(chatRoom, "id", 10L);
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 전체 메시지를 원고/피고 형식으로 포맷하고 토큰 수를 계산")
+    void getLines_firstCall_formatsAllMessages() {
+        // given
+        given(chatMessageRepository.findMessagesWithSender(chatRoom, 0L))
+                .willReturn(List.of(message(1L, plaintiff, "안녕하세요"), message(2L, defendant, "반갑습니다")));
+
+        // when
+        List<TranscriptLine> lines = chatTranscriptCacheService.getLines(chatRoom, 1L);
+
+        // then
+        assertThat(lines).extracting(TranscriptLine::getText).containsExactly("원고: 안녕하세요", "피고: 반갑습니다");
+        assertThat(lines).extracting(TranscriptLine::getTokens).allMatch(tokens -> tokens > 0);
+    }
+
+    @Test
+    @DisplayName("이후 조회 시 마지막 N개 메시지 이후만 다시 조회하여 이어 붙임")
+    void getLines_appendsOnlyNewMessages() {
+        // given
+        given(chatMessageRepository.findMessagesWithSender(chatRoom, 0L))
+                .willReturn(List.of(message(1L, plaintiff, "안녕하세요"), message(2L, defendant, "반갑습니다")));
+        given(chatMessageRepository.findMessagesWithSender(chatRoom, 1L))
+                .willReturn(List.of(message(2L, defendant, "반갑습니다"), message(3L, plaintiff, "시작할까요")));
+        chatTranscriptCacheService.getLines(chatRoom, 1L);
+
+        // when
+        List<TranscriptLine> lines = chatTranscriptCacheService.getLines(chatRoom, 1L);
+
+        // then
+        assertThat(lines).extracting(TranscriptLine::getText)
+                .containsExactly("원고: 안녕하세요", "피고: 반갑습니다", "원고: 시작할까요");
+        then(chatMessageRepository).should().findMessagesWithSender(chatRoom, 1L);
+    }
+
+    @Test
+    @DisplayName("마지막으로 반영한 메시지보다 작은 ID로 늦게 커밋된 메시지도 ID 순서대로 반영")
+    void getLines_lateCommittedMessage_insertedInOrder() {
+        // given
+        // 2번 메시지는 ID를 먼저 받았지만 3번보다 늦게 커밋됨
+        given(chatMessageRepository.findMessagesWithSender(chatRoom, 0L))
+                .willReturn(List.of(message(1L, plaintiff, "안녕하세요"), message(3L, plaintiff, "시작할까요")));
+        given(chatMessageRepository.findMessagesWithSender(chatRoom, 1L))
+                .willReturn(List.of(message(2L, defendant, "반갑습니다"), message(3L, plaintiff, "시작할까요")));
+        chatTranscriptCacheService.getLines(chatRoom, 1L);
+
+        // when
+        List<TranscriptLine> lines = chatTranscriptCacheService.getLines(chatRoom, 1L);
+
+        // then
+        assertThat(lines).extracting(TranscriptLine::getMessageId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("새 메시지가 없으면 캐시된 내용을 그대로 반환")
+    void getLines_noNewMessages_returnsCached() {
+        // given
+        given(chatMessageRepository.findMessagesWithSender(chatRoom, 0L))
+                .willReturn(List.of(message(1L, plaintiff, "안녕하세요"), message(2L, defendant, "반갑습니다")));
+        given(chatMessageRepository.findMessagesWithSender(chatRoom, 1L))
+                .willReturn(List.of(message(2L, defendant, "반갑습니다")));
+        List<TranscriptLine> first = chatTranscriptCacheService.getLines(chatRoom, 1L);
+
+        // when
+        List<TranscriptLine> lines = chatTranscriptCacheService.getLines(chatRoom, 1L);
+
+        // then
+        assertThat(lines).isSameAs(first);
+        assertThat(lines).extracting(TranscriptLine::getText).containsExactly("원고: 안녕하세요", "피고: 반갑습니다");
+    }
+
+    private ChatMessage message(Long id, User sender, String content) {
+        ChatMessage message = ChatMessage.create(chatRoom, sender, content);
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+}
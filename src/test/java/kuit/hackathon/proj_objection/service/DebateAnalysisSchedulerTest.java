@@ -0,0 +1,115 @@
+package kuit.hackathon.proj_objection.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.Executor;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class DebateAnalysisSchedulerTest {
+
+    private static final long DEBOUNCE_MS = 50L;
+
+    @Mock
+    private DebateAnalysisService debateAnalysisService;
+
+    @Mock
+    private Executor aiAnalysisExecutor;
+
+    private DebateAnalysisScheduler debateAnalysisScheduler;
+
+    @BeforeEach
+    void setUp() {
+        debateAnalysisScheduler = new DebateAnalysisScheduler(debateAnalysisService, aiAnalysisExecutor, DEBOUNCE_MS, 5000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        debateAnalysisScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("연달아 들어온 요청은 debounce 후 한 번만 분석")
+    void request_burst_coalescesIntoSingleAnalysis() {
+        // given
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            debateAnalysisScheduler.request(1L);
+        }
+
+        // then
+        then(aiAnalysisExecutor).should(timeout(1000)).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+
+        then(debateAnalysisService).should(times(1)).analyzeAndUpdateScores(1L);
+        then(aiAnalysisExecutor).should(after(DEBOUNCE_MS * 3).times(1)).execute(taskCaptor.capture());
+    }
+
+    @Test
+    @DisplayName("분석 중 들어온 요청은 끝난 뒤 한 번 더 분석")
+    void request_duringAnalysis_runsFollowUpOnce() {
+        // given
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        debateAnalysisScheduler.request(1L);
+        then(aiAnalysisExecutor).should(timeout(1000)).execute(taskCaptor.capture());
+
+        // when
+        debateAnalysisScheduler.request(1L);
+        debateAnalysisScheduler.request(1L);
+
+        // then
+        // 실행 중에는 추가 분석을 제출하지 않음
+        then(aiAnalysisExecutor).should(after(DEBOUNCE_MS * 3).times(1)).execute(taskCaptor.capture());
+
+        taskCaptor.getValue().run();
+        then(aiAnalysisExecutor).should(timeout(1000).times(2)).execute(taskCaptor.capture());
+    }
+
+    @Test
+    @DisplayName("분석 중 요청이 없었으면 후속 분석을 하지 않음")
+    void request_noChangesDuringAnalysis_doesNotRunFollowUp() {
+        // given
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        debateAnalysisScheduler.request(1L);
+        then(aiAnalysisExecutor).should(timeout(1000)).execute(taskCaptor.capture());
+
+        // when
+        taskCaptor.getValue().run();
+
+        // then
+        then(aiAnalysisExecutor).should(after(DEBOUNCE_MS * 3).times(1)).execute(taskCaptor.capture());
+    }
+
+    @Test
+    @DisplayName("채팅방별로 독립적으로 분석")
+    void request_differentRooms_analyzedIndependently() {
+        // given
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        // when
+        debateAnalysisScheduler.request(1L);
+        debateAnalysisScheduler.request(2L);
+
+        // then
+        then(aiAnalysisExecutor).should(timeout(1000).times(2)).execute(taskCaptor.capture());
+        taskCaptor.getAllValues().forEach(Runnable::run);
+
+        then(debateAnalysisService).should().analyzeAndUpdateScores(1L);
+        then(debateAnalysisService).should().analyzeAndUpdateScores(2L);
+        then(debateAnalysisService).should(never()).analyzeAndUpdateScores(3L);
+    }
+}
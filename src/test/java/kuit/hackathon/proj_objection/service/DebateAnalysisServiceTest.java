@@ -36,6 +36,9 @@ class DebateAnalysisServiceTest {
     @Mock
     private ChatRoomMemberRepository chatRoomMemberRepository;
 
+    @Mock
+    private ChatRoomEventPublisher chatRoomEventPublisher;
+
     @InjectMocks
     private DebateAnalysisService debateAnalysisService;
 
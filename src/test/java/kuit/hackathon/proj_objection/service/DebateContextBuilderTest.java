@@ -0,0 +1,145 @@
+package kuit.hackathon.proj_objection.service;
+
+import kuit.hackathon.proj_objection.client.openai.OpenAiClient;
+import kuit.hackathon.proj_objection.client.openai.TokenEstimator;
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionRequest;
+import kuit.hackathon.proj_objection.client.openai.dto.ChatCompletionResponse;
+import kuit.hackathon.proj_objection.entity.ChatRoom;
+import kuit.hackathon.proj_objection.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class DebateContextBuilderTest {
+
+    @Mock
+    private ChatTranscriptCacheService chatTranscriptCacheService;
+
+    @Mock
+    private OpenAiClient openAiClient;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+
+    private DebateContextBuilder debateContextBuilder;
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        // 토큰 예산 10, 최근 2개 메시지는 원문 유지
+        debateContextBuilder = new DebateContextBuilder(chatTranscriptCacheService, openAiClient, redisTemplate, 10, 2);
+
+        User creator = User.create("원고유저", "password");
+        chatRoom = ChatRoom.create(creator);
+        ReflectionTestUtils.setField(chatRoom, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("예산 안이면 전체 대화를 그대로 사용하고 요약하지 않음")
+    void build_withinBudget_returnsFullTranscript() {
+        // given
+        given(chatTranscriptCacheService.getLines(chatRoom, 1L)).willReturn(List.of(
+                line(1L, "원고: 안녕"), line(2L, "피고: 네")
+        ));
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("chat:room:1:summary")).willReturn(Map.of());
+
+        // when
+        String context = debateContextBuilder.build(chatRoom, 1L);
+
+        // then
+        assertThat(context).isEqualTo("원고: 안녕\n피고: 네");
+        then(openAiClient).should(never()).chatCompletion(any());
+    }
+
+    @Test
+    @DisplayName("예산 초과 시 최근 메시지만 남기고 이전 대화를 요약하여 저장")
+    void build_overBudget_foldsOlderMessagesIntoSummary() {
+        // given
+        given(chatTranscriptCacheService.getLines(chatRoom, 1L)).willReturn(List.of(
+                line(1L, "원고: 첫번째 주장"), line(2L, "피고: 첫번째 반박"),
+                line(3L, "원고: 두번째 주장"), line(4L, "피고: 두번째 반박")
+        ));
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("chat:room:1:summary")).willReturn(Map.of());
+
+        ChatCompletionResponse response = mock(ChatCompletionResponse.class);
+        given(response.getContent()).willReturn("원고와 피고가 한 번씩 주장함");
+        given(openAiClient.chatCompletion(any(ChatCompletionRequest.class))).willReturn(response);
+
+        // when
+        String context = debateContextBuilder.build(chatRoom, 1L);
+
+        // then
+        assertThat(context).isEqualTo("[이전 대화 요약]\n원고와 피고가 한 번씩 주장함\n\n[최근 대화]\n원고: 두번째 주장\n피고: 두번째 반박");
+        then(hashOperations).should().putAll("chat:room:1:summary", Map.of(
+                "coveredUpTo", "2",
+                "summary", "원고와 피고가 한 번씩 주장함"
+        ));
+    }
+
+    @Test
+    @DisplayName("저장된 요약 이후의 메시지만 원문으로 사용")
+    void build_withStoredSummary_usesMessagesAfterSummary() {
+        // given
+        given(chatTranscriptCacheService.getLines(chatRoom, 1L)).willReturn(List.of(
+                line(1L, "원고: 첫번째 주장"), line(2L, "피고: 첫번째 반박"), line(3L, "원고: 좋아")
+        ));
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("chat:room:1:summary")).willReturn(Map.of(
+                "coveredUpTo", "2",
+                "summary", "요약"
+        ));
+
+        // when
+        String context = debateContextBuilder.build(chatRoom, 1L);
+
+        // then
+        assertThat(context).isEqualTo("[이전 대화 요약]\n요약\n\n[최근 대화]\n원고: 좋아");
+        then(openAiClient).should(never()).chatCompletion(any());
+    }
+
+    @Test
+    @DisplayName("요약 실패 시 기존 요약과 최근 메시지만으로 분석 진행")
+    void build_summarizeFails_fallsBackToRecentMessages() {
+        // given
+        given(chatTranscriptCacheService.getLines(chatRoom, 1L)).willReturn(List.of(
+                line(1L, "원고: 첫번째 주장"), line(2L, "피고: 첫번째 반박"),
+                line(3L, "원고: 두번째 주장"), line(4L, "피고: 두번째 반박")
+        ));
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("chat:room:1:summary")).willReturn(Map.of());
+        given(openAiClient.chatCompletion(any(ChatCompletionRequest.class))).willThrow(new RuntimeException("timeout"));
+
+        // when
+        String context = debateContextBuilder.build(chatRoom, 1L);
+
+        // then
+        assertThat(context).isEqualTo("원고: 두번째 주장\n피고: 두번째 반박");
+        then(hashOperations).should(never()).putAll(any(), any());
+    }
+
+    private TranscriptLine line(Long messageId, String text) {
+        return new TranscriptLine(messageId, text, TokenEstimator.estimate(text));
+    }
+}
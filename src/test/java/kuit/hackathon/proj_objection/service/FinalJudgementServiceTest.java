@@ -8,7 +8,6 @@ import kuit.hackathon.proj_objection.entity.User;
 import kuit.hackathon.proj_objection.exception.ChatRoomMemberNotFoundException;
 import kuit.hackathon.proj_objection.exception.ChatRoomNotFoundException;
 import kuit.hackathon.proj_objection.exception.FinalJudgementNotFoundException;
-import kuit.hackathon.proj_objection.repository.ChatRoomMemberRepository;
 import kuit.hackathon.proj_objection.repository.ChatRoomRepository;
 import kuit.hackathon.proj_objection.repository.FinalJudgementRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -36,7 +35,7 @@ class FinalJudgementServiceTest {
     private ChatRoomRepository chatRoomRepository;
 
     @Mock
-    private ChatRoomMemberRepository chatRoomMemberRepository;
+    private ChatRoomMemberCacheService chatRoomMemberCacheService;
 
     @InjectMocks
     private FinalJudgementService finalJudgementService;
@@ -66,7 +65,7 @@ class FinalJudgementServiceTest {
         setJudgementId(judgement, 1L);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, creator)).willReturn(Optional.of(creatorMember));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
         given(finalJudgementRepository.findByChatRoom_Id(chatRoomId)).willReturn(Optional.of(judgement));
 
         // when
@@ -85,7 +84,7 @@ class FinalJudgementServiceTest {
         assertThat(result.getLoserReason()).isEqualTo("감정적 대응으로 일관");
 
         then(chatRoomRepository).should(times(1)).findById(chatRoomId);
-        then(chatRoomMemberRepository).should(times(1)).findByChatRoomAndUser(chatRoom, creator);
+        then(chatRoomMemberCacheService).should(times(1)).getOrLoadRole(chatRoom, creator);
         then(finalJudgementRepository).should(times(1)).findByChatRoom_Id(chatRoomId);
     }
 
@@ -116,13 +115,13 @@ class FinalJudgementServiceTest {
         setChatRoomId(chatRoom, chatRoomId);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, nonMember)).willReturn(Optional.empty());
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, nonMember)).willThrow(new ChatRoomMemberNotFoundException());
 
         // when & then
         assertThatThrownBy(() -> finalJudgementService.getByChatRoomId(chatRoomId, nonMember))
                 .isInstanceOf(ChatRoomMemberNotFoundException.class);
 
-        then(chatRoomMemberRepository).should(times(1)).findByChatRoomAndUser(chatRoom, nonMember);
+        then(chatRoomMemberCacheService).should(times(1)).getOrLoadRole(chatRoom, nonMember);
     }
 
     @Test
@@ -137,7 +136,7 @@ class FinalJudgementServiceTest {
         ChatRoomMember creatorMember = ChatRoomMember.create(chatRoom, creator, ChatRoomMember.MemberRole.PARTICIPANT);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, creator)).willReturn(Optional.of(creatorMember));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, creator)).willReturn(creatorMember.getRole());
         given(finalJudgementRepository.findByChatRoom_Id(chatRoomId)).willReturn(Optional.empty());
 
         // when & then
@@ -173,7 +172,7 @@ class FinalJudgementServiceTest {
         setJudgementId(judgement, 1L);
 
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(chatRoomMemberRepository.findByChatRoomAndUser(chatRoom, observer)).willReturn(Optional.of(observerMember));
+        given(chatRoomMemberCacheService.getOrLoadRole(chatRoom, observer)).willReturn(observerMember.getRole());
         given(finalJudgementRepository.findByChatRoom_Id(chatRoomId)).willReturn(Optional.of(judgement));
 
         // when
@@ -0,0 +1,71 @@
+package kuit.hackathon.proj_objection.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingJsonFieldExtractorTest {
+
+    @Test
+    @DisplayName("조각으로 나뉘어 도착한 필드 값을 도착하는 만큼 추출")
+    void append_chunkedValue_extractsIncrementally() {
+        // given
+        StreamingJsonFieldExtractor extractor = new StreamingJsonFieldExtractor("judgment_comment");
+
+        // when & then
+        assertThat(extractor.append("{\"winner\": \"원고\", \"judgment_")).isFalse();
+        assertThat(extractor.append("comment\": \"원고가 ")).isTrue();
+        assertThat(extractor.getValue()).isEqualTo("원고가 ");
+
+        assertThat(extractor.append("논리적입니다.\", \"winner_reason\": \"근거")).isTrue();
+        assertThat(extractor.getValue()).isEqualTo("원고가 논리적입니다.");
+
+        assertThat(extractor.append(" 제시\"}")).isFalse();
+        assertThat(extractor.getValue()).isEqualTo("원고가 논리적입니다.");
+    }
+
+    @Test
+    @DisplayName("조각 경계에서 잘린 이스케이프 시퀀스도 해석")
+    void append_escapeSplitAcrossChunks_decodes() {
+        // given
+        StreamingJsonFieldExtractor extractor = new StreamingJsonFieldExtractor("judgment_comment");
+
+        // when
+        extractor.append("{\"judgment_comment\": \"첫 줄\\");
+        extractor.append("n\\\"인용\\\" \\u00");
+        extractor.append("41\"}");
+
+        // then
+        assertThat(extractor.getValue()).isEqualTo("첫 줄\n\"인용\" A");
+    }
+
+    @Test
+    @DisplayName("잘못된 \\u 이스케이프는 예외 없이 텍스트로 둠")
+    void append_invalidUnicodeEscape_keepsAsText() {
+        // given
+        StreamingJsonFieldExtractor extractor = new StreamingJsonFieldExtractor("judgment_comment");
+
+        // when
+        boolean appended = extractor.append("{\"judgment_comment\": \"경로 C:\\uzzz 참고\"}");
+
+        // then
+        assertThat(appended).isTrue();
+        assertThat(extractor.getValue()).isEqualTo("경로 C:\\uzzz 참고");
+    }
+
+    @Test
+    @DisplayName("다른 문자열 값이나 중첩 객체 안의 같은 이름은 무시하고 최상위 키만 추출")
+    void append_keyInsideValueOrNested_ignored() {
+        // given
+        StreamingJsonFieldExtractor extractor = new StreamingJsonFieldExtractor("judgment_comment");
+
+        // when
+        extractor.append("{\"winner_reason\": \"\\\"judgment_comment\\\": \\\"가짜\\\"\", ");
+        extractor.append("\"detail\": {\"judgment_comment\": \"중첩\"}, ");
+        extractor.append("\"judgment_comment\": \"진짜 판결\"}");
+
+        // then
+        assertThat(extractor.getValue()).isEqualTo("진짜 판결");
+    }
+}